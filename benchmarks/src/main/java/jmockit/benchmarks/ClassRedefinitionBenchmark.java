@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package jmockit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import mockit.Mock;
+import mockit.MockUp;
+import mockit.internal.state.SavePoint;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of redefining a class when a fake is applied to it, and of restoring its original definition afterwards, as
+ * happens for every test applying a fake.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassRedefinitionBenchmark {
+    @Setup
+    public void beginSession() {
+        MockingSession.begin(this);
+    }
+
+    @TearDown
+    public void endSession() {
+        MockingSession.end();
+    }
+
+    @Benchmark
+    public Object applyFakeAndRestoreClass() {
+        SavePoint savePoint = new SavePoint();
+
+        MockUp<Collaborator> fake = new MockUp<Collaborator>() {
+            @Mock
+            int compute(int value) {
+                return value;
+            }
+
+            @Mock
+            String describe(String prefix, int value) {
+                return prefix;
+            }
+        };
+
+        savePoint.rollback();
+        return fake;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package jmockit.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.ProtectionDomain;
+import java.util.concurrent.TimeUnit;
+
+import mockit.asm.classes.ClassReader;
+import mockit.asm.classes.ClassWriter;
+import mockit.coverage.data.CoverageData;
+import mockit.coverage.modification.ClassModification;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of reading and writing back a class file with the bytecode library used by JMockit, and of instrumenting it for
+ * code coverage as done when each class is loaded.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassTransformBenchmark {
+    private static final Class<?> CLASS_TO_TRANSFORM = Collaborator.class;
+
+    private byte[] classfile;
+    private ProtectionDomain protectionDomain;
+
+    @Setup
+    public void readClassfile() throws IOException {
+        String classfileName = CLASS_TO_TRANSFORM.getSimpleName() + ".class";
+
+        try (InputStream input = CLASS_TO_TRANSFORM.getResourceAsStream(classfileName)) {
+            classfile = input.readAllBytes();
+        }
+
+        protectionDomain = CLASS_TO_TRANSFORM.getProtectionDomain();
+
+        if (instrumentClassForCoverage() == null) {
+            throw new IllegalStateException(CLASS_TO_TRANSFORM + " was not selected for coverage");
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void discardCoverageData() {
+        CoverageData.instance().clear();
+    }
+
+    @Benchmark
+    public byte[] readAndWriteClass() {
+        ClassReader cr = new ClassReader(classfile);
+        ClassWriter cw = new ClassWriter(cr);
+        cr.accept(cw);
+        return cw.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] instrumentClassForCoverage() {
+        return new ClassModification().modifyClass(CLASS_TO_TRANSFORM.getName(), protectionDomain, classfile);
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package jmockit.benchmarks;
+
+/**
+ * A class to be mocked, faked or instrumented by the benchmarks, doing just enough work in its real implementation that
+ * calls to it can't be optimized away.
+ */
+public class Collaborator {
+    private int calls;
+
+    public int compute(int value) {
+        calls++;
+        return value * 31 + calls;
+    }
+
+    public String describe(String prefix, int value) {
+        return prefix + value;
+    }
+
+    public void process(int value) {
+        if (value > 0) {
+            calls += value;
+        } else {
+            calls--;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package jmockit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import mockit.coverage.TestRun;
+import mockit.coverage.data.CoverageData;
+import mockit.coverage.data.FileCoverageData;
+import mockit.coverage.lines.PerFileLineCoverage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the probe executed for each line of code measured by line coverage, from a single thread and from multiple
+ * threads executing code in the same source file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoverageProbeBenchmark {
+    private static final int LINES = 64;
+
+    private int fileIndex;
+
+    @Setup
+    public void registerSourceFile() {
+        FileCoverageData fileData = CoverageData.instance().getOrAddFile("jmockit/benchmarks/Probed.java", "cls");
+        PerFileLineCoverage lineCoverage = fileData.getLineCoverageData();
+
+        for (int line = 1; line <= LINES; line++) {
+            lineCoverage.addLine(line);
+        }
+
+        fileIndex = fileData.index;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void lineExecuted() {
+        TestRun.lineExecuted(fileIndex, 17);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void lineExecutedConcurrently() {
+        TestRun.lineExecuted(fileIndex, 17);
+    }
+}
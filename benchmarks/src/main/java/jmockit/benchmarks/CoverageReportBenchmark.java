@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package jmockit.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import mockit.coverage.data.CoverageData;
+import mockit.coverage.lines.PerFileLineCoverage;
+import mockit.coverage.reporting.CoverageReport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of writing and reading back the coverage data file, and of generating the HTML coverage report, for a synthetic
+ * project with a given number of source files, each one with every other line covered.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoverageReportBenchmark {
+    private static final int PACKAGES = 20;
+    private static final int LINES_PER_FILE = 200;
+
+    @Param({ "100", "1000" })
+    public int sourceFiles;
+
+    private CoverageData coverageData;
+    private File dataFile;
+    private String reportDir;
+
+    @Setup
+    public void createCoverageData() throws IOException {
+        coverageData = new CoverageData();
+
+        for (int i = 0; i < sourceFiles; i++) {
+            String sourceFile = "synthetic/package" + i % PACKAGES + "/Class" + i + ".java";
+            PerFileLineCoverage lineCoverage = coverageData.getOrAddFile(sourceFile, "cls").getLineCoverageData();
+
+            for (int line = 1; line <= LINES_PER_FILE; line++) {
+                lineCoverage.addLine(line);
+            }
+
+            for (int line = 1; line <= LINES_PER_FILE; line += 2) {
+                lineCoverage.registerExecution(line, null);
+            }
+        }
+
+        Path outputDir = Files.createTempDirectory("coverage-benchmark");
+        dataFile = outputDir.resolve("coverage.ser").toFile();
+        coverageData.writeDataToFile(dataFile);
+        reportDir = outputDir.resolve("coverage-report").toString();
+    }
+
+    @Benchmark
+    public File writeDataFile() throws IOException {
+        coverageData.writeDataToFile(dataFile);
+        return dataFile;
+    }
+
+    @Benchmark
+    public CoverageData readDataFile() throws IOException {
+        return CoverageData.readDataFromFile(dataFile);
+    }
+
+    @Benchmark
+    public String generateHtmlReport() throws IOException {
+        new CoverageReport(reportDir, false, null, coverageData, false).generate();
+        return reportDir;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package jmockit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import mockit.Expectations;
+import mockit.Mocked;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of matching a replayed invocation against a given number of expectations recorded on the same mocked method,
+ * each one with a different argument.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpectationMatchingBenchmark {
+    @Param({ "1", "10", "100" })
+    public int recordedExpectations;
+
+    @Mocked
+    Collaborator collaborator;
+
+    @Setup(Level.Trial)
+    public void beginSession() {
+        MockingSession.begin(this);
+    }
+
+    /**
+     * Starts a new test for each benchmark invocation, so that invocations replayed in previous ones are discarded, and
+     * records the expectations again, since they get discarded as well.
+     */
+    @Setup(Level.Invocation)
+    public void recordExpectations() {
+        MockingSession.startNextTest();
+        int count = recordedExpectations;
+
+        new Expectations() {
+            {
+                for (int i = 0; i < count; i++) {
+                    collaborator.compute(i);
+                    result = i;
+                    minTimes = 0;
+                }
+            }
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void endSession() {
+        MockingSession.end();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MockingSession.CALLS_PER_TEST)
+    public void replayFirstRecordedExpectation(Blackhole blackhole) {
+        replayRepeatedly(0, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MockingSession.CALLS_PER_TEST)
+    public void replayLastRecordedExpectation(Blackhole blackhole) {
+        replayRepeatedly(recordedExpectations - 1, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MockingSession.CALLS_PER_TEST)
+    public void replayUnrecordedInvocation(Blackhole blackhole) {
+        replayRepeatedly(-1, blackhole);
+    }
+
+    private void replayRepeatedly(int value, Blackhole blackhole) {
+        for (int i = 0; i < MockingSession.CALLS_PER_TEST; i++) {
+            blackhole.consume(collaborator.compute(value));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package jmockit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import mockit.Injectable;
+import mockit.Invocation;
+import mockit.Mock;
+import mockit.MockUp;
+import mockit.Mocked;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-call overhead of calling a method on a <code>@Mocked</code> or <code>@Injectable</code> instance, or on an
+ * instance of a class faked with a <code>MockUp</code>, compared to calling the real method.
+ * <p>
+ * Each benchmark runs in its own fork, so mocking or faking <code>Collaborator</code> in one doesn't affect the others.
+ * Calls are made in batches of {@link MockingSession#CALLS_PER_TEST}, with the invocations replayed on mocked instances
+ * discarded between batches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+public class MockedDispatchBenchmark {
+    @State(Scope.Benchmark)
+    public static class RealCollaborator {
+        final Collaborator collaborator = new Collaborator();
+    }
+
+    @State(Scope.Benchmark)
+    public static class MockedCollaborator {
+        @Mocked
+        Collaborator collaborator;
+
+        @Setup(Level.Trial)
+        public void beginSession() {
+            MockingSession.begin(this);
+        }
+
+        @Setup(Level.Invocation)
+        public void startNextTest() {
+            MockingSession.startNextTest();
+        }
+
+        @TearDown(Level.Trial)
+        public void endSession() {
+            MockingSession.end();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class InjectableCollaborator {
+        @Injectable
+        Collaborator collaborator;
+
+        @Setup(Level.Trial)
+        public void beginSession() {
+            MockingSession.begin(this);
+        }
+
+        @Setup(Level.Invocation)
+        public void startNextTest() {
+            MockingSession.startNextTest();
+        }
+
+        @TearDown(Level.Trial)
+        public void endSession() {
+            MockingSession.end();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FakedCollaborator {
+        Collaborator collaborator;
+
+        @Setup(Level.Trial)
+        public void applyFake() {
+            MockingSession.begin(this);
+
+            new MockUp<Collaborator>() {
+                @Mock
+                int compute(int value) {
+                    return value;
+                }
+            };
+
+            collaborator = new Collaborator();
+        }
+
+        @TearDown(Level.Trial)
+        public void endSession() {
+            MockingSession.end();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FakedCollaboratorWithInvocation {
+        Collaborator collaborator;
+
+        @Setup(Level.Trial)
+        public void applyFake() {
+            MockingSession.begin(this);
+
+            new MockUp<Collaborator>() {
+                @Mock
+                int compute(Invocation invocation, int value) {
+                    return value + invocation.getInvocationCount();
+                }
+            };
+
+            collaborator = new Collaborator();
+        }
+
+        @TearDown(Level.Trial)
+        public void endSession() {
+            MockingSession.end();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MockingSession.CALLS_PER_TEST)
+    public void callRealMethod(RealCollaborator state, Blackhole blackhole) {
+        callRepeatedly(state.collaborator, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MockingSession.CALLS_PER_TEST)
+    public void callMockedMethod(MockedCollaborator state, Blackhole blackhole) {
+        callRepeatedly(state.collaborator, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MockingSession.CALLS_PER_TEST)
+    public void callInjectableMethod(InjectableCollaborator state, Blackhole blackhole) {
+        callRepeatedly(state.collaborator, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MockingSession.CALLS_PER_TEST)
+    public void callFakeMethod(FakedCollaborator state, Blackhole blackhole) {
+        callRepeatedly(state.collaborator, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MockingSession.CALLS_PER_TEST)
+    public void callFakeMethodWithInvocationParameter(FakedCollaboratorWithInvocation state, Blackhole blackhole) {
+        callRepeatedly(state.collaborator, blackhole);
+    }
+
+    private static void callRepeatedly(Collaborator collaborator, Blackhole blackhole) {
+        for (int i = 0; i < MockingSession.CALLS_PER_TEST; i++) {
+            blackhole.consume(collaborator.compute(i));
+        }
+    }
+}
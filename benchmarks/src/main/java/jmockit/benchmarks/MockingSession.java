@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package jmockit.benchmarks;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import mockit.integration.TestRunnerDecorator;
+import mockit.internal.expectations.RecordAndReplayExecution;
+import mockit.internal.state.TestRun;
+
+/**
+ * Sets up, for a benchmark state object, the same JMockit state a test runner integration sets up for a test class
+ * instance, so that its <code>@Mocked</code> and <code>@Injectable</code> fields get assigned and expectations can be
+ * recorded; once the session ends, every class redefined in the meantime is restored.
+ * <p>
+ * Each replayed invocation is kept until the current test ends, for later verification, so benchmarks replaying mocked
+ * invocations make {@link #CALLS_PER_TEST} calls per benchmark invocation and {@linkplain #startNextTest() start a new
+ * test} before each one; otherwise, the replayed invocations would pile up for the whole iteration and the benchmark
+ * would end up measuring list growth and garbage collection.
+ */
+public final class MockingSession extends TestRunnerDecorator {
+    /**
+     * The number of calls made to mocked instances in a single test, that is, per benchmark invocation.
+     */
+    public static final int CALLS_PER_TEST = 10_000;
+
+    private MockingSession() {
+    }
+
+    public static void begin(@NonNull Object state) {
+        updateTestClassState(state, state.getClass());
+        prepareForNextTest();
+        TestRun.setRunningIndividualTest(state);
+    }
+
+    /**
+     * Discards the invocations replayed so far, along with any expectations recorded, as done between two tests of the
+     * same test class; unlike {@link #end()}, mocked classes are left as they are.
+     */
+    public static void startNextTest() {
+        endCurrentTest();
+        TestRun.prepareForNextTest();
+    }
+
+    public static void end() {
+        endCurrentTest();
+        cleanUpMocksFromPreviousTestClass();
+        TestRun.clearCurrentTestInstance();
+        TestRun.setCurrentTestClass(null);
+    }
+
+    private static void endCurrentTest() {
+        TestRun.enterNoMockingZone();
+
+        try {
+            // Expectations recorded but not replayed are irrelevant here, so any resulting failure is ignored.
+            RecordAndReplayExecution.endCurrentReplayIfAny();
+            TestRun.getFakeStates().resetExpectations();
+            TestRun.finishCurrentTestExecution();
+        } finally {
+            TestRun.exitNoMockingZone();
+        }
+    }
+}
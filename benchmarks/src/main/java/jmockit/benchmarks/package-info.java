@@ -0,0 +1,10 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+/**
+ * JMH microbenchmarks for the per-call overhead of mocking and faking, expectation matching, class redefinition, class
+ * file transformation, and code coverage probes and reports.
+ */
+package jmockit.benchmarks;
@@ -8,6 +8,9 @@ package mockit;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.VarHandle;
+
 import mockit.internal.reflection.FieldReflection;
 import mockit.internal.reflection.MethodReflection;
 import mockit.internal.util.ClassLoad;
@@ -17,6 +20,8 @@ import mockit.internal.util.ClassLoad;
  *
  * @see #getField(Object, String)
  * @see #setField(Object, String, Object)
+ * @see #getFieldHandle(Class, String)
+ * @see #getMethodHandle(Class, String, Class...)
  */
 public final class Deencapsulation {
     private Deencapsulation() {
@@ -205,6 +210,60 @@ public final class Deencapsulation {
         FieldReflection.setField(classWithStaticField, null, null, fieldValue);
     }
 
+    /**
+     * Gets a variable handle for a non-accessible (eg <code>private</code>) field, instance or <code>static</code>,
+     * declared in a given class or in one of its superclasses. Unlike the <code>getField</code>/<code>setField</code>
+     * methods, which look the field up by name on every call, the handle can be kept and used to access the field
+     * repeatedly at the cost of a direct field access.
+     * <p>
+     * The handle is read-only if the field is <code>final</code>. Instance fields of an outer class are not reached
+     * through an instance of an inner class; the handle must be used with an instance of the class declaring the field.
+     *
+     * @param classWithField
+     *            the class where the search for the field starts
+     * @param fieldName
+     *            the name of the field
+     *
+     * @return a variable handle for the field, obtained through a private lookup in the declaring class
+     *
+     * @throws IllegalArgumentException
+     *             if the desired field is not found, or its declaring class is not open to JMockit
+     *
+     * @see #getField(Object, String)
+     * @see #setField(Object, String, Object)
+     */
+    @NonNull
+    public static VarHandle getFieldHandle(@NonNull Class<?> classWithField, @NonNull String fieldName) {
+        return FieldReflection.getFieldHandle(classWithField, fieldName);
+    }
+
+    /**
+     * Gets a method handle for a non-accessible (eg {@code private}) method, instance or {@code static}, declared in a
+     * given class or in one of its superclasses. Unlike the {@code invoke} methods, which look the method up on every
+     * call, the handle can be kept and used to call the method repeatedly at the cost of a direct call.
+     *
+     * @param classWithMethod
+     *            the class where the search for the method starts
+     * @param methodName
+     *            the name of the method
+     * @param parameterTypes
+     *            the types of the parameters as declared in the desired method
+     *
+     * @return a direct method handle for the method, obtained through a private lookup in the declaring class; for an
+     *         instance method, the first parameter of the handle is the instance on which to call it
+     *
+     * @throws IllegalArgumentException
+     *             if the desired method is not found, or its declaring class is not open to JMockit
+     *
+     * @see #invoke(Object, String, Class[], Object...)
+     * @see #invoke(Class, String, Class[], Object...)
+     */
+    @NonNull
+    public static MethodHandle getMethodHandle(@NonNull Class<?> classWithMethod, @NonNull String methodName,
+            @NonNull Class<?>... parameterTypes) {
+        return MethodReflection.getMethodHandle(classWithMethod, methodName, parameterTypes);
+    }
+
     /**
      * Invokes a non-accessible (eg {@code private}) instance method from a given class with the given arguments.
      *
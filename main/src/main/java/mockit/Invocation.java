@@ -9,6 +9,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 import java.lang.reflect.Member;
+import java.util.Arrays;
 
 import mockit.internal.BaseInvocation;
 
@@ -35,9 +36,17 @@ public class Invocation {
     @Nullable
     private final Object invokedInstance;
 
-    /** The invoked arguments. */
+    /** The invoked arguments, copied from the array they were received in only when first requested. */
+    @Nullable
+    private Object[] invokedArguments;
+
+    /** The array holding the invoked arguments, possibly preceded by other values. */
     @NonNull
-    private final Object[] invokedArguments;
+    private final Object[] argumentValues;
+
+    /** The index of the first invoked argument in the array of argument values. */
+    @NonNegative
+    private final int firstArgumentIndex;
 
     /** The invocation count. */
     @NonNegative
@@ -57,6 +66,29 @@ public class Invocation {
             @NonNegative int invocationCount) {
         this.invokedInstance = invokedInstance;
         this.invokedArguments = invokedArguments;
+        argumentValues = invokedArguments;
+        firstArgumentIndex = 0;
+        this.invocationCount = invocationCount;
+    }
+
+    /**
+     * For internal use only.
+     *
+     * @param invokedInstance
+     *            the invoked instance
+     * @param argumentValues
+     *            an array holding the invoked arguments from a given index onwards, which must not be modified
+     *            afterwards
+     * @param firstArgumentIndex
+     *            the index of the first invoked argument in the array
+     * @param invocationCount
+     *            the invocation count
+     */
+    protected Invocation(@Nullable Object invokedInstance, @NonNull Object[] argumentValues,
+            @NonNegative int firstArgumentIndex, @NonNegative int invocationCount) {
+        this.invokedInstance = invokedInstance;
+        this.argumentValues = argumentValues;
+        this.firstArgumentIndex = firstArgumentIndex;
         this.invocationCount = invocationCount;
     }
 
@@ -97,7 +129,14 @@ public class Invocation {
      */
     @NonNull
     public final Object[] getInvokedArguments() {
-        return invokedArguments;
+        Object[] arguments = invokedArguments;
+
+        if (arguments == null) {
+            arguments = Arrays.copyOfRange(argumentValues, firstArgumentIndex, argumentValues.length);
+            invokedArguments = arguments;
+        }
+
+        return arguments;
     }
 
     /**
@@ -150,6 +150,51 @@ public @interface Tested {
      */
     boolean fullyInitialized() default false;
 
+    /**
+     * Indicates whether the initialization methods (such as those annotated with <code>@PostConstruct</code>) of the
+     * objects in the dependency graph of a {@linkplain #fullyInitialized() fully initialized} tested object run
+     * concurrently, rather than one at a time.
+     * <p>
+     * The whole graph is first instantiated and injected on the test thread, exactly as it otherwise would be, so the
+     * injected dependencies are the same, and shared dependencies are still created only once. Then, the initialization
+     * methods of each object run on a bounded pool of threads as soon as those of the dependencies held in its fields
+     * have completed. If any of them fails, the failure reported is that of the object which would have been
+     * initialized first.
+     * <p>
+     * Only initialization methods run concurrently; object instantiation, including the execution of constructors,
+     * always happens on the test thread. Consequently, a constructor receiving a dependency sees it already injected
+     * but not yet initialized.
+     *
+     * @return true, if independent dependencies are to be initialized concurrently
+     */
+    boolean parallelInitialization() default false;
+
+    /**
+     * Indicates whether the persistence resources created for a {@linkplain #fullyInitialized() fully initialized}
+     * tested object are shared by all test classes in the test run, rather than created for each one.
+     * <p>
+     * Data sources configured by a <code>@DataSourceDefinition</code> are created once for each distinct definition, and
+     * reused by any tested object having an equal definition. (JPA <code>EntityManagerFactory</code> objects are always
+     * created once per persistence unit.)
+     *
+     * @return true, if data sources are to be shared
+     *
+     * @see #transactionPerTest()
+     */
+    boolean sharedPersistence() default false;
+
+    /**
+     * Indicates whether each JPA <code>EntityManager</code> created for a {@linkplain #fullyInitialized() fully
+     * initialized} tested object runs the test in a transaction of its own, begun when the entity manager is created and
+     * rolled back before it is closed at the end of the test, so that data written by one test is not seen by the next.
+     * <p>
+     * This should not be used when the code under test demarcates transactions itself, since the transaction would
+     * already be active when the code attempts to begin it.
+     *
+     * @return true, if entity managers are to be given a transaction which gets rolled back after each test
+     */
+    boolean transactionPerTest() default false;
+
     /**
      * Indicates whether the tested class gets instantiated and initialized <em>before</em> the execution of test setup
      * methods (ie, those annotated as <code>@Before</code> or <code>@BeforeMethod</code>), or <em>after</em> them.
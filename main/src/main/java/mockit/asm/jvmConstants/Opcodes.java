@@ -122,7 +122,7 @@ public interface Opcodes {
     int MONITOREXIT = 195;
 
     // visitIntInsn
-    // int BIPUSH = 16;
+    int BIPUSH = 16;
     int SIPUSH = 17;
     int NEWARRAY = 188;
 
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.regex.Pattern;
 
 import mockit.coverage.data.CoverageData;
+import mockit.coverage.data.CoverageSummary;
 
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.slf4j.Logger;
@@ -75,14 +76,13 @@ final class CoverageCheck {
             return "perFile".equalsIgnoreCase(scope);
         }
 
-        boolean verifyMinimum() {
-            CoverageData coverageData = CoverageData.instance();
+        boolean verifyMinimum(@NonNull CoverageSummary summary) {
             int percentage;
 
             if (isPerFile(sourceFilePrefix)) {
-                percentage = coverageData.getSmallestPerFilePercentage();
+                percentage = summary.getSmallestPerFilePercentage();
             } else {
-                percentage = coverageData.getPercentage(sourceFilePrefix);
+                percentage = summary.getPercentage(sourceFilePrefix);
             }
 
             return percentage < 0 || verifyMinimum(percentage);
@@ -114,9 +114,10 @@ final class CoverageCheck {
 
     void verifyThresholds() {
         allThresholdsSatisfied = true;
+        CoverageSummary summary = CoverageData.instance().getSummary();
 
         for (Threshold threshold : thresholds) {
-            allThresholdsSatisfied &= threshold.verifyMinimum();
+            allThresholdsSatisfied &= threshold.verifyMinimum(summary);
         }
 
         createOrDeleteIndicatorFile();
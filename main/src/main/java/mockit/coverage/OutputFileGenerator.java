@@ -14,6 +14,8 @@ import java.nio.file.Path;
 
 import mockit.coverage.data.CoverageData;
 import mockit.coverage.reporting.CoverageReport;
+import mockit.coverage.testRedundancy.TestImpactIndex;
+import mockit.coverage.testRedundancy.TestPrioritization;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,7 +58,9 @@ final class OutputFileGenerator {
 
     boolean isOutputToBeGenerated() {
         return isHTMLWithNoCallPoints() || isWithCallPoints() || hasOutputFormat("serial")
-                || hasOutputFormat("serial-append") || hasOutputFormat("xml");
+                || hasOutputFormat("serial-append") || hasOutputFormat("xml") || hasOutputFormat("json")
+                || hasOutputFormat("csv") || hasOutputFormat(TestImpactIndex.OUTPUT_FORMAT)
+                || hasOutputFormat(TestPrioritization.OUTPUT_FORMAT);
     }
 
     private boolean isHTMLWithNoCallPoints() {
@@ -102,6 +106,8 @@ final class OutputFileGenerator {
         try {
             generateAccretionDataFileIfRequested(coverageData);
             generateXmlDataFileIfRequested(coverageData);
+            generateSummaryFilesIfRequested(coverageData);
+            generateTestImpactFilesIfRequested(coverageData);
             generateHTMLReportIfRequested(coverageData, outputDirCreated);
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -113,6 +119,7 @@ final class OutputFileGenerator {
 
         try {
             CoverageData coverageData = new DataFileMerging(inputPaths).merge();
+            generateSummaryFilesIfRequested(coverageData);
             generateHTMLReportIfRequested(coverageData, outputDirCreated);
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -144,6 +151,35 @@ final class OutputFileGenerator {
         }
     }
 
+    private void generateSummaryFilesIfRequested(@NonNull CoverageData coverageData) throws IOException {
+        if (hasOutputFormat("json")) {
+            new SummaryFile(outputDir, coverageData, true).generate();
+        }
+
+        if (hasOutputFormat("csv")) {
+            new SummaryFile(outputDir, coverageData, false).generate();
+        }
+    }
+
+    private void generateTestImpactFilesIfRequested(@NonNull CoverageData coverageData) throws IOException {
+        boolean withIndex = hasOutputFormat(TestImpactIndex.OUTPUT_FORMAT);
+        boolean withOrder = hasOutputFormat(TestPrioritization.OUTPUT_FORMAT);
+
+        if (withIndex || withOrder) {
+            TestImpactIndex testImpactIndex = TestImpactIndex.createIfAvailable(coverageData);
+
+            if (testImpactIndex != null) {
+                if (withIndex) {
+                    testImpactIndex.writeToFile(outputDir);
+                }
+
+                if (withOrder) {
+                    new TestPrioritization(testImpactIndex).writeToFile(outputDir);
+                }
+            }
+        }
+    }
+
     private void generateHTMLReportIfRequested(@NonNull CoverageData coverageData, boolean outputDirCreated)
             throws IOException {
         if (isHTMLWithNoCallPoints()) {
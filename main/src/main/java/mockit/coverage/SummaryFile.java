@@ -0,0 +1,208 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.coverage;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import mockit.coverage.data.CoverageData;
+import mockit.coverage.data.CoverageSummary;
+import mockit.coverage.data.CoverageSummary.Item;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates a machine-readable file with the covered and total item counts, and the resulting coverage percentages,
+ * for the whole test run, each package, and each source file, so that build tools can check coverage without parsing
+ * the HTML report. Depending on the output format selected, this is either a JSON file:
+ *
+ * <pre>{@code
+ * {"covered": 75, "total": 100, "percentage": 75, "packages": [
+ *   {"name": "com.example", "covered": 75, "total": 100, "percentage": 75, "files": [
+ *     {"path": "com/example/MyClass.java", "covered": 75, "total": 100, "percentage": 75}]}]}
+ * }</pre>
+ *
+ * or a CSV file:
+ *
+ * <pre>{@code
+ * scope,name,covered,total,percentage
+ * total,,75,100,75
+ * package,com.example,75,100,75
+ * file,com/example/MyClass.java,75,100,75
+ * }</pre>
+ *
+ * A percentage is left out (<code>null</code> or empty) when there are no items to be covered.
+ */
+final class SummaryFile {
+
+    /** The logger. */
+    private static final Logger logger = LoggerFactory.getLogger(SummaryFile.class);
+
+    @NonNull
+    private final File outputFile;
+    private final boolean json;
+    @NonNull
+    private final CoverageSummary summary;
+
+    SummaryFile(@NonNull String outputDir, @NonNull CoverageData coverageData, boolean json) {
+        String parentDir = Configuration.getOrChooseOutputDirectory(outputDir);
+        outputFile = Path.of(parentDir).resolve(json ? "coverage-summary.json" : "coverage-summary.csv").toFile();
+        this.json = json;
+        summary = coverageData.getSummary();
+    }
+
+    void generate() throws IOException {
+        try (Writer out = Files.newBufferedWriter(outputFile.toPath(), StandardCharsets.UTF_8)) {
+            if (json) {
+                writeJson(out);
+            } else {
+                writeCsv(out);
+            }
+        }
+
+        logger.info("JMockit: Coverage summary written to {}", outputFile.getCanonicalPath());
+    }
+
+    private void writeJson(@NonNull Writer out) throws IOException {
+        out.write('{');
+        writeJsonCounts(out, summary.getTotal());
+        out.write(", \"packages\": [");
+
+        List<Item> packages = summary.getPackages();
+
+        for (int i = 0, n = packages.size(); i < n; i++) {
+            Item packageItems = packages.get(i);
+            String packageName = packageItems.getName();
+
+            out.write(i == 0 ? "\n  {\"name\": \"" : ",\n  {\"name\": \"");
+            writeJsonString(out, packageName.replace('/', '.'));
+            out.write("\", ");
+            writeJsonCounts(out, packageItems);
+            out.write(", \"files\": [");
+
+            boolean firstFile = true;
+
+            for (Item file : summary.getFiles(packageName)) {
+                out.write(firstFile ? "\n    {\"path\": \"" : ",\n    {\"path\": \"");
+                writeJsonString(out, file.getName());
+                out.write("\", ");
+                writeJsonCounts(out, file);
+                out.write('}');
+                firstFile = false;
+            }
+
+            out.write("]}");
+        }
+
+        out.write("]}\n");
+    }
+
+    private static void writeJsonCounts(@NonNull Writer out, @NonNull Item items) throws IOException {
+        out.write("\"covered\": ");
+        out.write(Integer.toString(items.getCoveredItems()));
+        out.write(", \"total\": ");
+        out.write(Integer.toString(items.getTotalItems()));
+        out.write(", \"percentage\": ");
+
+        int percentage = items.getPercentage();
+        out.write(percentage < 0 ? "null" : Integer.toString(percentage));
+    }
+
+    private static void writeJsonString(@NonNull Writer out, @NonNull String value) throws IOException {
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c < 0x20) {
+                writeJsonControlCharacter(out, c);
+            } else {
+                out.write(c);
+            }
+        }
+    }
+
+    private static void writeJsonControlCharacter(@NonNull Writer out, char c) throws IOException {
+        switch (c) {
+            case '\n':
+                out.write("\\n");
+                break;
+            case '\r':
+                out.write("\\r");
+                break;
+            case '\t':
+                out.write("\\t");
+                break;
+            default:
+                out.write(String.format("\\u%04x", (int) c));
+        }
+    }
+
+    private void writeCsv(@NonNull Writer out) throws IOException {
+        out.write("scope,name,covered,total,percentage\n");
+        writeCsvLine(out, "total", "", summary.getTotal());
+
+        for (Item packageItems : summary.getPackages()) {
+            String packageName = packageItems.getName();
+            writeCsvLine(out, "package", packageName.replace('/', '.'), packageItems);
+
+            for (Item file : summary.getFiles(packageName)) {
+                writeCsvLine(out, "file", file.getName(), file);
+            }
+        }
+    }
+
+    private static void writeCsvLine(@NonNull Writer out, @NonNull String scope, @NonNull String name,
+            @NonNull Item items) throws IOException {
+        out.write(scope);
+        out.write(',');
+        writeCsvField(out, name);
+        out.write(',');
+        out.write(Integer.toString(items.getCoveredItems()));
+        out.write(',');
+        out.write(Integer.toString(items.getTotalItems()));
+        out.write(',');
+
+        int percentage = items.getPercentage();
+
+        if (percentage >= 0) {
+            out.write(Integer.toString(percentage));
+        }
+
+        out.write('\n');
+    }
+
+    /**
+     * Writes a field value, enclosing it in double quotes if it contains a comma, a double quote, or a line break, with
+     * any double quotes in it doubled, as specified in RFC 4180.
+     */
+    private static void writeCsvField(@NonNull Writer out, @NonNull String value) throws IOException {
+        boolean quote = false;
+
+        for (int i = 0, n = value.length(); i < n && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -10,7 +10,8 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.concurrent.locks.ReentrantLock;
 
 import mockit.coverage.data.CoverageData;
-import mockit.coverage.data.FileCoverageData;
+import mockit.coverage.dataItems.InstanceFieldData;
+import mockit.coverage.dataItems.StaticFieldData;
 import mockit.coverage.lines.PerFileLineCoverage;
 import mockit.coverage.testRedundancy.TestCoverage;
 
@@ -40,17 +41,23 @@ public final class TestRun {
             }
 
             int previousExecutionCount = fileData.registerExecution(line, callPoint);
-            recordNewLineOrSegmentAsCoveredIfApplicable(previousExecutionCount);
+            recordNewLineOrSegmentAsCoveredIfApplicable(coverageData, fileIndex, line, previousExecutionCount);
         } finally {
             LOCK.unlock();
         }
     }
 
-    private static void recordNewLineOrSegmentAsCoveredIfApplicable(@NonNegative int previousExecutionCount) {
+    private static void recordNewLineOrSegmentAsCoveredIfApplicable(@NonNull CoverageData coverageData,
+            @NonNegative int fileIndex, @NonNegative int line, @NonNegative int previousExecutionCount) {
+        if (previousExecutionCount == 0) {
+            coverageData.discardSummaryIfAny();
+        }
+
         TestCoverage testCoverage = TestCoverage.INSTANCE;
 
         if (testCoverage != null) {
             testCoverage.recordNewItemCoveredByTestIfApplicable(previousExecutionCount);
+            testCoverage.recordLineExecutedByTestIfApplicable(fileIndex, line);
         }
     }
 
@@ -72,72 +79,55 @@ public final class TestRun {
                 }
 
                 int previousExecutionCount = fileData.registerExecution(line, branchIndex, callPoint);
-                recordNewLineOrSegmentAsCoveredIfApplicable(previousExecutionCount);
+                recordNewLineOrSegmentAsCoveredIfApplicable(coverageData, fileIndex, line, previousExecutionCount);
             }
         } finally {
             LOCK.unlock();
         }
     }
 
-    public static void fieldAssigned(@NonNull String file, @NonNull String classAndFieldNames) {
+    public static void fieldAssigned(@NonNegative int fieldIndex) {
         if (terminated) {
             return;
         }
 
-        LOCK.lock();
-        try {
-            CoverageData coverageData = CoverageData.instance();
-            FileCoverageData fileData = coverageData.getFileData(file);
-            fileData.dataCoverageInfo.registerAssignmentToStaticField(classAndFieldNames);
-        } finally {
-            LOCK.unlock();
-        }
+        CoverageData coverageData = CoverageData.instance();
+        StaticFieldData fieldData = (StaticFieldData) coverageData.getFieldData(fieldIndex);
+        fieldData.registerAssignment();
+        coverageData.discardSummaryIfAny();
     }
 
-    public static void fieldRead(@NonNull String file, @NonNull String classAndFieldNames) {
+    public static void fieldRead(@NonNegative int fieldIndex) {
         if (terminated) {
             return;
         }
 
-        LOCK.lock();
-        try {
-            CoverageData coverageData = CoverageData.instance();
-            FileCoverageData fileData = coverageData.getFileData(file);
-            fileData.dataCoverageInfo.registerReadOfStaticField(classAndFieldNames);
-        } finally {
-            LOCK.unlock();
-        }
+        CoverageData coverageData = CoverageData.instance();
+        StaticFieldData fieldData = (StaticFieldData) coverageData.getFieldData(fieldIndex);
+        fieldData.registerRead();
+        coverageData.discardSummaryIfAny();
     }
 
-    public static void fieldAssigned(@NonNull Object instance, @NonNull String file,
-            @NonNull String classAndFieldNames) {
+    public static void fieldAssigned(@NonNull Object instance, @NonNegative int fieldIndex) {
         if (terminated) {
             return;
         }
 
-        LOCK.lock();
-        try {
-            CoverageData coverageData = CoverageData.instance();
-            FileCoverageData fileData = coverageData.getFileData(file);
-            fileData.dataCoverageInfo.registerAssignmentToInstanceField(instance, classAndFieldNames);
-        } finally {
-            LOCK.unlock();
-        }
+        CoverageData coverageData = CoverageData.instance();
+        InstanceFieldData fieldData = (InstanceFieldData) coverageData.getFieldData(fieldIndex);
+        fieldData.registerAssignment(instance);
+        coverageData.discardSummaryIfAny();
     }
 
-    public static void fieldRead(@NonNull Object instance, @NonNull String file, @NonNull String classAndFieldNames) {
+    public static void fieldRead(@NonNull Object instance, @NonNegative int fieldIndex) {
         if (terminated) {
             return;
         }
 
-        LOCK.lock();
-        try {
-            CoverageData coverageData = CoverageData.instance();
-            FileCoverageData fileData = coverageData.getFileData(file);
-            fileData.dataCoverageInfo.registerReadOfInstanceField(instance, classAndFieldNames);
-        } finally {
-            LOCK.unlock();
-        }
+        CoverageData coverageData = CoverageData.instance();
+        InstanceFieldData fieldData = (InstanceFieldData) coverageData.getFieldData(fieldIndex);
+        fieldData.registerRead(instance);
+        coverageData.discardSummaryIfAny();
     }
 
     static void terminate() {
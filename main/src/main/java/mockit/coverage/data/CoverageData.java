@@ -19,6 +19,7 @@ import java.io.Serializable;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -27,7 +28,7 @@ import java.util.Map.Entry;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
-import mockit.coverage.CoveragePercentage;
+import mockit.coverage.dataItems.FieldData;
 import mockit.internal.util.Utilities;
 
 import org.checkerframework.checker.index.qual.NonNegative;
@@ -52,6 +53,17 @@ public final class CoverageData implements Serializable {
     @NonNull
     private final List<FileCoverageData> indexedFileData = new ArrayList<>(100);
 
+    /**
+     * The data for all fields tracked by data coverage in the current test run, indexed by the dense integer id each
+     * field gets at instrumentation time, and which is embedded in the generated probe code. Only grows, being replaced
+     * with a larger copy as needed, so that probes can read it without locking.
+     */
+    private transient volatile FieldData[] indexedFieldData = new FieldData[64];
+    private transient int fieldCount;
+
+    @Nullable
+    private transient volatile CoverageSummary summary;
+
     public boolean isWithCallPoints() {
         return withCallPoints;
     }
@@ -66,7 +78,7 @@ public final class CoverageData implements Serializable {
     }
 
     @NonNull
-    public FileCoverageData getOrAddFile(@NonNull String file, @Nullable String kindOfTopLevelType) {
+    public synchronized FileCoverageData getOrAddFile(@NonNull String file, @Nullable String kindOfTopLevelType) {
         FileCoverageData fileData = fileToFileData.get(file);
 
         // For a class with nested/inner classes, a previous class in the same source file may already have been added.
@@ -79,6 +91,8 @@ public final class CoverageData implements Serializable {
             fileData.kindOfTopLevelType = kindOfTopLevelType;
         }
 
+        // Lines and fields of the class about to be instrumented will be added to the file.
+        summary = null;
         return fileData;
     }
 
@@ -92,62 +106,70 @@ public final class CoverageData implements Serializable {
         return indexedFileData.get(fileIndex);
     }
 
+    /**
+     * Assigns the next field id to the given field data, so that probes can later {@linkplain #getFieldData(int) find
+     * it} directly.
+     *
+     * @return the id assigned to the field
+     */
+    @NonNegative
+    public synchronized int addFieldData(@NonNull FieldData fieldData) {
+        FieldData[] fieldsData = indexedFieldData;
+        int fieldIndex = fieldCount;
+
+        if (fieldIndex == fieldsData.length) {
+            fieldsData = Arrays.copyOf(fieldsData, 2 * fieldIndex);
+        }
+
+        fieldsData[fieldIndex] = fieldData;
+        indexedFieldData = fieldsData;
+        fieldCount = fieldIndex + 1;
+        return fieldIndex;
+    }
+
+    @NonNull
+    public FieldData getFieldData(@NonNegative int fieldIndex) {
+        return indexedFieldData[fieldIndex];
+    }
+
+    @NonNegative
+    public synchronized int getFieldCount() {
+        return fieldCount;
+    }
+
     public boolean isEmpty() {
         return fileToFileData.isEmpty();
     }
 
-    public void clear() {
+    public synchronized void clear() {
         fileToFileData.clear();
+        summary = null;
     }
 
     /**
-     * Computes the coverage percentage over a subset of the available source files.
-     *
-     * @param fileNamePrefix
-     *            a regular expression for matching the names of the source files to be considered, or <code>null</code>
-     *            to consider <em>all</em> files
-     *
-     * @return the computed percentage from <code>0</code> to <code>100</code> (inclusive), or <code>-1</code> if no
-     *         meaningful value could be computed
+     * Gets the covered and total item counts aggregated per package, building them on the first call after the counts
+     * last changed. Meant to be called once all coverage data has been gathered, so that coverage checks and every
+     * output format can share the same aggregation.
      */
-    public int getPercentage(@Nullable String fileNamePrefix) {
-        int coveredItems = 0;
-        int totalItems = 0;
-
-        for (Entry<String, FileCoverageData> fileAndFileData : fileToFileData.entrySet()) {
-            String sourceFile = fileAndFileData.getKey();
+    @NonNull
+    public CoverageSummary getSummary() {
+        CoverageSummary coverageSummary = summary;
 
-            if (fileNamePrefix == null || sourceFile.startsWith(fileNamePrefix)) {
-                FileCoverageData fileData = fileAndFileData.getValue();
-                coveredItems += fileData.getCoveredItems();
-                totalItems += fileData.getTotalItems();
-            }
+        if (coverageSummary == null) {
+            coverageSummary = new CoverageSummary(this);
+            summary = coverageSummary;
         }
 
-        return CoveragePercentage.calculate(coveredItems, totalItems);
+        return coverageSummary;
     }
 
     /**
-     * Finds the source file with the smallest coverage percentage.
-     *
-     * @return the percentage value for the file found, or <code>Integer.MAX_VALUE</code> if no file is found with a
-     *         meaningful percentage
+     * Discards the aggregated counts, if already built, when an item has been covered for the first time since.
      */
-    @NonNegative
-    public int getSmallestPerFilePercentage() {
-        int minPercentage = Integer.MAX_VALUE;
-
-        for (FileCoverageData fileData : fileToFileData.values()) {
-            if (!fileData.wasLoadedAfterTestCompletion()) {
-                int percentage = fileData.getCoveragePercentage();
-
-                if (percentage >= 0 && percentage < minPercentage) {
-                    minPercentage = percentage;
-                }
-            }
+    public void discardSummaryIfAny() {
+        if (summary != null) {
+            summary = null;
         }
-
-        return minPercentage;
     }
 
     public void fillLastModifiedTimesForAllClassFiles() {
@@ -262,6 +284,7 @@ public final class CoverageData implements Serializable {
 
     public void merge(@NonNull CoverageData previousData) {
         withCallPoints |= previousData.withCallPoints;
+        summary = null;
 
         for (Entry<String, FileCoverageData> previousFileAndFileData : previousData.fileToFileData.entrySet()) {
             String previousFile = previousFileAndFileData.getKey();
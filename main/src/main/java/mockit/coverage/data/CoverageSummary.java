@@ -0,0 +1,258 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.coverage.data;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import mockit.coverage.CoveragePercentage;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+
+/**
+ * Covered and total item counts for all source files in a {@link CoverageData} instance, aggregated once into a tree
+ * of packages, so that coverage percentages for any package or source file prefix can then be obtained without
+ * scanning all files again.
+ */
+public final class CoverageSummary {
+    /**
+     * The covered and total item counts for a source file, for the files directly inside a package, or for a whole
+     * package subtree.
+     */
+    public static final class Item {
+        @NonNull
+        private final String name;
+        @NonNegative
+        private int coveredItems;
+        @NonNegative
+        private int totalItems;
+
+        Item(@NonNull String name) {
+            this.name = name;
+        }
+
+        /**
+         * The package name, with components separated by "/", or the source file path.
+         */
+        @NonNull
+        public String getName() {
+            return name;
+        }
+
+        @NonNegative
+        public int getCoveredItems() {
+            return coveredItems;
+        }
+
+        @NonNegative
+        public int getTotalItems() {
+            return totalItems;
+        }
+
+        public int getPercentage() {
+            return CoveragePercentage.calculate(coveredItems, totalItems);
+        }
+
+        void add(@NonNegative int covered, @NonNegative int total) {
+            coveredItems += covered;
+            totalItems += total;
+        }
+    }
+
+    private static final class PackageNode {
+        @NonNull
+        final Item subtree;
+        @NonNull
+        final Item ownFiles;
+        @NonNull
+        final NavigableMap<String, PackageNode> subPackages;
+        @NonNull
+        final NavigableMap<String, Item> files;
+
+        PackageNode(@NonNull String packageName) {
+            subtree = new Item(packageName);
+            ownFiles = new Item(packageName);
+            subPackages = new TreeMap<>();
+            files = new TreeMap<>();
+        }
+
+        @NonNull
+        PackageNode getOrAddSubPackage(@NonNull String simpleName) {
+            PackageNode subPackage = subPackages.get(simpleName);
+
+            if (subPackage == null) {
+                String parentName = subtree.name;
+                String packageName = parentName.isEmpty() ? simpleName : parentName + '/' + simpleName;
+                subPackage = new PackageNode(packageName);
+                subPackages.put(simpleName, subPackage);
+            }
+
+            return subPackage;
+        }
+    }
+
+    @NonNull
+    private final PackageNode root;
+    @NonNull
+    private final Map<String, PackageNode> packages;
+    @NonNegative
+    private int smallestPerFilePercentage;
+
+    public CoverageSummary(@NonNull CoverageData coverageData) {
+        root = new PackageNode("");
+        packages = new TreeMap<>();
+        smallestPerFilePercentage = Integer.MAX_VALUE;
+
+        for (Entry<String, FileCoverageData> fileAndFileData : coverageData.getFileToFileData().entrySet()) {
+            addFile(fileAndFileData.getKey(), fileAndFileData.getValue());
+        }
+    }
+
+    private void addFile(@NonNull String sourceFile, @NonNull FileCoverageData fileData) {
+        int covered = fileData.getCoveredItems();
+        int total = fileData.getTotalItems();
+        PackageNode node = root;
+        node.subtree.add(covered, total);
+
+        int start = 0;
+        int p;
+
+        while ((p = sourceFile.indexOf('/', start)) > 0) {
+            node = node.getOrAddSubPackage(sourceFile.substring(start, p));
+            node.subtree.add(covered, total);
+            start = p + 1;
+        }
+
+        node.ownFiles.add(covered, total);
+        packages.put(node.ownFiles.name, node);
+
+        Item file = new Item(sourceFile);
+        file.add(covered, total);
+        node.files.put(sourceFile.substring(start), file);
+
+        if (!fileData.wasLoadedAfterTestCompletion()) {
+            int percentage = file.getPercentage();
+
+            if (percentage >= 0 && percentage < smallestPerFilePercentage) {
+                smallestPerFilePercentage = percentage;
+            }
+        }
+    }
+
+    /**
+     * The counts for all source files.
+     */
+    @NonNull
+    public Item getTotal() {
+        return root.subtree;
+    }
+
+    /**
+     * Computes the coverage percentage over a subset of the available source files.
+     *
+     * @param fileNamePrefix
+     *            a prefix for matching the names of the source files to be considered, or <code>null</code> to consider
+     *            <em>all</em> files
+     *
+     * @return the computed percentage from <code>0</code> to <code>100</code> (inclusive), or <code>-1</code> if no
+     *         meaningful value could be computed
+     */
+    public int getPercentage(@Nullable String fileNamePrefix) {
+        if (fileNamePrefix == null) {
+            return root.subtree.getPercentage();
+        }
+
+        PackageNode node = root;
+        int start = 0;
+        int p;
+
+        while ((p = fileNamePrefix.indexOf('/', start)) >= 0) {
+            node = node.subPackages.get(fileNamePrefix.substring(start, p));
+
+            if (node == null) {
+                return -1;
+            }
+
+            start = p + 1;
+        }
+
+        String partialName = fileNamePrefix.substring(start);
+
+        if (partialName.isEmpty()) {
+            return node.subtree.getPercentage();
+        }
+
+        Item matchingItems = new Item(fileNamePrefix);
+
+        for (PackageNode subPackage : withPrefix(node.subPackages, partialName)) {
+            matchingItems.add(subPackage.subtree.coveredItems, subPackage.subtree.totalItems);
+        }
+
+        for (Item file : withPrefix(node.files, partialName)) {
+            matchingItems.add(file.coveredItems, file.totalItems);
+        }
+
+        return matchingItems.getPercentage();
+    }
+
+    @NonNull
+    private static <V> Collection<V> withPrefix(@NonNull NavigableMap<String, V> map, @NonNull String prefix) {
+        String upperBound = prefix.substring(0, prefix.length() - 1) + (char) (prefix.charAt(prefix.length() - 1) + 1);
+        return map.subMap(prefix, true, upperBound, false).values();
+    }
+
+    /**
+     * Finds the source file with the smallest coverage percentage.
+     *
+     * @return the percentage value for the file found, or <code>Integer.MAX_VALUE</code> if no file is found with a
+     *         meaningful percentage
+     */
+    @NonNegative
+    public int getSmallestPerFilePercentage() {
+        return smallestPerFilePercentage;
+    }
+
+    /**
+     * The counts for the source files directly inside each package, in package name order.
+     */
+    @NonNull
+    public List<Item> getPackages() {
+        List<Item> packageItems = new ArrayList<>(packages.size());
+
+        for (PackageNode node : packages.values()) {
+            packageItems.add(node.ownFiles);
+        }
+
+        return packageItems;
+    }
+
+    /**
+     * The counts for the source files directly inside the given package, or <code>null</code> if it has no files.
+     */
+    @Nullable
+    public Item getFilesInPackage(@NonNull String packageName) {
+        PackageNode node = packages.get(packageName);
+        return node == null ? null : node.ownFiles;
+    }
+
+    /**
+     * The counts for each source file directly inside the given package, in file name order.
+     */
+    @NonNull
+    public Collection<Item> getFiles(@NonNull String packageName) {
+        PackageNode node = packages.get(packageName);
+        return node == null ? Collections.<Item> emptyList() : node.files.values();
+    }
+}
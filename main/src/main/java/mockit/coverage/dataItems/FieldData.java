@@ -24,6 +24,13 @@ public abstract class FieldData implements Serializable {
     @Nullable
     Boolean covered;
 
+    /**
+     * The id assigned to this field for the current test run, if any.
+     *
+     * @see PerFileDataCoverage#getFieldIndex(String, boolean)
+     */
+    transient int index;
+
     private void writeObject(@NonNull ObjectOutputStream out) throws IOException {
         isCovered();
         out.defaultWriteObject();
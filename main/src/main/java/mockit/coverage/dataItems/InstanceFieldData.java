@@ -7,62 +7,104 @@ package mockit.coverage.dataItems;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
-import java.util.Collection;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 import mockit.internal.state.TestRun;
+import mockit.internal.util.WeakIdentityMap;
 
 public final class InstanceFieldData extends FieldData {
     private static final long serialVersionUID = 6991762113575259754L;
 
-    @NonNull
-    private final transient Map<Integer, List<Integer>> testIdsToAssignments = new HashMap<>();
+    /**
+     * The owner instances having an assignment to a field which was not read afterwards, in a given test. Instances are
+     * compared by identity and weakly held; each one gets a dense id in the order it was first assigned in the test, so
+     * that the bit set only grows with the number of instances the test assigned the field on.
+     */
+    private static final class UnreadAssignments {
+        @NonNull
+        final WeakIdentityMap<Object, Integer> instanceIds = new WeakIdentityMap<>();
+        @NonNull
+        final List<WeakReference<Object>> instances = new ArrayList<>();
+        @NonNull
+        final BitSet unreadInstanceIds = new BitSet();
+
+        void registerAssignment(@NonNull Object instance) {
+            Integer instanceId = instanceIds.get(instance);
 
-    void registerAssignment(@NonNull Object instance) {
-        List<Integer> dataForRunningTest = getDataForRunningTest();
-        Integer instanceId = System.identityHashCode(instance);
+            if (instanceId == null) {
+                instanceId = instances.size();
+                instanceIds.put(instance, instanceId);
+                instances.add(new WeakReference<>(instance));
+            }
 
-        if (!dataForRunningTest.contains(instanceId)) {
-            dataForRunningTest.add(instanceId);
+            unreadInstanceIds.set(instanceId);
         }
 
-        writeCount++;
+        void registerRead(@NonNull Object instance) {
+            Integer instanceId = instanceIds.get(instance);
+
+            if (instanceId != null) {
+                unreadInstanceIds.clear(instanceId);
+            }
+        }
     }
 
-    void registerRead(@NonNull Object instance) {
-        List<Integer> dataForRunningTest = getDataForRunningTest();
-        Integer instanceId = System.identityHashCode(instance);
+    @NonNull
+    private final transient Map<Integer, UnreadAssignments> testIdsToAssignments = new HashMap<>();
+
+    public synchronized void registerAssignment(@NonNull Object instance) {
+        getDataForRunningTest().registerAssignment(instance);
+        writeCount++;
+    }
 
-        dataForRunningTest.remove(instanceId);
+    public synchronized void registerRead(@NonNull Object instance) {
+        getDataForRunningTest().registerRead(instance);
         readCount++;
     }
 
     @NonNull
-    private List<Integer> getDataForRunningTest() {
+    private UnreadAssignments getDataForRunningTest() {
         int testId = TestRun.getTestId();
-        return testIdsToAssignments.computeIfAbsent(testId, k -> new LinkedList<>());
+        return testIdsToAssignments.computeIfAbsent(testId, k -> new UnreadAssignments());
     }
 
     @Override
-    void markAsCoveredIfNoUnreadValuesAreLeft() {
-        for (List<Integer> unreadInstances : testIdsToAssignments.values()) {
-            if (unreadInstances.isEmpty()) {
+    synchronized void markAsCoveredIfNoUnreadValuesAreLeft() {
+        for (UnreadAssignments assignments : testIdsToAssignments.values()) {
+            if (assignments.unreadInstanceIds.isEmpty()) {
                 covered = true;
                 break;
             }
         }
     }
 
+    /**
+     * @return the identity hash codes of the owner instances still reachable which have an unread assignment, as
+     *         registered in one of the tests which assigned this field, or an empty list if the field is covered
+     */
     @NonNull
-    public List<Integer> getOwnerInstancesWithUnreadAssignments() {
+    public synchronized List<Integer> getOwnerInstancesWithUnreadAssignments() {
         if (isCovered()) {
             return List.of();
         }
 
-        Collection<List<Integer>> assignments = testIdsToAssignments.values();
-        return assignments.iterator().next();
+        UnreadAssignments assignments = testIdsToAssignments.values().iterator().next();
+        BitSet unreadInstanceIds = assignments.unreadInstanceIds;
+        List<Integer> ownerInstances = new ArrayList<>(unreadInstanceIds.cardinality());
+
+        for (int id = unreadInstanceIds.nextSetBit(0); id >= 0; id = unreadInstanceIds.nextSetBit(id + 1)) {
+            Object instance = assignments.instances.get(id).get();
+
+            if (instance != null) {
+                ownerInstances.add(System.identityHashCode(instance));
+            }
+        }
+
+        return ownerInstances;
     }
 }
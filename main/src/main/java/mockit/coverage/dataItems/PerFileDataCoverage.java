@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import mockit.coverage.CoveragePercentage;
+import mockit.coverage.data.CoverageData;
 import mockit.coverage.data.PerFileCoverage;
 
 import org.checkerframework.checker.index.qual.NonNegative;
@@ -38,7 +39,7 @@ public final class PerFileDataCoverage implements PerFileCoverage {
         in.defaultReadObject();
     }
 
-    public void addField(@NonNull String className, @NonNull String fieldName, boolean isStatic) {
+    public synchronized void addField(@NonNull String className, @NonNull String fieldName, boolean isStatic) {
         String classAndField = className + '.' + fieldName;
 
         if (!allFields.contains(classAndField)) {
@@ -52,50 +53,39 @@ public final class PerFileDataCoverage implements PerFileCoverage {
         }
     }
 
-    public boolean isFieldWithCoverageData(@NonNull String classAndFieldNames) {
-        return instanceFieldsData.containsKey(classAndFieldNames) || staticFieldsData.containsKey(classAndFieldNames);
-    }
-
-    public void registerAssignmentToStaticField(@NonNull String classAndFieldNames) {
-        StaticFieldData staticData = getStaticFieldData(classAndFieldNames);
-
-        if (staticData != null) {
-            staticData.registerAssignment();
-        }
-    }
-
     @Nullable
     public StaticFieldData getStaticFieldData(@NonNull String classAndFieldNames) {
         return staticFieldsData.get(classAndFieldNames);
     }
 
-    public void registerReadOfStaticField(@NonNull String classAndFieldNames) {
-        StaticFieldData staticData = getStaticFieldData(classAndFieldNames);
-
-        if (staticData != null) {
-            staticData.registerRead();
-        }
-    }
-
-    public void registerAssignmentToInstanceField(@NonNull Object instance, @NonNull String classAndFieldNames) {
-        InstanceFieldData instanceData = getInstanceFieldData(classAndFieldNames);
-
-        if (instanceData != null) {
-            instanceData.registerAssignment(instance);
-        }
-    }
-
     @Nullable
     public InstanceFieldData getInstanceFieldData(@NonNull String classAndFieldNames) {
         return instanceFieldsData.get(classAndFieldNames);
     }
 
-    public void registerReadOfInstanceField(@NonNull Object instance, @NonNull String classAndFieldNames) {
-        InstanceFieldData instanceData = getInstanceFieldData(classAndFieldNames);
+    /**
+     * Gets the id through which probes for reads and assignments of the given field can find its data, assigning a new
+     * one if needed.
+     *
+     * @return the field id, or <code>-1</code> if the field has no data coverage information of the given kind
+     */
+    public synchronized int getFieldIndex(@NonNull String classAndFieldNames, boolean isStatic) {
+        FieldData fieldData = isStatic ? getStaticFieldData(classAndFieldNames)
+                : getInstanceFieldData(classAndFieldNames);
 
-        if (instanceData != null) {
-            instanceData.registerRead(instance);
+        if (fieldData == null) {
+            return -1;
         }
+
+        CoverageData coverageData = CoverageData.instance();
+        int fieldIndex = fieldData.index;
+
+        if (coverageData.getFieldCount() <= fieldIndex || coverageData.getFieldData(fieldIndex) != fieldData) {
+            fieldIndex = coverageData.addFieldData(fieldData);
+            fieldData.index = fieldIndex;
+        }
+
+        return fieldIndex;
     }
 
     public boolean hasFields() {
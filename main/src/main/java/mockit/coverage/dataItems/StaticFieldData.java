@@ -18,20 +18,20 @@ public final class StaticFieldData extends FieldData {
     @NonNull
     private final transient Map<Integer, Boolean> testIdsToAssignments = new HashMap<>();
 
-    void registerAssignment() {
+    public synchronized void registerAssignment() {
         int testId = TestRun.getTestId();
         testIdsToAssignments.put(testId, Boolean.TRUE);
         writeCount++;
     }
 
-    void registerRead() {
+    public synchronized void registerRead() {
         int testId = TestRun.getTestId();
         testIdsToAssignments.put(testId, null);
         readCount++;
     }
 
     @Override
-    void markAsCoveredIfNoUnreadValuesAreLeft() {
+    synchronized void markAsCoveredIfNoUnreadValuesAreLeft() {
         for (Boolean withUnreadValue : testIdsToAssignments.values()) {
             if (withUnreadValue == null) {
                 covered = true;
@@ -20,6 +20,11 @@ import mockit.coverage.data.PerFileCoverage;
 
 import org.checkerframework.checker.index.qual.NonNegative;
 
+/**
+ * Line and branch coverage data for a source file. Classes from the same source file can be modified for coverage
+ * concurrently, while code already modified executes, so the methods which add or update data are synchronized on
+ * this object.
+ */
 public final class PerFileLineCoverage implements PerFileCoverage {
     private static final long serialVersionUID = 6318915843739466316L;
     private static final int[] NO_EXECUTIONS_YET = {};
@@ -58,7 +63,7 @@ public final class PerFileLineCoverage implements PerFileCoverage {
         }
     }
 
-    public void addLine(@NonNegative int line) {
+    public synchronized void addLine(@NonNegative int line) {
         if (!lineToLineData.containsKey(line)) {
             lineToLineData.put(line, null);
         }
@@ -79,7 +84,7 @@ public final class PerFileLineCoverage implements PerFileCoverage {
     }
 
     @NonNull
-    public LineCoverageData getOrCreateLineData(@NonNegative int line) {
+    public synchronized LineCoverageData getOrCreateLineData(@NonNegative int line) {
         LineCoverageData lineData = lineToLineData.get(line);
 
         if (lineData == null) {
@@ -91,23 +96,23 @@ public final class PerFileLineCoverage implements PerFileCoverage {
     }
 
     @NonNull
-    public BranchCoverageData getBranchData(@NonNegative int line, @NonNegative int index) {
+    public synchronized BranchCoverageData getBranchData(@NonNegative int line, @NonNegative int index) {
         LineCoverageData lineData = lineToLineData.get(line);
         return lineData.getBranchData(index);
     }
 
-    public void markLastLineSegmentAsEmpty(@NonNegative int line) {
+    public synchronized void markLastLineSegmentAsEmpty(@NonNegative int line) {
         LineCoverageData lineData = lineToLineData.get(line);
         lineData.markLastSegmentAsEmpty();
     }
 
-    public boolean acceptsAdditionalCallPoints(@NonNegative int line) {
+    public synchronized boolean acceptsAdditionalCallPoints(@NonNegative int line) {
         LineCoverageData lineData = getOrCreateLineData(line);
         return lineData.acceptsAdditionalCallPoints();
     }
 
     @NonNegative
-    public int registerExecution(@NonNegative int line, @Nullable CallPoint callPoint) {
+    public synchronized int registerExecution(@NonNegative int line, @Nullable CallPoint callPoint) {
         if (executionCounts == NO_EXECUTIONS_YET) {
             executionCounts = new int[lastLine + 1];
         }
@@ -122,18 +127,19 @@ public final class PerFileLineCoverage implements PerFileCoverage {
         return previousExecutionCount;
     }
 
-    public boolean hasValidBranch(@NonNegative int line, @NonNegative int branchIndex) {
+    public synchronized boolean hasValidBranch(@NonNegative int line, @NonNegative int branchIndex) {
         LineCoverageData lineData = lineToLineData.get(line);
         return lineData.isValidBranch(branchIndex);
     }
 
-    public boolean acceptsAdditionalCallPoints(@NonNegative int line, @NonNegative int branchIndex) {
+    public synchronized boolean acceptsAdditionalCallPoints(@NonNegative int line, @NonNegative int branchIndex) {
         LineCoverageData lineData = lineToLineData.get(line);
         return lineData.acceptsAdditionalCallPoints(branchIndex);
     }
 
     @NonNegative
-    public int registerExecution(@NonNegative int line, @NonNegative int branchIndex, @Nullable CallPoint callPoint) {
+    public synchronized int registerExecution(@NonNegative int line, @NonNegative int branchIndex,
+            @Nullable CallPoint callPoint) {
         LineCoverageData lineData = lineToLineData.get(line);
         return lineData.registerExecution(branchIndex, callPoint);
     }
@@ -164,7 +170,7 @@ public final class PerFileLineCoverage implements PerFileCoverage {
         return data;
     }
 
-    public void markLineAsReachable(@NonNegative int line) {
+    public synchronized void markLineAsReachable(@NonNegative int line) {
         LineCoverageData data = lineToLineData.get(line);
 
         if (data != null) {
@@ -98,15 +98,20 @@ final class CFGTracking {
             jumpTargetsForCurrentLine.add(jumpTarget);
         }
 
-        LineCoverageData lineData = lineCoverageInfo.getOrCreateLineData(currentLine);
-        int sourceBranchIndex = lineData.addBranchingPoint(jumpSource, jumpTarget);
-        pendingBranches.add(sourceBranchIndex);
+        int sourceBranchIndex;
+
+        synchronized (lineCoverageInfo) {
+            LineCoverageData lineData = lineCoverageInfo.getOrCreateLineData(currentLine);
+            sourceBranchIndex = lineData.addBranchingPoint(jumpSource, jumpTarget);
 
-        if (assertFoundInCurrentLine) {
-            BranchCoverageData branchData = lineCoverageInfo.getBranchData(currentLine, sourceBranchIndex + 1);
-            branchData.markAsUnreachable();
+            if (assertFoundInCurrentLine) {
+                BranchCoverageData branchData = lineCoverageInfo.getBranchData(currentLine, sourceBranchIndex + 1);
+                branchData.markAsUnreachable();
+            }
         }
 
+        pendingBranches.add(sourceBranchIndex);
+
         lineExpectingInstructionAfterJump = 0;
         generateCallToRegisterBranchTargetExecutionIfPending(methodModifier);
         lineExpectingInstructionAfterJump = currentLine;
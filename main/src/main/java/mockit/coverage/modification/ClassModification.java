@@ -9,13 +9,17 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 import java.security.ProtectionDomain;
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import mockit.asm.classes.ClassReader;
 
+/**
+ * Modifies classes for coverage as they get loaded. Classes may be loaded, and therefore modified, concurrently by
+ * multiple threads, each one modifying its class independently of the others.
+ */
 public final class ClassModification {
     @NonNull
     private final Set<String> modifiedClasses;
@@ -25,8 +29,8 @@ public final class ClassModification {
     private final ClassSelection classSelection;
 
     public ClassModification() {
-        modifiedClasses = new HashSet<>();
-        protectionDomainsWithUniqueLocations = new ArrayList<>();
+        modifiedClasses = ConcurrentHashMap.newKeySet();
+        protectionDomainsWithUniqueLocations = new CopyOnWriteArrayList<>();
         classSelection = new ClassSelection();
     }
 
@@ -78,7 +82,7 @@ public final class ClassModification {
         }
     }
 
-    private void addProtectionDomainIfHasUniqueNewPath(@NonNull ProtectionDomain newPD) {
+    private synchronized void addProtectionDomainIfHasUniqueNewPath(@NonNull ProtectionDomain newPD) {
         String newPath = newPD.getCodeSource().getLocation().getPath();
 
         for (int i = protectionDomainsWithUniqueLocations.size() - 1; i >= 0; i--) {
@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.coverage.modification;
+
+import static java.util.regex.Pattern.compile;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * A thread-safe predicate on class names, compiled from a comma-separated list of class specifications as given in
+ * the "coverage-classes" and "coverage-excludes" properties.
+ * <p>
+ * A specification containing a backslash is a regular expression; any other is a class name pattern, where "*" stands
+ * for any sequence of characters and "?" or "." for any single character, the latter as it always did for
+ * compatibility. Plain class names and names ending in a single "*", which are the most common specifications, are
+ * matched through a trie of names and prefixes; only the remaining specifications are combined into a regular
+ * expression.
+ */
+final class ClassNameMatcher {
+    private static final Pattern CSV = compile(",");
+    private static final Pattern STAR = compile("\\*");
+
+    private static final class PrefixNode {
+        @NonNull
+        char[] keys = new char[0];
+        @NonNull
+        PrefixNode[] children = new PrefixNode[0];
+        boolean endOfName;
+        boolean endOfPrefix;
+
+        @Nullable
+        PrefixNode getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+
+            return null;
+        }
+
+        @NonNull
+        PrefixNode getOrAddChild(char key) {
+            PrefixNode child = getChild(key);
+
+            if (child == null) {
+                child = new PrefixNode();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                keys[keys.length - 1] = key;
+                children = Arrays.copyOf(children, children.length + 1);
+                children[children.length - 1] = child;
+            }
+
+            return child;
+        }
+    }
+
+    @Nullable
+    private final PrefixNode namesAndPrefixes;
+    @Nullable
+    private final Pattern otherSpecifications;
+
+    private ClassNameMatcher(@Nullable PrefixNode namesAndPrefixes, @Nullable Pattern otherSpecifications) {
+        this.namesAndPrefixes = namesAndPrefixes;
+        this.otherSpecifications = otherSpecifications;
+    }
+
+    /**
+     * Compiles the given specification, returning <code>null</code> if it specifies no classes.
+     */
+    @Nullable
+    static ClassNameMatcher compileSpecification(@NonNull String specification) {
+        if (specification.isEmpty()) {
+            return null;
+        }
+
+        PrefixNode namesAndPrefixes = null;
+        StringBuilder otherRegexes = new StringBuilder();
+
+        for (String spec : CSV.split(specification)) {
+            if (spec.isEmpty()) {
+                continue;
+            }
+
+            if (spec.indexOf('\\') < 0 && isPlainNameOrPrefix(spec)) {
+                if (namesAndPrefixes == null) {
+                    namesAndPrefixes = new PrefixNode();
+                }
+
+                addNameOrPrefix(namesAndPrefixes, spec);
+                continue;
+            }
+
+            String regex = spec;
+
+            if (spec.indexOf('\\') < 0) {
+                regex = STAR.matcher(spec).replaceAll(".*");
+                regex = regex.replace('?', '.');
+            }
+
+            if (otherRegexes.length() > 0) {
+                otherRegexes.append('|');
+            }
+
+            otherRegexes.append(regex);
+        }
+
+        if (namesAndPrefixes == null && otherRegexes.length() == 0) {
+            return null;
+        }
+
+        Pattern otherSpecifications = otherRegexes.length() == 0 ? null : compile(otherRegexes.toString());
+        return new ClassNameMatcher(namesAndPrefixes, otherSpecifications);
+    }
+
+    /**
+     * Checks whether the given class name pattern has no special characters other than an optional trailing "*", so
+     * that it means the same as a plain name or prefix.
+     */
+    private static boolean isPlainNameOrPrefix(@NonNull String spec) {
+        int lastIndex = spec.length() - 1;
+
+        for (int i = 0; i <= lastIndex; i++) {
+            char c = spec.charAt(i);
+
+            if (c == '*' && i == lastIndex) {
+                break;
+            }
+
+            if (c != '.' && c != '_' && !Character.isLetterOrDigit(c)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static void addNameOrPrefix(@NonNull PrefixNode root, @NonNull String spec) {
+        int lastIndex = spec.length() - 1;
+        boolean prefix = spec.charAt(lastIndex) == '*';
+        int length = prefix ? lastIndex : spec.length();
+        PrefixNode node = root;
+
+        for (int i = 0; i < length; i++) {
+            node = node.getOrAddChild(spec.charAt(i));
+        }
+
+        if (prefix) {
+            node.endOfPrefix = true;
+        } else {
+            node.endOfName = true;
+        }
+    }
+
+    boolean matches(@NonNull String className) {
+        if (namesAndPrefixes != null && matchesNameOrPrefix(namesAndPrefixes, className, 0)) {
+            return true;
+        }
+
+        return otherSpecifications != null && otherSpecifications.matcher(className).matches();
+    }
+
+    /**
+     * Walks down the trie from the given node along the remaining characters of the class name, also following the
+     * "." children which stand for any character.
+     */
+    private static boolean matchesNameOrPrefix(@NonNull PrefixNode node, @NonNull String className, int index) {
+        if (node.endOfPrefix) {
+            return true;
+        }
+
+        if (index == className.length()) {
+            return node.endOfName;
+        }
+
+        char c = className.charAt(index);
+        PrefixNode child = node.getChild(c);
+
+        if (child != null && matchesNameOrPrefix(child, className, index + 1)) {
+            return true;
+        }
+
+        PrefixNode anyCharacter = c == '.' ? null : node.getChild('.');
+        return anyCharacter != null && matchesNameOrPrefix(anyCharacter, className, index + 1);
+    }
+}
@@ -5,73 +5,52 @@
  */
 package mockit.coverage.modification;
 
-import static java.util.regex.Pattern.compile;
-
 import static mockit.internal.util.GeneratedClasses.isExternallyGeneratedSubclass;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
+import java.lang.ref.WeakReference;
 import java.net.URL;
 import java.security.CodeSource;
 import java.security.ProtectionDomain;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
 
 import mockit.coverage.Configuration;
 
+/**
+ * Selects the classes to be measured as they get loaded. Selection may be requested concurrently by multiple threads
+ * loading classes.
+ */
 final class ClassSelection {
     private static final String THIS_CLASS_NAME = ClassSelection.class.getName();
     private static final ClassLoader THIS_CLASS_LOADER = ClassSelection.class.getClassLoader();
-    private static final Pattern CSV = compile(",");
-    private static final Pattern DOT = compile("\\.");
-    private static final Pattern STAR = compile("\\*");
-    private static final Pattern TEST_CLASS_NAME = compile(".+Test(\\$.+)?");
 
-    boolean loadedOnly;
-    @Nullable
-    private Matcher classesToInclude;
-    @Nullable
-    private Matcher classesToExclude;
-    @NonNull
-    private final Matcher testCode;
-    private boolean configurationRead;
+    /**
+     * Whether JMockit can be accessed from classes defined by a given class loader, for each loader checked so far;
+     * replaced as a whole when a loader is added, so that it can be read without locking.
+     */
+    private static volatile LoaderAccess[] loadersChecked = {};
 
-    ClassSelection() {
-        testCode = TEST_CLASS_NAME.matcher("");
-    }
+    private static final class LoaderAccess {
+        @NonNull
+        final WeakReference<ClassLoader> loader;
+        final boolean canAccessJMockit;
 
-    @Nullable
-    private static Matcher newMatcherForClassSelection(@NonNull String specification) {
-        if (specification.isEmpty()) {
-            return null;
+        LoaderAccess(@NonNull ClassLoader loader, boolean canAccessJMockit) {
+            this.loader = new WeakReference<>(loader);
+            this.canAccessJMockit = canAccessJMockit;
         }
-
-        String[] specs = CSV.split(specification);
-        StringBuilder finalRegexBuilder = new StringBuilder();
-        String sep = "";
-
-        for (String spec : specs) {
-            String regex = null;
-
-            if (spec.indexOf('\\') >= 0) {
-                regex = spec;
-            } else if (!spec.isEmpty()) {
-                regex = DOT.matcher(spec).replaceAll("\\.");
-                regex = STAR.matcher(regex).replaceAll(".*");
-                regex = regex.replace('?', '.');
-            }
-
-            if (regex != null) {
-                finalRegexBuilder.append(sep).append(regex);
-                sep = "|";
-            }
-        }
-
-        String finalRegex = finalRegexBuilder.toString();
-        return finalRegex.isEmpty() ? null : compile(finalRegex).matcher("");
     }
 
+    volatile boolean loadedOnly;
+    @Nullable
+    private ClassNameMatcher classesToInclude;
+    @Nullable
+    private ClassNameMatcher classesToExclude;
+    private volatile boolean configurationRead;
+
     boolean isSelected(@NonNull String className, @NonNull ProtectionDomain protectionDomain) {
         CodeSource codeSource = protectionDomain.getCodeSource();
 
@@ -94,8 +73,10 @@ final class ClassSelection {
             return false;
         }
 
-        if (classesToInclude != null) {
-            return classesToInclude.reset(className).matches();
+        ClassNameMatcher includes = classesToInclude;
+
+        if (includes != null) {
+            return includes.matches(className);
         }
 
         return !isClassFromExternalLibrary(location);
@@ -111,15 +92,47 @@ final class ClassSelection {
     private static boolean canAccessJMockitFromClassToBeMeasured(@NonNull ProtectionDomain protectionDomain) {
         ClassLoader loaderOfClassToBeMeasured = protectionDomain.getClassLoader();
 
-        if (loaderOfClassToBeMeasured != null) {
-            try {
-                Class<?> thisClass = loaderOfClassToBeMeasured.loadClass(THIS_CLASS_NAME);
-                return thisClass == ClassSelection.class;
-            } catch (ClassNotFoundException ignore) {
+        if (loaderOfClassToBeMeasured == null) {
+            return false;
+        }
+
+        for (LoaderAccess loaderChecked : loadersChecked) {
+            if (loaderChecked.loader.get() == loaderOfClassToBeMeasured) {
+                return loaderChecked.canAccessJMockit;
             }
         }
 
-        return false;
+        boolean canAccessJMockit = canLoadThisClass(loaderOfClassToBeMeasured);
+        addLoaderChecked(loaderOfClassToBeMeasured, canAccessJMockit);
+        return canAccessJMockit;
+    }
+
+    private static boolean canLoadThisClass(@NonNull ClassLoader loaderOfClassToBeMeasured) {
+        try {
+            Class<?> thisClass = loaderOfClassToBeMeasured.loadClass(THIS_CLASS_NAME);
+            return thisClass == ClassSelection.class;
+        } catch (ClassNotFoundException ignore) {
+            return false;
+        }
+    }
+
+    private static synchronized void addLoaderChecked(@NonNull ClassLoader loader, boolean canAccessJMockit) {
+        List<LoaderAccess> loaders = new ArrayList<>(loadersChecked.length + 1);
+
+        for (LoaderAccess loaderChecked : loadersChecked) {
+            ClassLoader previousLoader = loaderChecked.loader.get();
+
+            if (previousLoader == loader) {
+                return;
+            }
+
+            if (previousLoader != null) {
+                loaders.add(loaderChecked);
+            }
+        }
+
+        loaders.add(new LoaderAccess(loader, canAccessJMockit));
+        loadersChecked = loaders.toArray(new LoaderAccess[0]);
     }
 
     @Nullable
@@ -140,8 +153,26 @@ final class ClassSelection {
     }
 
     private boolean isClassExcludedFromCoverage(@NonNull String className) {
-        return classesToExclude != null && classesToExclude.reset(className).matches()
-                || testCode.reset(className).matches();
+        ClassNameMatcher excludes = classesToExclude;
+        return excludes != null && excludes.matches(className) || isTestClassName(className);
+    }
+
+    /**
+     * Checks whether the given class is a test class or is nested in one, that is, whether its name matches
+     * <code>.+Test(\$.+)?</code>.
+     */
+    static boolean isTestClassName(@NonNull String className) {
+        int length = className.length();
+
+        for (int i = className.indexOf("Test", 1); i > 0; i = className.indexOf("Test", i + 1)) {
+            int end = i + 4;
+
+            if (end == length || className.charAt(end) == '$' && end + 1 < length) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     private static boolean isClassFromExternalLibrary(@NonNull URL location) {
@@ -153,14 +184,19 @@ final class ClassSelection {
         return path.endsWith(".jar") || path.endsWith("/.cp/") || path.endsWith("/test-classes/");
     }
 
-    private void readConfiguration() {
+    private synchronized void readConfiguration() {
+        if (configurationRead) {
+            return;
+        }
+
         String classes = Configuration.getProperty("classes", "");
-        loadedOnly = "loaded".equals(classes);
-        classesToInclude = loadedOnly ? null : newMatcherForClassSelection(classes);
+        boolean onlyLoaded = "loaded".equals(classes);
+        classesToInclude = onlyLoaded ? null : ClassNameMatcher.compileSpecification(classes);
 
         String excludes = Configuration.getProperty("excludes", "");
-        classesToExclude = newMatcherForClassSelection(excludes);
+        classesToExclude = ClassNameMatcher.compileSpecification(excludes);
 
+        loadedOnly = onlyLoaded;
         configurationRead = true;
     }
 }
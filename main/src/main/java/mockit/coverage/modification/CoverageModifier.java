@@ -17,8 +17,8 @@ import static mockit.asm.jvmConstants.Access.SYNTHETIC;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import mockit.asm.classes.ClassInfo;
 import mockit.asm.classes.ClassReader;
@@ -32,7 +32,11 @@ import mockit.coverage.data.FileCoverageData;
 import mockit.internal.ClassFile;
 
 final class CoverageModifier extends WrappingClassVisitor {
-    private static final Map<String, CoverageModifier> INNER_CLASS_MODIFIERS = new HashMap<>();
+    /**
+     * Modifiers of inner classes already modified along with their outer classes, until the inner classes get loaded;
+     * outer classes may be modified concurrently by different class loading threads.
+     */
+    private static final Map<String, CoverageModifier> INNER_CLASS_MODIFIERS = new ConcurrentHashMap<>();
     private static final int FIELD_MODIFIERS_TO_IGNORE = FINAL + SYNTHETIC;
 
     @Nullable
@@ -170,19 +174,19 @@ final class CoverageModifier extends WrappingClassVisitor {
             return;
         }
 
-        String innerClassName = name.replace('/', '.');
+        // The inner class gets modified at most once, by the thread registering its modifier; a thread loading the
+        // inner class meanwhile waits for the modification to be complete when recovering it.
+        INNER_CLASS_MODIFIERS.computeIfAbsent(name.replace('/', '.'), innerClassName -> {
+            ClassReader innerCR = ClassFile.createClassReader(CoverageModifier.class.getClassLoader(), name);
 
-        if (INNER_CLASS_MODIFIERS.containsKey(innerClassName)) {
-            return;
-        }
-
-        ClassReader innerCR = ClassFile.createClassReader(CoverageModifier.class.getClassLoader(), name);
+            if (innerCR == null) {
+                return null;
+            }
 
-        if (innerCR != null) {
             CoverageModifier innerClassModifier = new CoverageModifier(innerCR, this, innerName);
             innerCR.accept(innerClassModifier);
-            INNER_CLASS_MODIFIERS.put(innerClassName, innerClassModifier);
-        }
+            return innerClassModifier;
+        });
     }
 
     private static boolean isSyntheticOrEnumClass(int access) {
@@ -216,6 +220,6 @@ final class CoverageModifier extends WrappingClassVisitor {
             return mw;
         }
 
-        return new MethodModifier(mw, sourceFileName, fileData);
+        return new MethodModifier(mw, fileData);
     }
 }
@@ -42,8 +42,6 @@ import org.checkerframework.checker.index.qual.NonNegative;
 final class MethodModifier extends WrappingMethodVisitor {
     private static final String DATA_RECORDING_CLASS = "mockit/coverage/TestRun";
 
-    @NonNull
-    private final String sourceFileName;
     @NonNull
     private final FileCoverageData fileData;
     @NonNull
@@ -54,9 +52,8 @@ final class MethodModifier extends WrappingMethodVisitor {
     @NonNegative
     int currentLine;
 
-    MethodModifier(@NonNull MethodWriter mw, @NonNull String sourceFileName, @NonNull FileCoverageData fileData) {
+    MethodModifier(@NonNull MethodWriter mw, @NonNull FileCoverageData fileData) {
         super(mw);
-        this.sourceFileName = sourceFileName;
         this.fileData = fileData;
         lineCoverageInfo = fileData.getLineCoverageData();
         cfgTracking = new CFGTracking(lineCoverageInfo);
@@ -136,7 +133,9 @@ final class MethodModifier extends WrappingMethodVisitor {
         }
 
         if (isReturn && !foundInterestingInstruction && cfgTracking.hasOnlyOneLabelBeingVisited()) {
-            lineCoverageInfo.getOrCreateLineData(currentLine).markAsUnreachable();
+            synchronized (lineCoverageInfo) {
+                lineCoverageInfo.getOrCreateLineData(currentLine).markAsUnreachable();
+            }
         } else {
             cfgTracking.beforeNoOperandInstruction(this, opcode);
         }
@@ -176,14 +175,13 @@ final class MethodModifier extends WrappingMethodVisitor {
         boolean isStatic = opcode == PUTSTATIC || opcode == GETSTATIC;
         char fieldType = desc.charAt(0);
         boolean size2 = fieldType == 'J' || fieldType == 'D';
-        String classAndFieldNames = null;
-        boolean fieldHasData = false;
+        int fieldIndex = -1;
 
         if (!owner.startsWith("java/")) {
-            classAndFieldNames = owner.substring(owner.lastIndexOf('/') + 1) + '.' + name;
-            fieldHasData = fileData.dataCoverageInfo.isFieldWithCoverageData(classAndFieldNames);
+            String classAndFieldNames = owner.substring(owner.lastIndexOf('/') + 1) + '.' + name;
+            fieldIndex = fileData.dataCoverageInfo.getFieldIndex(classAndFieldNames, isStatic);
 
-            if (fieldHasData && !isStatic) {
+            if (fieldIndex >= 0 && !isStatic) {
                 generateCodeToSaveInstanceReferenceOnTheStack(getField, size2);
             }
         }
@@ -195,8 +193,8 @@ final class MethodModifier extends WrappingMethodVisitor {
             cfgTracking.registerAssertFoundInCurrentLine();
         }
 
-        if (fieldHasData) {
-            generateCallToRegisterFieldCoverage(getField, isStatic, size2, classAndFieldNames);
+        if (fieldIndex >= 0) {
+            generateCallToRegisterFieldCoverage(getField, isStatic, size2, fieldIndex);
         }
     }
 
@@ -220,7 +218,7 @@ final class MethodModifier extends WrappingMethodVisitor {
     }
 
     private void generateCallToRegisterFieldCoverage(boolean getField, boolean isStatic, boolean size2,
-            @NonNull String classAndFieldNames) {
+            @NonNegative int fieldIndex) {
         if (!isStatic && getField) {
             if (size2) {
                 mw.visitInsn(DUP2_X1);
@@ -231,12 +229,14 @@ final class MethodModifier extends WrappingMethodVisitor {
             }
         }
 
-        mw.visitLdcInsn(sourceFileName);
-        mw.visitLdcInsn(classAndFieldNames);
+        if (fieldIndex <= Short.MAX_VALUE) {
+            mw.visitIntInsn(SIPUSH, fieldIndex);
+        } else {
+            mw.visitLdcInsn(fieldIndex);
+        }
 
         String methodToCall = getField ? "fieldRead" : "fieldAssigned";
-        String methodDesc = isStatic ? "(Ljava/lang/String;Ljava/lang/String;)V"
-                : "(Ljava/lang/Object;Ljava/lang/String;Ljava/lang/String;)V";
+        String methodDesc = isStatic ? "(I)V" : "(Ljava/lang/Object;I)V";
 
         mw.visitMethodInsn(INVOKESTATIC, DATA_RECORDING_CLASS, methodToCall, methodDesc, false);
     }
@@ -21,6 +21,7 @@ import java.util.Set;
 
 import mockit.coverage.Configuration;
 import mockit.coverage.data.CoverageData;
+import mockit.coverage.data.CoverageSummary;
 import mockit.coverage.data.FileCoverageData;
 import mockit.coverage.reporting.packages.IndexPage;
 import mockit.coverage.reporting.sourceFiles.FileCoverageReport;
@@ -42,6 +43,8 @@ public final class CoverageReport {
     @NonNull
     private final Map<String, FileCoverageData> fileToFileData;
     @NonNull
+    private final CoverageSummary summary;
+    @NonNull
     private final Map<String, List<String>> packageToFiles;
     private final boolean withCallPoints;
     @Nullable
@@ -53,6 +56,7 @@ public final class CoverageReport {
         this.outputDirCreated = outputDirCreated;
         sourceDirs = srcDirs == null ? null : new SourceFiles().buildListOfSourceDirectories(srcDirs);
         fileToFileData = coverageData.getFileToFileData();
+        summary = coverageData.getSummary();
         packageToFiles = new HashMap<>();
         this.withCallPoints = withCallPoints;
         sourceFilesNotFound = srcDirs == null ? null : new ArrayList<>();
@@ -76,7 +80,7 @@ public final class CoverageReport {
         generateFileCoverageReportsWhileBuildingPackageLists();
 
         new StaticFiles(outputDir).copyToOutputDir(withSourceFilePages);
-        new IndexPage(outputFile, sourceDirs, sourceFilesNotFound, packageToFiles, fileToFileData).generate();
+        new IndexPage(outputFile, sourceDirs, sourceFilesNotFound, packageToFiles, fileToFileData, summary).generate();
 
         logger.info("JMockit: Coverage report written to {}", outputFile.getParentFile().getCanonicalPath());
     }
@@ -15,11 +15,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import mockit.coverage.CoveragePercentage;
+import mockit.coverage.data.CoverageSummary;
 import mockit.coverage.data.FileCoverageData;
 import mockit.coverage.reporting.OutputFile;
 import mockit.coverage.testRedundancy.TestCoverage;
@@ -32,7 +31,7 @@ public final class IndexPage extends ListWithFilesAndPercentages {
     @NonNull
     private final Map<String, List<String>> packageToFiles;
     @NonNull
-    private final Map<String, Integer> packageToPackagePercentages;
+    private final CoverageSummary summary;
     @NonNull
     private final PackageCoverageReport packageReport;
     @NonNegative
@@ -40,11 +39,12 @@ public final class IndexPage extends ListWithFilesAndPercentages {
 
     public IndexPage(@NonNull File outputFile, @Nullable List<File> sourceDirs,
             @Nullable Collection<String> sourceFilesNotFound, @NonNull Map<String, List<String>> packageToFiles,
-            @NonNull Map<String, FileCoverageData> fileToFileData) throws IOException {
+            @NonNull Map<String, FileCoverageData> fileToFileData, @NonNull CoverageSummary summary)
+            throws IOException {
         super(new OutputFile(outputFile), "    ");
         this.sourceDirs = sourceDirs;
         this.packageToFiles = packageToFiles;
-        packageToPackagePercentages = new HashMap<>();
+        this.summary = summary;
         packageReport = new PackageCoverageReport(output, sourceFilesNotFound, fileToFileData, packageToFiles.values());
         totalFileCount = totalNumberOfSourceFilesWithCoverageData(fileToFileData.values());
     }
@@ -164,10 +164,7 @@ public final class IndexPage extends ListWithFilesAndPercentages {
         output.println("    <tr class='total'>");
         output.println("      <td>Total</td><td>&nbsp;</td>");
 
-        int covered = coveredItems;
-        int total = totalItems;
-        int percentage = CoveragePercentage.calculate(covered, total);
-        printCoveragePercentage(covered, total, percentage);
+        printCoveragePercentage(summary.getTotal());
 
         output.println("    </tr>");
     }
@@ -207,8 +204,6 @@ public final class IndexPage extends ListWithFilesAndPercentages {
         List<String> fileNames = packageToFiles.get(packageName);
         packageReport.writeMetricsForEachFile(packageName, fileNames);
 
-        recordCoverageInformationForPackage(packageName);
-
         printIndent();
         output.println("    </table>");
         printIndent();
@@ -218,16 +213,6 @@ public final class IndexPage extends ListWithFilesAndPercentages {
         output.println("  </td>");
     }
 
-    private void recordCoverageInformationForPackage(@NonNull String packageName) {
-        int coveredInPackage = packageReport.coveredItems;
-        int totalInPackage = packageReport.totalItems;
-        int packagePercentage = CoveragePercentage.calculate(coveredInPackage, totalInPackage);
-
-        totalItems += totalInPackage;
-        coveredItems += coveredInPackage;
-        packageToPackagePercentages.put(packageName, packagePercentage);
-    }
-
     private void writeInitiallyHiddenSourceFileCount(@NonNegative int fileCount) {
         output.write("    <span>(");
         output.print(fileCount);
@@ -235,14 +220,15 @@ public final class IndexPage extends ListWithFilesAndPercentages {
     }
 
     private void writeCoveragePercentageForPackage(@NonNull String packageName) {
-        int filePercentage = packageToPackagePercentages.get(packageName);
-        printCoveragePercentage(packageReport.coveredItems, packageReport.totalItems, filePercentage);
+        CoverageSummary.Item packageItems = summary.getFilesInPackage(packageName);
+        assert packageItems != null;
+        printCoveragePercentage(packageItems);
     }
 
     private void writeListOfRedundantTestsIfAny() {
         TestCoverage testCoverage = TestCoverage.INSTANCE;
 
-        if (testCoverage == null) {
+        if (testCoverage == null || !testCoverage.isWithRedundancy()) {
             return;
         }
 
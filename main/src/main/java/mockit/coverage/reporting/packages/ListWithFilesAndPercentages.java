@@ -13,6 +13,7 @@ import java.util.Comparator;
 import java.util.List;
 
 import mockit.coverage.CoveragePercentage;
+import mockit.coverage.data.CoverageSummary;
 
 import org.checkerframework.checker.index.qual.NonNegative;
 
@@ -21,10 +22,6 @@ abstract class ListWithFilesAndPercentages {
     protected final PrintWriter output;
     @NonNull
     private final String baseIndent;
-    @NonNegative
-    int totalItems;
-    @NonNegative
-    int coveredItems;
 
     ListWithFilesAndPercentages(@NonNull PrintWriter output, @NonNull String baseIndent) {
         this.output = output;
@@ -37,8 +34,6 @@ abstract class ListWithFilesAndPercentages {
         }
 
         fileNames.sort(Comparator.naturalOrder());
-        totalItems = 0;
-        coveredItems = 0;
 
         for (String fileName : fileNames) {
             writeMetricsForFile(packageName, fileName);
@@ -61,6 +56,10 @@ abstract class ListWithFilesAndPercentages {
 
     protected abstract void writeMetricsForFile(@Nullable String packageName, @NonNull String fileName);
 
+    final void printCoveragePercentage(@NonNull CoverageSummary.Item items) {
+        printCoveragePercentage(items.getCoveredItems(), items.getTotalItems(), items.getPercentage());
+    }
+
     final void printCoveragePercentage(@NonNegative int covered, @NonNegative int total, int percentage) {
         printIndent();
         output.write("  <td ");
@@ -99,10 +99,6 @@ final class PackageCoverageReport extends ListWithFilesAndPercentages {
         int percentage = coverageInfo.getCoveragePercentage();
         int covered = coverageInfo.getCoveredItems();
         int total = coverageInfo.getTotalItems();
-
-        coveredItems += covered;
-        totalItems += total;
-
         printCoveragePercentage(covered, total, percentage);
     }
 }
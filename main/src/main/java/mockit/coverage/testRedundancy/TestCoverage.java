@@ -10,6 +10,8 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,24 +22,46 @@ import mockit.coverage.Configuration;
 import org.checkerframework.checker.index.qual.NonNegative;
 
 public final class TestCoverage {
+    private static final BitSet[] NO_LINES = {};
+
     @Nullable
     public static final TestCoverage INSTANCE;
 
     static {
-        INSTANCE = "true".equals(Configuration.getProperty("redundancy")) ? new TestCoverage() : null;
+        boolean withRedundancy = "true".equals(Configuration.getProperty("redundancy"));
+        boolean withLinesPerTest = TestImpactIndex.isOutputFormatSelected(TestImpactIndex.OUTPUT_FORMAT)
+                || TestImpactIndex.isOutputFormatSelected(TestPrioritization.OUTPUT_FORMAT);
+        INSTANCE = withRedundancy || withLinesPerTest ? new TestCoverage(withRedundancy, withLinesPerTest) : null;
     }
 
+    private final boolean withRedundancy;
+    private final boolean withLinesPerTest;
     @NonNull
     private final Map<Method, Integer> testsToItemsCovered = new LinkedHashMap<>();
+    @NonNull
+    private final Map<Method, BitSet[]> testsToLinesCovered = new LinkedHashMap<>();
     @Nullable
     private Method currentTestMethod;
+    @NonNull
+    private BitSet[] linesCoveredByCurrentTest = NO_LINES;
 
-    private TestCoverage() {
+    private TestCoverage(boolean withRedundancy, boolean withLinesPerTest) {
+        this.withRedundancy = withRedundancy;
+        this.withLinesPerTest = withLinesPerTest;
+    }
+
+    public boolean isWithRedundancy() {
+        return withRedundancy;
     }
 
     public void setCurrentTestMethod(@Nullable Method testMethod) {
         if (testMethod != null) {
             testsToItemsCovered.put(testMethod, 0);
+
+            if (withLinesPerTest) {
+                BitSet[] linesCovered = testsToLinesCovered.get(testMethod);
+                linesCoveredByCurrentTest = linesCovered == null ? NO_LINES : linesCovered;
+            }
         }
 
         currentTestMethod = testMethod;
@@ -50,6 +74,43 @@ public final class TestCoverage {
         }
     }
 
+    /**
+     * Records a line (or a line segment in it) of the given source file as executed by the current test, in a bitmap
+     * of the lines executed by the test in each source file.
+     */
+    public void recordLineExecutedByTestIfApplicable(@NonNegative int fileIndex, @NonNegative int line) {
+        Method testMethod = currentTestMethod;
+
+        if (!withLinesPerTest || testMethod == null) {
+            return;
+        }
+
+        BitSet[] linesCovered = linesCoveredByCurrentTest;
+
+        if (fileIndex >= linesCovered.length) {
+            linesCovered = Arrays.copyOf(linesCovered, Math.max(fileIndex + 1, 2 * linesCovered.length));
+            linesCoveredByCurrentTest = linesCovered;
+            testsToLinesCovered.put(testMethod, linesCovered);
+        }
+
+        BitSet linesInFile = linesCovered[fileIndex];
+
+        if (linesInFile == null) {
+            linesInFile = new BitSet();
+            linesCovered[fileIndex] = linesInFile;
+        }
+
+        linesInFile.set(line);
+    }
+
+    /**
+     * Gets, for each test which executed any covered line, the lines it executed, indexed by source file index.
+     */
+    @NonNull
+    Map<Method, BitSet[]> getLinesCoveredByTests() {
+        return testsToLinesCovered;
+    }
+
     @NonNull
     public List<Method> getRedundantTests() {
         List<Method> redundantTests = new ArrayList<>();
@@ -0,0 +1,367 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.coverage.testRedundancy;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import mockit.coverage.Configuration;
+import mockit.coverage.data.CoverageData;
+import mockit.coverage.data.FileCoverageData;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An index from each test to the lines of each source file it executed, allowing the selection of the tests affected
+ * by a change. It is generated as a <code>testIndex.txt</code> file when the "test-index" output format is selected,
+ * in the following text format, with the lines executed in each file given as sorted ranges:
+ *
+ * <pre>{@code
+ * test com.example.MyClassTest#doSomething
+ *   com/example/MyClass.java 5-9,12,20-21
+ *   com/example/Helper.java 3-4
+ * test com.example.MyClassTest#doSomethingWith(int,java.lang.String)
+ *   com/example/MyClass.java 30-32
+ * }</pre>
+ */
+public final class TestImpactIndex {
+
+    /** The logger. */
+    private static final Logger logger = LoggerFactory.getLogger(TestImpactIndex.class);
+
+    @NonNull
+    public static final String OUTPUT_FORMAT = "test-index";
+    @NonNull
+    private static final String FILE_NAME = "testIndex.txt";
+    @NonNull
+    private static final String TEST_PREFIX = "test ";
+    @NonNull
+    private static final String FILE_PREFIX = "  ";
+
+    @NonNull
+    private final Map<String, Map<String, BitSet>> testsToLinesCoveredPerFile;
+
+    TestImpactIndex(@NonNull Map<String, Map<String, BitSet>> testsToLinesCoveredPerFile) {
+        this.testsToLinesCoveredPerFile = testsToLinesCoveredPerFile;
+    }
+
+    static boolean isOutputFormatSelected(@NonNull String format) {
+        String outputFormats = Configuration.getProperty("output", "");
+
+        for (String outputFormat : outputFormats.trim().split("\\s*,\\s*|\\s+")) {
+            if (format.equals(outputFormat)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates the index for the tests executed so far, or returns <code>null</code> if lines were not being recorded
+     * per test.
+     */
+    @Nullable
+    public static TestImpactIndex createIfAvailable(@NonNull CoverageData coverageData) {
+        TestCoverage testCoverage = TestCoverage.INSTANCE;
+
+        if (testCoverage == null) {
+            return null;
+        }
+
+        Map<Integer, String> sourceFilesByIndex = new LinkedHashMap<>();
+
+        for (Entry<String, FileCoverageData> fileAndData : coverageData.getFileToFileData().entrySet()) {
+            sourceFilesByIndex.put(fileAndData.getValue().index, fileAndData.getKey());
+        }
+
+        Map<String, Map<String, BitSet>> testsToLines = new LinkedHashMap<>();
+
+        for (Entry<Method, BitSet[]> testAndLines : testCoverage.getLinesCoveredByTests().entrySet()) {
+            Method testMethod = testAndLines.getKey();
+            String testName = getTestName(testMethod);
+            Map<String, BitSet> linesPerFile = testsToLines.computeIfAbsent(testName, k -> new LinkedHashMap<>());
+            BitSet[] linesCovered = testAndLines.getValue();
+
+            for (int fileIndex = 0; fileIndex < linesCovered.length; fileIndex++) {
+                BitSet linesInFile = linesCovered[fileIndex];
+                String sourceFile = sourceFilesByIndex.get(fileIndex);
+
+                if (linesInFile != null && sourceFile != null) {
+                    linesPerFile.computeIfAbsent(sourceFile, k -> new BitSet()).or(linesInFile);
+                }
+            }
+        }
+
+        return new TestImpactIndex(testsToLines);
+    }
+
+    /**
+     * Gets the name by which the given test method is identified in index and order files: the test class name and the
+     * method name separated by "#", followed by the parameter types in parentheses if the method has any, so that
+     * overloaded test methods get distinct names.
+     */
+    @NonNull
+    public static String getTestName(@NonNull Method testMethod) {
+        String testName = testMethod.getDeclaringClass().getName() + '#' + testMethod.getName();
+        Class<?>[] parameterTypes = testMethod.getParameterTypes();
+
+        if (parameterTypes.length == 0) {
+            return testName;
+        }
+
+        StringJoiner parameters = new StringJoiner(",", testName + '(', ")");
+
+        for (Class<?> parameterType : parameterTypes) {
+            parameters.add(parameterType.getTypeName());
+        }
+
+        return parameters.toString();
+    }
+
+    @NonNull
+    public static TestImpactIndex readFromFile(@NonNull File indexFile) throws IOException {
+        Map<String, Map<String, BitSet>> testsToLines = new LinkedHashMap<>();
+        Map<String, BitSet> linesPerFile = null;
+
+        try (BufferedReader input = Files.newBufferedReader(indexFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+
+            while ((line = input.readLine()) != null) {
+                if (line.startsWith(TEST_PREFIX)) {
+                    String testName = line.substring(TEST_PREFIX.length());
+                    linesPerFile = testsToLines.computeIfAbsent(testName, k -> new LinkedHashMap<>());
+                } else if (line.startsWith(FILE_PREFIX) && linesPerFile != null) {
+                    String fileAndLines = line.trim();
+                    int separator = fileAndLines.lastIndexOf(' ');
+                    String sourceFile = fileAndLines.substring(0, separator);
+                    BitSet lines = parseLineRanges(fileAndLines.substring(separator + 1));
+                    linesPerFile.computeIfAbsent(sourceFile, k -> new BitSet()).or(lines);
+                }
+            }
+        }
+
+        return new TestImpactIndex(testsToLines);
+    }
+
+    @NonNull
+    private static BitSet parseLineRanges(@NonNull String ranges) {
+        BitSet lines = new BitSet();
+
+        for (String range : ranges.split(",")) {
+            int dash = range.indexOf('-');
+
+            if (dash < 0) {
+                lines.set(Integer.parseInt(range));
+            } else {
+                lines.set(Integer.parseInt(range.substring(0, dash)), Integer.parseInt(range.substring(dash + 1)) + 1);
+            }
+        }
+
+        return lines;
+    }
+
+    public void writeToFile(@NonNull String outputDir) throws IOException {
+        String parentDir = Configuration.getOrChooseOutputDirectory(outputDir);
+        File outputFile = Path.of(parentDir).resolve(FILE_NAME).toFile();
+
+        try (Writer out = Files.newBufferedWriter(outputFile.toPath(), StandardCharsets.UTF_8)) {
+            for (Entry<String, Map<String, BitSet>> testAndLines : testsToLinesCoveredPerFile.entrySet()) {
+                out.write(TEST_PREFIX);
+                out.write(testAndLines.getKey());
+                out.write('\n');
+
+                for (Entry<String, BitSet> fileAndLines : testAndLines.getValue().entrySet()) {
+                    out.write(FILE_PREFIX);
+                    out.write(fileAndLines.getKey());
+                    out.write(' ');
+                    writeLineRanges(out, fileAndLines.getValue());
+                    out.write('\n');
+                }
+            }
+        }
+
+        logger.info("JMockit: Test impact index written to {}", outputFile.getCanonicalPath());
+    }
+
+    private static void writeLineRanges(@NonNull Writer out, @NonNull BitSet lines) throws IOException {
+        String separator = "";
+
+        for (int first = lines.nextSetBit(0); first >= 0; first = lines.nextSetBit(first)) {
+            int end = lines.nextClearBit(first);
+            out.write(separator);
+            out.write(String.valueOf(first));
+
+            if (end - first > 1) {
+                out.write('-');
+                out.write(String.valueOf(end - 1));
+            }
+
+            separator = ",";
+            first = end;
+        }
+    }
+
+    /**
+     * Gets, for each test in the order they were executed, the lines it executed in each source file.
+     */
+    @NonNull
+    Map<String, Map<String, BitSet>> getLinesCoveredByTests() {
+        return testsToLinesCoveredPerFile;
+    }
+
+    /**
+     * Gets the tests which executed any line of the given source or class files, or which are declared in any of them,
+     * in the order they were executed. Each file is identified by a path ending in its package directory (for example,
+     * <code>src/main/java/com/example/MyClass.java</code> or <code>target/classes/com/example/MyClass$1.class</code>);
+     * class files are mapped to the source file of their top-level class.
+     * <p>
+     * Changed files which are not in the index, such as new source files, are ignored here; callers should check for
+     * them with {@link #getFilesUnknownToIndex(Collection)}, running all tests if there are any.
+     */
+    @NonNull
+    public Set<String> getTestsAffectedByFiles(@NonNull Collection<String> changedFiles) {
+        Set<String> affectedTests = new LinkedHashSet<>();
+
+        for (Entry<String, Map<String, BitSet>> testAndLines : testsToLinesCoveredPerFile.entrySet()) {
+            for (String changedFile : changedFiles) {
+                String sourceFile = toSourceFilePath(changedFile);
+
+                if (isTestAffectedByFile(testAndLines.getKey(), testAndLines.getValue(), sourceFile)) {
+                    affectedTests.add(testAndLines.getKey());
+                    break;
+                }
+            }
+        }
+
+        return affectedTests;
+    }
+
+    /**
+     * Gets those of the given source or class files which no test in the index executed or is declared in, in the
+     * given order. These include new files and any files other than Java sources and classes, whose impact on the tests
+     * can't be determined from the index.
+     */
+    @NonNull
+    public List<String> getFilesUnknownToIndex(@NonNull Collection<String> changedFiles) {
+        List<String> unknownFiles = new ArrayList<>();
+
+        for (String changedFile : changedFiles) {
+            if (!isFileKnownToIndex(toSourceFilePath(changedFile))) {
+                unknownFiles.add(changedFile);
+            }
+        }
+
+        return unknownFiles;
+    }
+
+    private boolean isFileKnownToIndex(@NonNull String sourceFile) {
+        for (Entry<String, Map<String, BitSet>> testAndLines : testsToLinesCoveredPerFile.entrySet()) {
+            if (isTestAffectedByFile(testAndLines.getKey(), testAndLines.getValue(), sourceFile)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isTestAffectedByFile(@NonNull String testName, @NonNull Map<String, BitSet> linesPerFile,
+            @NonNull String sourceFile) {
+        return isSourceFileOfTest(testName, sourceFile) || findCoveredSourceFile(linesPerFile, sourceFile) != null;
+    }
+
+    /**
+     * Checks whether the given source file declares the test class of the given test, which is never measured itself
+     * and so doesn't appear among the files it executed.
+     */
+    private static boolean isSourceFileOfTest(@NonNull String testName, @NonNull String sourceFile) {
+        int methodSeparator = testName.indexOf('#');
+        String testClassName = methodSeparator < 0 ? testName : testName.substring(0, methodSeparator);
+        int nestedClassStart = testClassName.indexOf('$');
+
+        if (nestedClassStart > 0) {
+            testClassName = testClassName.substring(0, nestedClassStart);
+        }
+
+        return isPathOfFile(sourceFile, testClassName.replace('.', '/') + ".java");
+    }
+
+    /**
+     * Gets the tests which executed any of the given lines of a source file, in the order they were executed.
+     */
+    @NonNull
+    public Set<String> getTestsAffectedByLines(@NonNull String changedSourceFile, @NonNull BitSet changedLines) {
+        Set<String> affectedTests = new LinkedHashSet<>();
+        String sourceFile = toSourceFilePath(changedSourceFile);
+
+        for (Entry<String, Map<String, BitSet>> testAndLines : testsToLinesCoveredPerFile.entrySet()) {
+            BitSet linesCovered = findCoveredSourceFile(testAndLines.getValue(), sourceFile);
+
+            if (linesCovered != null && linesCovered.intersects(changedLines)) {
+                affectedTests.add(testAndLines.getKey());
+            }
+        }
+
+        return affectedTests;
+    }
+
+    @NonNull
+    private static String toSourceFilePath(@NonNull String changedFile) {
+        String path = changedFile.replace('\\', '/');
+
+        if (path.endsWith(".class")) {
+            int fileNameStart = path.lastIndexOf('/') + 1;
+            int nestedClassStart = path.indexOf('$', fileNameStart);
+            int end = nestedClassStart > 0 ? nestedClassStart : path.length() - ".class".length();
+            path = path.substring(0, end) + ".java";
+        }
+
+        return path;
+    }
+
+    @Nullable
+    private static BitSet findCoveredSourceFile(@NonNull Map<String, BitSet> linesPerFile, @NonNull String path) {
+        BitSet lines = linesPerFile.get(path);
+
+        if (lines == null) {
+            for (Entry<String, BitSet> fileAndLines : linesPerFile.entrySet()) {
+                if (isPathOfFile(path, fileAndLines.getKey())) {
+                    return fileAndLines.getValue();
+                }
+            }
+        }
+
+        return lines;
+    }
+
+    /**
+     * Checks whether the given path is that of the given file, relative to its package root.
+     */
+    private static boolean isPathOfFile(@NonNull String path, @NonNull String file) {
+        int prefixLength = path.length() - file.length();
+        return path.endsWith(file) && (prefixLength == 0 || path.charAt(prefixLength - 1) == '/');
+    }
+}
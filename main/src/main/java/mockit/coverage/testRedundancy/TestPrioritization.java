@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.coverage.testRedundancy;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+
+import mockit.coverage.Configuration;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Orders the tests of a {@link TestImpactIndex} so that the lines they execute get covered as early as possible, by
+ * repeatedly choosing the test which covers the most lines not yet covered by the tests chosen before it (a greedy
+ * approximation of the minimal set cover). Tests which cover no additional lines come last, in their original order.
+ * <p>
+ * The order is generated as a <code>testOrder.txt</code> file when the "test-order" output format is selected, with
+ * one test per line followed by the number of lines it newly covers and the number of lines covered so far:
+ *
+ * <pre>{@code
+ * com.example.MyClassTest#doSomething 25 25
+ * com.example.OtherTest#doOtherThing 7 32
+ * com.example.MyClassTest#doNothingNew 0 32
+ * }</pre>
+ *
+ * A prefix of that list is the smallest found slice of the test suite reaching the coverage of its last test, and can
+ * be run as a "smoke" suite; <code>mockit.integration.junit5.CoverageOrderer</code> runs JUnit 5 tests in that order.
+ */
+public final class TestPrioritization {
+
+    /** The logger. */
+    private static final Logger logger = LoggerFactory.getLogger(TestPrioritization.class);
+
+    @NonNull
+    public static final String OUTPUT_FORMAT = "test-order";
+    @NonNull
+    public static final String FILE_NAME = "testOrder.txt";
+
+    /**
+     * A test in the computed order.
+     */
+    public static final class PrioritizedTest {
+        @NonNull
+        public final String testName;
+        @NonNegative
+        public final int newlyCoveredLines;
+        @NonNegative
+        public final int totalCoveredLines;
+
+        PrioritizedTest(@NonNull String testName, @NonNegative int newlyCoveredLines,
+                @NonNegative int totalCoveredLines) {
+            this.testName = testName;
+            this.newlyCoveredLines = newlyCoveredLines;
+            this.totalCoveredLines = totalCoveredLines;
+        }
+    }
+
+    @NonNull
+    private final List<PrioritizedTest> prioritizedTests;
+
+    public TestPrioritization(@NonNull TestImpactIndex testImpactIndex) {
+        prioritizedTests = prioritize(testImpactIndex.getLinesCoveredByTests());
+    }
+
+    @NonNull
+    public List<PrioritizedTest> getPrioritizedTests() {
+        return prioritizedTests;
+    }
+
+    @NonNull
+    private static List<PrioritizedTest> prioritize(@NonNull Map<String, Map<String, BitSet>> testsToLines) {
+        int testCount = testsToLines.size();
+        List<String> testNames = new ArrayList<>(testCount);
+        List<Map<String, BitSet>> linesOfEachTest = new ArrayList<>(testCount);
+
+        for (Entry<String, Map<String, BitSet>> testAndLines : testsToLines.entrySet()) {
+            testNames.add(testAndLines.getKey());
+            linesOfEachTest.add(testAndLines.getValue());
+        }
+
+        // Queued tests are [newly covered lines, index], with the largest gain and then the earliest test first.
+        PriorityQueue<int[]> candidates = new PriorityQueue<>(Math.max(1, testCount),
+                (t1, t2) -> t1[0] != t2[0] ? Integer.compare(t2[0], t1[0]) : Integer.compare(t1[1], t2[1]));
+
+        for (int i = 0; i < testCount; i++) {
+            candidates.add(new int[] { countLines(linesOfEachTest.get(i), Collections.emptyMap()), i });
+        }
+
+        Map<String, BitSet> coveredLines = new HashMap<>();
+        List<PrioritizedTest> order = new ArrayList<>(testCount);
+        boolean[] chosen = new boolean[testCount];
+        int totalCovered = 0;
+
+        while (!candidates.isEmpty()) {
+            int[] candidate = candidates.poll();
+            int testIndex = candidate[1];
+            int newlyCovered = countLines(linesOfEachTest.get(testIndex), coveredLines);
+
+            // Gains can only decrease as lines get covered, so an up-to-date gain which still beats the next queued
+            // (possibly stale) gain is the best one.
+            if (newlyCovered == 0 || newlyCovered < candidate[0] && !beatsNext(newlyCovered, testIndex, candidates)) {
+                if (newlyCovered > 0) {
+                    candidate[0] = newlyCovered;
+                    candidates.add(candidate);
+                }
+
+                continue;
+            }
+
+            addLines(linesOfEachTest.get(testIndex), coveredLines);
+            totalCovered += newlyCovered;
+            order.add(new PrioritizedTest(testNames.get(testIndex), newlyCovered, totalCovered));
+            chosen[testIndex] = true;
+        }
+
+        for (int i = 0; i < testCount; i++) {
+            if (!chosen[i]) {
+                order.add(new PrioritizedTest(testNames.get(i), 0, totalCovered));
+            }
+        }
+
+        return order;
+    }
+
+    private static boolean beatsNext(@NonNegative int gain, @NonNegative int testIndex,
+            @NonNull PriorityQueue<int[]> candidates) {
+        int[] next = candidates.peek();
+        return next == null || gain > next[0] || gain == next[0] && testIndex < next[1];
+    }
+
+    @NonNegative
+    private static int countLines(@NonNull Map<String, BitSet> linesOfTest, @NonNull Map<String, BitSet> excluded) {
+        int count = 0;
+
+        for (Entry<String, BitSet> fileAndLines : linesOfTest.entrySet()) {
+            BitSet excludedLines = excluded.get(fileAndLines.getKey());
+            BitSet lines = fileAndLines.getValue();
+
+            if (excludedLines == null) {
+                count += lines.cardinality();
+            } else {
+                BitSet newLines = (BitSet) lines.clone();
+                newLines.andNot(excludedLines);
+                count += newLines.cardinality();
+            }
+        }
+
+        return count;
+    }
+
+    private static void addLines(@NonNull Map<String, BitSet> linesOfTest, @NonNull Map<String, BitSet> covered) {
+        for (Entry<String, BitSet> fileAndLines : linesOfTest.entrySet()) {
+            covered.computeIfAbsent(fileAndLines.getKey(), k -> new BitSet()).or(fileAndLines.getValue());
+        }
+    }
+
+    public void writeToFile(@NonNull String outputDir) throws IOException {
+        String parentDir = Configuration.getOrChooseOutputDirectory(outputDir);
+        File outputFile = Path.of(parentDir).resolve(FILE_NAME).toFile();
+
+        try (Writer out = Files.newBufferedWriter(outputFile.toPath(), StandardCharsets.UTF_8)) {
+            for (PrioritizedTest test : prioritizedTests) {
+                out.write(test.testName);
+                out.write(' ');
+                out.write(String.valueOf(test.newlyCoveredLines));
+                out.write(' ');
+                out.write(String.valueOf(test.totalCoveredLines));
+                out.write('\n');
+            }
+        }
+
+        logger.info("JMockit: Test order written to {}", outputFile.getCanonicalPath());
+    }
+
+    /**
+     * Reads the names of the tests in a previously generated order file, in that order.
+     */
+    @NonNull
+    public static List<String> readTestNamesFromFile(@NonNull File orderFile) throws IOException {
+        List<String> testNames = new ArrayList<>();
+
+        try (BufferedReader input = Files.newBufferedReader(orderFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+
+            while ((line = input.readLine()) != null) {
+                int separator = line.indexOf(' ');
+                String testName = separator < 0 ? line : line.substring(0, separator);
+
+                if (!testName.isEmpty()) {
+                    testNames.add(testName);
+                }
+            }
+        }
+
+        return testNames;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.integration.junit5;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mockit.coverage.Configuration;
+import mockit.coverage.testRedundancy.TestImpactIndex;
+import mockit.coverage.testRedundancy.TestPrioritization;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+
+/**
+ * Orders test classes and test methods according to the <code>testOrder.txt</code> file generated by a previous test
+ * run with the "test-order" coverage output format, so that the tests covering the most code not covered by other tests
+ * run first. Tests not in the file run last, in their default order; without the file, the default order is kept.
+ * <p>
+ * The file is read from the coverage output directory, or from the path given by the
+ * <code>coverage-testOrder</code> system property. This orderer can be selected with
+ * <code>@TestMethodOrder(CoverageOrderer.class)</code>, or for all tests through the
+ * <code>junit.jupiter.testmethod.order.default</code> and <code>junit.jupiter.testclass.order.default</code>
+ * configuration parameters.
+ */
+public final class CoverageOrderer implements MethodOrderer, ClassOrderer {
+    @Nullable
+    private static Map<String, Integer> testRanks;
+
+    @NonNull
+    private static synchronized Map<String, Integer> getTestRanks() {
+        Map<String, Integer> ranks = testRanks;
+
+        if (ranks == null) {
+            ranks = readTestRanks();
+            testRanks = ranks;
+        }
+
+        return ranks;
+    }
+
+    @NonNull
+    private static Map<String, Integer> readTestRanks() {
+        File orderFile = getOrderFile();
+
+        if (!orderFile.isFile()) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            List<String> testNames = TestPrioritization.readTestNamesFromFile(orderFile);
+            Map<String, Integer> ranks = new HashMap<>(testNames.size() * 2);
+            Map<String, Integer> classRanks = new HashMap<>();
+
+            for (int rank = 0; rank < testNames.size(); rank++) {
+                String testName = testNames.get(rank);
+                ranks.putIfAbsent(testName, rank);
+
+                int methodSeparator = testName.indexOf('#');
+
+                if (methodSeparator > 0) {
+                    classRanks.putIfAbsent(testName.substring(0, methodSeparator), rank);
+                }
+            }
+
+            ranks.putAll(classRanks);
+            return ranks;
+        } catch (IOException ignore) {
+            return Collections.emptyMap();
+        }
+    }
+
+    @NonNull
+    private static File getOrderFile() {
+        String orderFile = Configuration.getProperty("testOrder");
+
+        if (orderFile != null) {
+            return Path.of(orderFile).toFile();
+        }
+
+        String outputDir = Configuration.getOrChooseOutputDirectory(Configuration.getProperty("outputDir", ""));
+        Path parentDir = outputDir == null ? Path.of("") : Path.of(outputDir);
+        return parentDir.resolve(TestPrioritization.FILE_NAME).toFile();
+    }
+
+    private static int getRank(@NonNull String testOrClassName) {
+        Integer rank = getTestRanks().get(testOrClassName);
+        return rank == null ? Integer.MAX_VALUE : rank;
+    }
+
+    @Override
+    public void orderMethods(@NonNull MethodOrdererContext context) {
+        context.getMethodDescriptors().sort(Comparator.comparingInt(CoverageOrderer::getMethodRank));
+    }
+
+    private static int getMethodRank(@NonNull MethodDescriptor descriptor) {
+        return getRank(TestImpactIndex.getTestName(descriptor.getMethod()));
+    }
+
+    @Override
+    public void orderClasses(@NonNull ClassOrdererContext context) {
+        context.getClassDescriptors().sort(Comparator.comparingInt(CoverageOrderer::getClassRank));
+    }
+
+    private static int getClassRank(@NonNull ClassDescriptor descriptor) {
+        return getRank(descriptor.getTestClass().getName());
+    }
+}
@@ -16,6 +16,7 @@ import mockit.Capturing;
 import mockit.Injectable;
 import mockit.Mocked;
 import mockit.Tested;
+import mockit.coverage.testRedundancy.TestCoverage;
 import mockit.integration.TestRunnerDecorator;
 import mockit.internal.expectations.RecordAndReplayExecution;
 import mockit.internal.faking.FakeStates;
@@ -123,6 +124,7 @@ public final class JMockitExtension extends TestRunnerDecorator implements Befor
         }
 
         TestRun.prepareForNextTest();
+        exportCurrentTestMethodIfApplicable(context.getTestMethod().orElse(null));
         TestRun.enterNoMockingZone();
 
         try {
@@ -145,6 +147,14 @@ public final class JMockitExtension extends TestRunnerDecorator implements Befor
         }
     }
 
+    private static void exportCurrentTestMethodIfApplicable(@Nullable Method testMethod) {
+        TestCoverage testCoverage = TestCoverage.INSTANCE;
+
+        if (testCoverage != null) {
+            testCoverage.setCurrentTestMethod(testMethod);
+        }
+    }
+
     @Override
     public void beforeTestExecution(@NonNull ExtensionContext context) {
         Class<?> testClass = context.getTestClass().orElse(null);
@@ -260,6 +270,8 @@ public final class JMockitExtension extends TestRunnerDecorator implements Befor
             savePointForTest.rollback();
             savePointForTest = null;
         }
+
+        exportCurrentTestMethodIfApplicable(null);
     }
 
     @Override
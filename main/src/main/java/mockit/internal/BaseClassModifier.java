@@ -12,6 +12,7 @@ import static mockit.asm.jvmConstants.Opcodes.AASTORE;
 import static mockit.asm.jvmConstants.Opcodes.ACONST_NULL;
 import static mockit.asm.jvmConstants.Opcodes.ALOAD;
 import static mockit.asm.jvmConstants.Opcodes.ANEWARRAY;
+import static mockit.asm.jvmConstants.Opcodes.BIPUSH;
 import static mockit.asm.jvmConstants.Opcodes.DUP;
 import static mockit.asm.jvmConstants.Opcodes.GETSTATIC;
 import static mockit.asm.jvmConstants.Opcodes.ICONST_0;
@@ -225,7 +226,7 @@ public class BaseClassModifier extends WrappingClassVisitor {
         if (value == null) {
             mw.visitInsn(ACONST_NULL);
         } else if (value instanceof Integer) {
-            mw.visitIntInsn(SIPUSH, (Integer) value);
+            generateCodeToPushInt((Integer) value);
             mw.visitMethodInsn(INVOKESTATIC, "java/lang/Integer", "valueOf", "(I)Ljava/lang/Integer;", false);
         } else {
             mw.visitLdcInsn(value);
@@ -234,6 +235,22 @@ public class BaseClassModifier extends WrappingClassVisitor {
         mw.visitInsn(AASTORE);
     }
 
+    /**
+     * Generates the shortest instruction which pushes the given int value, using a constant pool entry only for values
+     * which don't fit in 16 bits.
+     */
+    protected final void generateCodeToPushInt(int value) {
+        if (value >= -1 && value <= 5) {
+            mw.visitInsn(ICONST_0 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            mw.visitIntInsn(BIPUSH, value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            mw.visitIntInsn(SIPUSH, value);
+        } else {
+            mw.visitLdcInsn(value);
+        }
+    }
+
     private void pushDefaultValueForType(@NonNull JavaType type) {
         if (type instanceof ArrayType) {
             generateCreationOfEmptyArray((ArrayType) type);
@@ -32,6 +32,11 @@ public abstract class BaseInvocation extends Invocation {
         super(invokedInstance, invokedArguments, invocationCount);
     }
 
+    protected BaseInvocation(@Nullable Object invokedInstance, @NonNull Object[] argumentValues,
+            @NonNegative int firstArgumentIndex, @NonNegative int invocationCount) {
+        super(invokedInstance, argumentValues, firstArgumentIndex, invocationCount);
+    }
+
     @NonNull
     public final Member getRealMember() {
         if (realMember == null) {
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.capturing;
+
+import static mockit.internal.capturing.CapturedType.isNotToBeCaptured;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import mockit.asm.metadata.ClassMetadataReader;
+import mockit.internal.ClassFile;
+import mockit.internal.startup.Startup;
+
+/**
+ * The single <code>ClassFileTransformer</code> shared by all active {@linkplain CaptureTransformer capture
+ * transformers}.
+ * <p>
+ * Each class being loaded is parsed only once, with its super-types (direct and indirect) getting resolved through a
+ * global index which is shared between all captured base types. The class is then handed to each capture transformer
+ * whose base type is one of said super-types, so that the overhead on class loading does not grow with the number of
+ * <code>@Capturing</code> types in use.
+ */
+final class CaptureDispatcher implements ClassFileTransformer {
+    @NonNull
+    private static final CaptureDispatcher INSTANCE = new CaptureDispatcher();
+
+    @NonNull
+    private final List<CaptureTransformer<?>> captureTransformers;
+
+    /**
+     * Maps the internal name of each class or interface searched so far to the internal names of all its super-types,
+     * as far as they need to be searched. Only kept while there is at least one active capture transformer.
+     */
+    @NonNull
+    private final Map<String, Set<String>> superTypesIndex;
+    private boolean registered;
+
+    private CaptureDispatcher() {
+        captureTransformers = new CopyOnWriteArrayList<>();
+        superTypesIndex = new ConcurrentHashMap<>();
+    }
+
+    static void addCaptureTransformer(@NonNull CaptureTransformer<?> transformer) {
+        INSTANCE.captureTransformers.add(transformer);
+
+        if (!INSTANCE.registered) {
+            Startup.instrumentation().addTransformer(INSTANCE, true);
+            INSTANCE.registered = true;
+        }
+    }
+
+    static void removeCaptureTransformer(@NonNull CaptureTransformer<?> transformer) {
+        List<CaptureTransformer<?>> transformers = INSTANCE.captureTransformers;
+        transformers.remove(transformer);
+
+        if (transformers.isEmpty()) {
+            INSTANCE.superTypesIndex.clear();
+        }
+    }
+
+    @Nullable
+    @Override
+    public byte[] transform(@Nullable ClassLoader loader, @Nullable String classDesc,
+            @Nullable Class<?> classBeingRedefined, @Nullable ProtectionDomain protectionDomain,
+            @NonNull byte[] classfileBuffer) {
+        if (classDesc == null || classBeingRedefined != null || captureTransformers.isEmpty()
+                || isNotToBeCaptured(protectionDomain, classDesc)) {
+            return null;
+        }
+
+        Set<String> superTypes = null;
+        byte[] modifiedClassfile = null;
+
+        for (CaptureTransformer<?> transformer : captureTransformers) {
+            if (transformer.isActive()) {
+                if (superTypes == null) {
+                    superTypes = getSuperTypes(loader, classDesc, classfileBuffer);
+                }
+
+                if (superTypes.contains(transformer.capturedTypeDesc)) {
+                    byte[] classfile = modifiedClassfile == null ? classfileBuffer : modifiedClassfile;
+                    modifiedClassfile = transformer.modifyAndRegisterClass(loader, classDesc, classfile);
+                }
+            }
+        }
+
+        return modifiedClassfile;
+    }
+
+    @NonNull
+    private Set<String> getSuperTypes(@Nullable ClassLoader loader, @NonNull String typeDesc,
+            @Nullable byte[] classfile) {
+        Set<String> superTypes = superTypesIndex.get(typeDesc);
+
+        if (superTypes == null) {
+            byte[] classfileBytes = classfile == null ? ClassFile.getClassFile(loader, typeDesc) : classfile;
+            superTypes = findSuperTypes(loader, classfileBytes);
+            superTypesIndex.put(typeDesc, superTypes);
+        }
+
+        return superTypes;
+    }
+
+    @NonNull
+    private Set<String> findSuperTypes(@Nullable ClassLoader loader, @NonNull byte[] classfile) {
+        ClassMetadataReader cmr = new ClassMetadataReader(classfile);
+        String superName = cmr.getSuperClass();
+        String[] interfaces = cmr.getInterfaces();
+        Set<String> superTypes = new HashSet<>();
+
+        if (superName != null) {
+            superTypes.add(superName);
+
+            if (!"java/lang/Object".equals(superName) && !superName.startsWith("mockit/")) {
+                superTypes.addAll(getSuperTypes(loader, superName, null));
+            }
+        }
+
+        if (interfaces != null) {
+            for (String itf : interfaces) {
+                superTypes.add(itf);
+
+                if (!itf.startsWith("java/") && !itf.startsWith("javax/") && !itf.startsWith("jakarta/")) {
+                    superTypes.addAll(getSuperTypes(loader, itf, null));
+                }
+            }
+        }
+
+        return superTypes;
+    }
+}
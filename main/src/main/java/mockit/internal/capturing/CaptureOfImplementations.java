@@ -70,7 +70,7 @@ public abstract class CaptureOfImplementations<M> {
             @Nullable M typeMetadata) {
         CaptureTransformer<M> transformer = new CaptureTransformer<>(captureMetadata, this, registerCapturedClasses,
                 typeMetadata);
-        Startup.instrumentation().addTransformer(transformer, true);
+        CaptureDispatcher.addCaptureTransformer(transformer);
         TestRun.mockFixture().addCaptureTransformer(transformer);
     }
 }
@@ -5,39 +5,37 @@
  */
 package mockit.internal.capturing;
 
-import static mockit.internal.capturing.CapturedType.isNotToBeCaptured;
-
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
-import java.lang.instrument.ClassFileTransformer;
-import java.security.ProtectionDomain;
 import java.util.HashMap;
 import java.util.Map;
 
 import mockit.asm.classes.ClassReader;
 import mockit.asm.classes.ClassVisitor;
-import mockit.asm.metadata.ClassMetadataReader;
 import mockit.asm.types.JavaType;
-import mockit.internal.ClassFile;
 import mockit.internal.ClassIdentification;
 import mockit.internal.startup.Startup;
 import mockit.internal.state.TestRun;
 
-public final class CaptureTransformer<M> implements ClassFileTransformer {
+/**
+ * Modifies the classes which implement or extend a given captured base type, as they get loaded.
+ * <p>
+ * Instances are not registered with the JVM themselves; instead, the single {@link CaptureDispatcher} routes each
+ * class being loaded to all active capture transformers whose base type it extends or implements.
+ */
+public final class CaptureTransformer<M> {
     @NonNull
     private static final Map<ClassIdentification, byte[]> EMPTY_TRANSFORMED_CLASSES = Map.of();
 
     @NonNull
     private final CapturedType capturedType;
     @NonNull
-    private final String capturedTypeDesc;
+    final String capturedTypeDesc;
     @NonNull
     private final CaptureOfImplementations<M> captureOfImplementations;
     @NonNull
     private final Map<ClassIdentification, byte[]> transformedClasses;
-    @NonNull
-    private final Map<String, Boolean> superTypesSearched;
     @Nullable
     private final M typeMetadata;
     private boolean inactive;
@@ -49,12 +47,12 @@ public final class CaptureTransformer<M> implements ClassFileTransformer {
         capturedTypeDesc = JavaType.getInternalName(capturedType.baseType);
         this.captureOfImplementations = captureOfImplementations;
         transformedClasses = registerTransformedClasses ? new HashMap<>(2) : EMPTY_TRANSFORMED_CLASSES;
-        superTypesSearched = new HashMap<>();
         this.typeMetadata = typeMetadata;
     }
 
     public void deactivate() {
         inactive = true;
+        CaptureDispatcher.removeCaptureTransformer(this);
 
         if (!transformedClasses.isEmpty()) {
             for (Map.Entry<ClassIdentification, byte[]> classNameAndOriginalBytecode : transformedClasses.entrySet()) {
@@ -68,80 +66,15 @@ public final class CaptureTransformer<M> implements ClassFileTransformer {
         }
     }
 
-    @Nullable
-    @Override
-    public byte[] transform(@Nullable ClassLoader loader, @NonNull String classDesc,
-            @Nullable Class<?> classBeingRedefined, @Nullable ProtectionDomain protectionDomain,
-            @NonNull byte[] classfileBuffer) {
-        if (classBeingRedefined != null || inactive || isNotToBeCaptured(protectionDomain, classDesc)) {
-            return null;
-        }
-
-        if (isClassToBeCaptured(loader, classfileBuffer)) {
-            String className = classDesc.replace('/', '.');
-            ClassReader cr = new ClassReader(classfileBuffer);
-            return modifyAndRegisterClass(loader, className, cr);
-        }
-
-        return null;
-    }
-
-    private boolean isClassToBeCaptured(@Nullable ClassLoader loader, @NonNull byte[] classfileBuffer) {
-        ClassMetadataReader cmr = new ClassMetadataReader(classfileBuffer);
-        String superName = cmr.getSuperClass();
-
-        if (capturedTypeDesc.equals(superName)) {
-            return true;
-        }
-
-        String[] interfaces = cmr.getInterfaces();
-
-        if (interfaces != null && isClassWhichImplementsACapturingInterface(interfaces)) {
-            return true;
-        }
-
-        return superName != null && searchSuperTypes(loader, superName, interfaces);
-    }
-
-    private boolean isClassWhichImplementsACapturingInterface(@NonNull String[] interfaces) {
-        for (String implementedInterface : interfaces) {
-            if (capturedTypeDesc.equals(implementedInterface)) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    private boolean searchSuperTypes(@Nullable ClassLoader loader, @NonNull String superName,
-            @Nullable String[] interfaces) {
-        if (!"java/lang/Object".equals(superName) && !superName.startsWith("mockit/")
-                && searchSuperType(loader, superName)) {
-            return true;
-        }
-
-        if (interfaces != null && interfaces.length > 0) {
-            for (String itf : interfaces) {
-                if (!itf.startsWith("java/") && !itf.startsWith("javax/") && !itf.startsWith("jakarta/")
-                        && searchSuperType(loader, itf)) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
-    }
-
-    private boolean searchSuperType(@Nullable ClassLoader loader, @NonNull String superName) {
-        return superTypesSearched.computeIfAbsent(superName, name -> {
-            byte[] classfileBytes = ClassFile.getClassFile(loader, name);
-            return isClassToBeCaptured(loader, classfileBytes);
-        });
+    boolean isActive() {
+        return !inactive;
     }
 
     @NonNull
-    private byte[] modifyAndRegisterClass(@Nullable ClassLoader loader, @NonNull String className,
-            @NonNull ClassReader cr) {
+    byte[] modifyAndRegisterClass(@Nullable ClassLoader loader, @NonNull String classDesc,
+            @NonNull byte[] classfileBuffer) {
+        String className = classDesc.replace('/', '.');
+        ClassReader cr = new ClassReader(classfileBuffer);
         ClassVisitor modifier = captureOfImplementations.createModifier(loader, cr, capturedType.baseType,
                 typeMetadata);
         cr.accept(modifier);
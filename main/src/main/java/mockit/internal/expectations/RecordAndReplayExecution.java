@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
 
 import mockit.Expectations;
+import mockit.internal.expectations.invocation.DeferredDelegateCall;
 import mockit.internal.expectations.invocation.ExpectedInvocation;
 import mockit.internal.expectations.mocking.CaptureOfNewInstances;
 import mockit.internal.expectations.mocking.FieldTypeRedefinitions;
@@ -149,6 +150,7 @@ public final class RecordAndReplayExecution {
         }
 
         boolean isConstructor = mock != null && mockDesc.startsWith("<init>");
+        Object result;
         RECORD_OR_REPLAY_LOCK.lock();
 
         try {
@@ -158,10 +160,14 @@ public final class RecordAndReplayExecution {
                 return instance.getResultForConstructor(mock, executionMode);
             }
 
-            return instance.getResult(mock, mockAccess, classDesc, mockDesc, genericSignature, executionMode, mockArgs);
+            result = instance.getResult(mock, mockAccess, classDesc, mockDesc, genericSignature, executionMode,
+                    mockArgs);
         } finally {
             RECORD_OR_REPLAY_LOCK.unlock();
         }
+
+        // Delegate methods selected as the result are only executed here, so that they never run inside the lock.
+        return DeferredDelegateCall.executeIfDeferred(result);
     }
 
     private static boolean notToBeMocked(@Nullable Object mock, @NonNull String classDesc) {
@@ -9,6 +9,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
 
 public class EqualityMatcher implements ArgumentMatcher<EqualityMatcher> {
     @Nullable
@@ -54,6 +55,70 @@ public class EqualityMatcher implements ArgumentMatcher<EqualityMatcher> {
     }
 
     private static boolean areArraysEqual(@NonNull Object array1, @NonNull Object array2) {
+        Class<?> arrayType = array1.getClass();
+
+        if (arrayType == array2.getClass() && arrayType.getComponentType().isPrimitive()) {
+            return arePrimitiveArraysEqual(array1, array2);
+        }
+
+        if (array1 instanceof Object[] && array2 instanceof Object[]) {
+            return areObjectArraysEqual((Object[]) array1, (Object[]) array2);
+        }
+
+        return areArraysEqualElementByElement(array1, array2);
+    }
+
+    @SuppressWarnings("OverlyComplexMethod")
+    private static boolean arePrimitiveArraysEqual(@NonNull Object array1, @NonNull Object array2) {
+        if (array1 instanceof byte[]) {
+            return Arrays.equals((byte[]) array1, (byte[]) array2);
+        }
+
+        if (array1 instanceof int[]) {
+            return Arrays.equals((int[]) array1, (int[]) array2);
+        }
+
+        if (array1 instanceof char[]) {
+            return Arrays.equals((char[]) array1, (char[]) array2);
+        }
+
+        if (array1 instanceof long[]) {
+            return Arrays.equals((long[]) array1, (long[]) array2);
+        }
+
+        if (array1 instanceof double[]) {
+            return Arrays.equals((double[]) array1, (double[]) array2);
+        }
+
+        if (array1 instanceof boolean[]) {
+            return Arrays.equals((boolean[]) array1, (boolean[]) array2);
+        }
+
+        if (array1 instanceof short[]) {
+            return Arrays.equals((short[]) array1, (short[]) array2);
+        }
+
+        return Arrays.equals((float[]) array1, (float[]) array2);
+    }
+
+    private static boolean areObjectArraysEqual(@NonNull Object[] array1, @NonNull Object[] array2) {
+        int length1 = array1.length;
+
+        if (length1 != array2.length) {
+            return false;
+        }
+
+        for (int i = 0; i < length1; i++) {
+            if (!areEqual(array1[i], array2[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // Arrays of different types, such as "int[]" and "Integer[]", can still have equal elements once boxed.
+    private static boolean areArraysEqualElementByElement(@NonNull Object array1, @NonNull Object array2) {
         int length1 = Array.getLength(array1);
 
         if (length1 != Array.getLength(array2)) {
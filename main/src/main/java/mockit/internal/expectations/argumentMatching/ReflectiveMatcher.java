@@ -8,16 +8,14 @@ package mockit.internal.expectations.argumentMatching;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
-import java.lang.reflect.Method;
-
 import mockit.Delegate;
-import mockit.internal.reflection.MethodReflection;
+import mockit.internal.reflection.BoundHandlerMethod;
 
 public final class ReflectiveMatcher implements ArgumentMatcher<ReflectiveMatcher> {
     @NonNull
     private final Delegate<?> delegate;
     @Nullable
-    private Method handlerMethod;
+    private BoundHandlerMethod handlerMethod;
     @Nullable
     private Object matchedValue;
 
@@ -32,12 +30,15 @@ public final class ReflectiveMatcher implements ArgumentMatcher<ReflectiveMatche
 
     @Override
     public boolean matches(@Nullable Object argValue) {
-        if (handlerMethod == null) {
-            handlerMethod = MethodReflection.findNonPrivateHandlerMethod(delegate);
+        BoundHandlerMethod handler = handlerMethod;
+
+        if (handler == null) {
+            handler = new BoundHandlerMethod(delegate);
+            handlerMethod = handler;
         }
 
         matchedValue = argValue;
-        Boolean result = MethodReflection.invoke(delegate, handlerMethod, argValue);
+        Boolean result = handler.invoke(argValue);
 
         return result == null || result;
     }
@@ -45,7 +46,7 @@ public final class ReflectiveMatcher implements ArgumentMatcher<ReflectiveMatche
     @Override
     public void writeMismatchPhrase(@NonNull ArgumentMismatch argumentMismatch) {
         if (handlerMethod != null) {
-            argumentMismatch.append(handlerMethod.getName()).append('(');
+            argumentMismatch.append(handlerMethod.getMethod().getName()).append('(');
             argumentMismatch.appendFormatted(matchedValue);
             argumentMismatch.append(") (should return true, was false)");
         } else {
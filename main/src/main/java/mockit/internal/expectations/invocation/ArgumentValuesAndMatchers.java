@@ -28,6 +28,15 @@ abstract class ArgumentValuesAndMatchers {
     @Nullable
     List<ArgumentMatcher<?>> matchers;
 
+    /**
+     * One element per argument to be checked, holding the matcher for the argument, or <code>null</code> if it is to
+     * be compared for equality with the corresponding value. Built from {@link #matchers} and {@link #values} on the
+     * first match attempt, and discarded whenever either of them is replaced.
+     */
+    @Nullable
+    private ArgumentMatcher<?>[] compiledMatchers;
+    private boolean matchingAnyArguments;
+
     ArgumentValuesAndMatchers(@NonNull InvocationArguments signature, @NonNull Object[] values) {
         this.signature = signature;
         this.values = values;
@@ -48,6 +57,17 @@ abstract class ArgumentValuesAndMatchers {
     final void setValuesAndMatchers(@NonNull Object[] argsToVerify, @Nullable List<ArgumentMatcher<?>> matchersToUse) {
         values = argsToVerify;
         matchers = matchersToUse;
+        compiledMatchers = null;
+    }
+
+    final void setValues(@NonNull Object[] newValues) {
+        values = newValues;
+        compiledMatchers = null;
+    }
+
+    final void setMatchers(@Nullable List<ArgumentMatcher<?>> newMatchers) {
+        matchers = newMatchers;
+        compiledMatchers = null;
     }
 
     @Nullable
@@ -65,6 +85,39 @@ abstract class ArgumentValuesAndMatchers {
         return matcher;
     }
 
+    /**
+     * Gets the matchers to be applied to the first <code>argumentCount</code> arguments, compiling them if needed.
+     * Only to be called when {@link #matchers} is not null.
+     */
+    @NonNull
+    final ArgumentMatcher<?>[] getCompiledMatchers(@NonNegative int argumentCount) {
+        ArgumentMatcher<?>[] compiled = compiledMatchers;
+
+        if (compiled == null) {
+            compiled = new ArgumentMatcher<?>[argumentCount];
+            boolean anyArguments = true;
+
+            for (int i = 0; i < argumentCount; i++) {
+                ArgumentMatcher<?> matcher = getArgumentMatcher(i);
+                compiled[i] = matcher;
+                anyArguments &= matcher == AlwaysTrueMatcher.ANY_VALUE;
+            }
+
+            matchingAnyArguments = anyArguments;
+            compiledMatchers = compiled;
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Whether every argument is matched by {@link AlwaysTrueMatcher#ANY_VALUE}, according to the last call to
+     * {@link #getCompiledMatchers(int)}.
+     */
+    final boolean isMatchingAnyArguments() {
+        return matchingAnyArguments;
+    }
+
     abstract boolean isMatch(@NonNull Object[] replayArgs, @NonNull Map<Object, Object> instanceMap);
 
     static boolean areEqual(@NonNull Object[] expectedValues, @NonNull Object[] actualValues, @NonNegative int count,
@@ -78,7 +131,7 @@ abstract class ArgumentValuesAndMatchers {
         return true;
     }
 
-    private static boolean isNotEqual(@Nullable Object expected, @Nullable Object actual,
+    static boolean isNotEqual(@Nullable Object expected, @Nullable Object actual,
             @NonNull Map<Object, Object> instanceMap) {
         return actual == null == (expected != null) || actual != null && actual != expected
                 && expected != instanceMap.get(actual) && !EqualityMatcher.areEqualWhenNonNull(actual, expected);
@@ -14,7 +14,6 @@ import java.util.Map;
 import mockit.internal.expectations.argumentMatching.ArgumentMatcher;
 import mockit.internal.expectations.argumentMatching.CaptureMatcher;
 import mockit.internal.expectations.argumentMatching.EqualityMatcher;
-import mockit.internal.expectations.argumentMatching.LenientEqualityMatcher;
 
 import org.checkerframework.checker.index.qual.NonNegative;
 
@@ -37,17 +36,27 @@ final class ArgumentValuesAndMatchersWithVarargs extends ArgumentValuesAndMatche
             return false;
         }
 
+        ArgumentMatcher<?>[] compiled = getCompiledMatchers(totalArgCount);
+
+        if (isMatchingAnyArguments()) {
+            return true;
+        }
+
         for (int i = 0; i < totalArgCount; i++) {
             Object actual = varargsComparison.getOtherArgument(i);
-            ArgumentMatcher<?> expected = getArgumentMatcher(i);
+            ArgumentMatcher<?> expected = compiled[i];
 
             if (expected == null) {
                 Object arg = varargsComparison.getThisArgument(i);
-                if (arg == null) {
-                    continue;
+
+                if (arg != null && isNotEqual(arg, actual, instanceMap)) {
+                    return false;
                 }
-                expected = new LenientEqualityMatcher(arg, instanceMap);
-            } else if (i == regularArgCount && expected instanceof CaptureMatcher<?>) {
+
+                continue;
+            }
+
+            if (i == regularArgCount && expected instanceof CaptureMatcher<?>) {
                 actual = varargsComparison.getOtherVarArgs();
                 i = totalArgCount;
             }
@@ -107,6 +116,46 @@ final class ArgumentValuesAndMatchersWithVarargs extends ArgumentValuesAndMatche
 
     private static final Object[] NULL_VARARGS = {};
 
+    // The variable arguments in the current values array, kept so that primitive varargs are only copied once.
+    @Nullable
+    private Object[] valuesWithVarArgs;
+    @Nullable
+    private Object[] varArgsInValues;
+
+    @Nullable
+    private Object[] getVarArgsInValues() {
+        Object[] currentValues = values;
+
+        if (currentValues != valuesWithVarArgs) {
+            varArgsInValues = getVarArgs(currentValues);
+            valuesWithVarArgs = currentValues;
+        }
+
+        return varArgsInValues;
+    }
+
+    @Nullable
+    private static Object[] getVarArgs(@NonNull Object[] args) {
+        Object lastArg = args[args.length - 1];
+
+        if (lastArg == null) {
+            return null;
+        }
+
+        if (lastArg instanceof Object[]) {
+            return (Object[]) lastArg;
+        }
+
+        int varArgsLength = Array.getLength(lastArg);
+        Object[] results = new Object[varArgsLength];
+
+        for (int i = 0; i < varArgsLength; i++) {
+            results[i] = Array.get(lastArg, i);
+        }
+
+        return results;
+    }
+
     private final class VarargsComparison {
         @NonNull
         private final Object[] otherValues;
@@ -118,7 +167,7 @@ final class ArgumentValuesAndMatchersWithVarargs extends ArgumentValuesAndMatche
 
         VarargsComparison(@NonNull Object[] otherValues) {
             this.otherValues = otherValues;
-            thisVarArgs = getVarArgs(values);
+            thisVarArgs = getVarArgsInValues();
             otherVarArgs = getVarArgs(otherValues);
             regularArgCount = values.length - 1;
         }
@@ -133,28 +182,6 @@ final class ArgumentValuesAndMatchersWithVarargs extends ArgumentValuesAndMatche
             return otherVarArgs == null ? NULL_VARARGS : otherVarArgs;
         }
 
-        @Nullable
-        private Object[] getVarArgs(@NonNull Object[] args) {
-            Object lastArg = args[args.length - 1];
-
-            if (lastArg == null) {
-                return null;
-            }
-
-            if (lastArg instanceof Object[]) {
-                return (Object[]) lastArg;
-            }
-
-            int varArgsLength = Array.getLength(lastArg);
-            Object[] results = new Object[varArgsLength];
-
-            for (int i = 0; i < varArgsLength; i++) {
-                results[i] = Array.get(lastArg, i);
-            }
-
-            return results;
-        }
-
         int getTotalArgumentCountWhenDifferent() {
             if (thisVarArgs == null) {
                 return regularArgCount + 1;
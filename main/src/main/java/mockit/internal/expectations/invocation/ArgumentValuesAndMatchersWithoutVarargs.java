@@ -11,7 +11,6 @@ import java.util.Map;
 
 import mockit.internal.expectations.argumentMatching.ArgumentMatcher;
 import mockit.internal.expectations.argumentMatching.EqualityMatcher;
-import mockit.internal.expectations.argumentMatching.LenientEqualityMatcher;
 
 final class ArgumentValuesAndMatchersWithoutVarargs extends ArgumentValuesAndMatchers {
     ArgumentValuesAndMatchersWithoutVarargs(@NonNull InvocationArguments signature, @NonNull Object[] values) {
@@ -24,19 +23,18 @@ final class ArgumentValuesAndMatchersWithoutVarargs extends ArgumentValuesAndMat
             return areEqual(values, replayArgs, replayArgs.length, instanceMap);
         }
 
-        for (int i = 0; i < replayArgs.length; i++) {
-            Object actual = replayArgs[i];
-            ArgumentMatcher<?> expected = getArgumentMatcher(i);
+        int argCount = replayArgs.length;
+        ArgumentMatcher<?>[] compiled = getCompiledMatchers(argCount);
 
-            if (expected == null) {
-                Object arg = values[i];
-                if (arg == null) {
-                    continue;
-                }
-                expected = new LenientEqualityMatcher(arg, instanceMap);
-            }
+        if (isMatchingAnyArguments()) {
+            return true;
+        }
+
+        for (int i = 0; i < argCount; i++) {
+            ArgumentMatcher<?> expected = compiled[i];
+            Object actual = replayArgs[i];
 
-            if (!expected.matches(actual)) {
+            if (expected == null ? isNotEqual(values[i], actual, instanceMap) : !expected.matches(actual)) {
                 return false;
             }
         }
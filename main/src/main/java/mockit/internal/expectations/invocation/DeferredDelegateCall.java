@@ -0,0 +1,41 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.expectations.invocation;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A call to a <code>Delegate</code> method which was selected as the result of a mocked invocation while the
+ * record/replay lock was held, and which is to be executed only after said lock gets released.
+ */
+public final class DeferredDelegateCall {
+    @NonNull
+    private final DelegatedResult delegatedResult;
+    @NonNull
+    private final Object[] delegateArgs;
+    private final boolean forConstructor;
+
+    DeferredDelegateCall(@NonNull DelegatedResult delegatedResult, @NonNull Object[] delegateArgs,
+            boolean forConstructor) {
+        this.delegatedResult = delegatedResult;
+        this.delegateArgs = delegateArgs;
+        this.forConstructor = forConstructor;
+    }
+
+    /**
+     * Executes the delegate method if the given result is a deferred call to it, returning the actual result.
+     */
+    @Nullable
+    public static Object executeIfDeferred(@Nullable Object result) {
+        if (result instanceof DeferredDelegateCall) {
+            DeferredDelegateCall call = (DeferredDelegateCall) result;
+            return call.delegatedResult.executeMethodToInvoke(call.delegateArgs, call.forConstructor);
+        }
+
+        return result;
+    }
+}
@@ -6,19 +6,15 @@
 package mockit.internal.expectations.invocation;
 
 import static mockit.internal.reflection.MethodReflection.JAVA_LANG;
-import static mockit.internal.reflection.MethodReflection.findNonPrivateHandlerMethod;
-import static mockit.internal.reflection.MethodReflection.invoke;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
-import java.lang.reflect.Method;
-import java.util.concurrent.locks.ReentrantLock;
-
 import mockit.Delegate;
 import mockit.Invocation;
 import mockit.asm.types.JavaType;
 import mockit.internal.expectations.RecordAndReplayExecution;
+import mockit.internal.reflection.BoundHandlerMethod;
 import mockit.internal.reflection.ParameterReflection;
 import mockit.internal.state.TestRun;
 import mockit.internal.util.MethodFormatter;
@@ -30,9 +26,7 @@ final class DelegatedResult extends InvocationResult {
     @NonNull
     private final ExpectedInvocation recordedInvocation;
     @NonNull
-    private final Object targetObject;
-    @NonNull
-    private final Method methodToInvoke;
+    private final BoundHandlerMethod methodToInvoke;
     @NonNull
     private final Class<?> targetReturnType;
     private final boolean hasInvocationParameter;
@@ -40,8 +34,7 @@ final class DelegatedResult extends InvocationResult {
 
     DelegatedResult(@NonNull ExpectedInvocation recordedInvocation, @NonNull Delegate<?> delegate) {
         this.recordedInvocation = recordedInvocation;
-        targetObject = delegate;
-        methodToInvoke = findNonPrivateHandlerMethod(delegate);
+        methodToInvoke = new BoundHandlerMethod(delegate);
 
         JavaType returnType = JavaType.getReturnType(recordedInvocation.getMethodNameAndDescription());
         targetReturnType = TypeDescriptor.getClassForType(returnType);
@@ -53,53 +46,42 @@ final class DelegatedResult extends InvocationResult {
         numberOfRegularParameters = hasInvocationParameter ? n - 1 : n;
     }
 
+    /**
+     * Prepares the arguments for the delegate method, and then either executes it right away or, if the record/replay
+     * lock is held by the current thread, returns a {@link DeferredDelegateCall} to be executed once the lock is
+     * released, so that delegate code never runs while holding the lock.
+     */
     @Nullable
     @Override
     Object produceResult(@Nullable Object invokedObject, @NonNull ExpectedInvocation invocation,
             @NonNull InvocationConstraints constraints, @NonNull Object[] args) {
         Object[] delegateArgs = numberOfRegularParameters == 0 ? NO_ARGS : args;
-        return hasInvocationParameter
-                ? invokeMethodWithContext(invokedObject, invocation, constraints, args, delegateArgs)
-                : executeMethodToInvoke(delegateArgs);
-    }
-
-    @Nullable
-    private Object invokeMethodWithContext(@Nullable Object mockOrRealObject,
-            @NonNull ExpectedInvocation expectedInvocation, @NonNull InvocationConstraints constraints,
-            @NonNull Object[] invokedArgs, @NonNull Object[] delegateArgs) {
-        Invocation delegateInvocation = new DelegateInvocation(mockOrRealObject, invokedArgs, expectedInvocation,
-                constraints);
-        Object[] delegateArgsWithInvocation = ParameterReflection.argumentsWithExtraFirstValue(delegateArgs,
-                delegateInvocation);
-        Object result = executeMethodToInvoke(delegateArgsWithInvocation);
-
-        return expectedInvocation.isConstructor() && TestRun.getExecutingTest().isProceedingIntoRealImplementation()
-                ? Void.class
-                : result;
-    }
+        boolean forConstructor = false;
 
-    @Nullable
-    private Object executeMethodToInvoke(@NonNull Object[] args) {
-        ReentrantLock reentrantLock = RecordAndReplayExecution.RECORD_OR_REPLAY_LOCK;
+        if (hasInvocationParameter) {
+            Invocation delegateInvocation = new DelegateInvocation(invokedObject, args, invocation, constraints);
+            delegateArgs = ParameterReflection.argumentsWithExtraFirstValue(delegateArgs, delegateInvocation);
+            forConstructor = invocation.isConstructor();
+        }
 
-        if (!reentrantLock.isHeldByCurrentThread()) {
-            return executeTargetMethod(args);
+        if (RecordAndReplayExecution.RECORD_OR_REPLAY_LOCK.isHeldByCurrentThread()) {
+            return new DeferredDelegateCall(this, delegateArgs, forConstructor);
         }
 
-        reentrantLock.unlock();
+        return executeMethodToInvoke(delegateArgs, forConstructor);
+    }
+
+    @Nullable
+    Object executeMethodToInvoke(@NonNull Object[] args, boolean forConstructor) {
+        Object result = executeTargetMethod(args);
 
-        try {
-            return executeTargetMethod(args);
-        } finally {
-            // noinspection LockAcquiredButNotSafelyReleased
-            reentrantLock.lock();
-        }
+        return forConstructor && TestRun.getExecutingTest().isProceedingIntoRealImplementation() ? Void.class : result;
     }
 
     @Nullable
     private Object executeTargetMethod(@NonNull Object[] args) {
-        Object returnValue = invoke(targetObject, methodToInvoke, args);
-        Class<?> fromReturnType = methodToInvoke.getReturnType();
+        Object returnValue = methodToInvoke.invoke(args);
+        Class<?> fromReturnType = methodToInvoke.getMethod().getReturnType();
 
         if (returnValue == null || targetReturnType.isInstance(returnValue)) {
             if (fromReturnType == void.class && fromReturnType != targetReturnType && targetReturnType.isPrimitive()) {
@@ -55,7 +55,7 @@ public final class InvocationArguments {
     }
 
     void setValues(@NonNull Object[] values) {
-        valuesAndMatchers.values = values;
+        valuesAndMatchers.setValues(values);
     }
 
     public void setValuesWithNoMatchers(@NonNull Object[] argsToVerify) {
@@ -72,7 +72,7 @@ public final class InvocationArguments {
     }
 
     public void setMatchers(@Nullable List<ArgumentMatcher<?>> matchers) {
-        valuesAndMatchers.matchers = matchers;
+        valuesAndMatchers.setMatchers(matchers);
     }
 
     @NonNull
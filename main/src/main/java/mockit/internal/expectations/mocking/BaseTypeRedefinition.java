@@ -21,7 +21,9 @@ import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -57,8 +59,71 @@ class BaseTypeRedefinition {
         }
     }
 
+    /**
+     * Identifies a mocked class redefinition by its actual content, so that equivalent mocked types from different
+     * tests (or test classes) share the same cached redefinition, while distinct ones never do.
+     */
+    private static final class MockedClassKey {
+        @NonNull
+        private final Class<?> targetClass;
+        @NonNull
+        private final Type mockedType;
+        private final boolean injectable;
+        private final boolean classInitializationStubbedOut;
+        private final boolean capturing;
+        @NonNull
+        private final byte[] originalClassfile;
+        private final int hashCode;
+
+        MockedClassKey(@NonNull Class<?> targetClass, @NonNull MockedType typeMetadata) {
+            this.targetClass = targetClass;
+            mockedType = typeMetadata.getDeclaredType();
+            injectable = typeMetadata.injectable;
+            classInitializationStubbedOut = typeMetadata.isClassInitializationToBeStubbedOut();
+            capturing = typeMetadata.withInstancesToCapture();
+            originalClassfile = ClassFile.createReaderOrGetFromCache(targetClass).getBytecode();
+
+            int h = 31 * targetClass.hashCode() + mockedType.hashCode();
+            h = 31 * h + (injectable ? 1 : 0);
+            h = 31 * h + (classInitializationStubbedOut ? 1 : 0);
+            h = 31 * h + (capturing ? 1 : 0);
+            hashCode = 31 * h + Arrays.hashCode(originalClassfile);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof MockedClassKey)) {
+                return false;
+            }
+
+            MockedClassKey other = (MockedClassKey) obj;
+            return hashCode == other.hashCode && targetClass == other.targetClass
+                    && mockedType.equals(other.mockedType) && injectable == other.injectable
+                    && classInitializationStubbedOut == other.classInitializationStubbedOut
+                    && capturing == other.capturing && Arrays.equals(originalClassfile, other.originalClassfile);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final int MAX_CACHED_MOCKED_CLASSES = 1000;
+
     @NonNull
-    private static final Map<Integer, MockedClass> mockedClasses = new HashMap<>();
+    private static final Map<MockedClassKey, MockedClass> mockedClasses = new LinkedHashMap<>(16, 0.75F, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<MockedClassKey, MockedClass> eldest) {
+            return size() > MAX_CACHED_MOCKED_CLASSES;
+        }
+    };
     @NonNull
     private static final Map<Type, Class<?>> mockImplementations = new HashMap<>();
 
@@ -259,7 +324,7 @@ class BaseTypeRedefinition {
     }
 
     private void redefineTargetClassAndCreateInstanceFactory(@NonNull Type typeToMock) {
-        Integer mockedClassId = redefineClassesFromCache();
+        MockedClassKey mockedClassId = redefineClassesFromCache();
 
         if (mockedClassId == null) {
             return;
@@ -285,10 +350,14 @@ class BaseTypeRedefinition {
     }
 
     @Nullable
-    private Integer redefineClassesFromCache() {
+    private MockedClassKey redefineClassesFromCache() {
         // noinspection ConstantConditions
-        Integer mockedClassId = typeMetadata.hashCode();
-        MockedClass mockedClass = mockedClasses.get(mockedClassId);
+        MockedClassKey mockedClassId = new MockedClassKey(targetClass, typeMetadata);
+        MockedClass mockedClass;
+
+        synchronized (mockedClasses) {
+            mockedClass = mockedClasses.get(mockedClassId);
+        }
 
         if (mockedClass != null) {
             mockedClass.redefineClasses();
@@ -300,12 +369,14 @@ class BaseTypeRedefinition {
         return mockedClassId;
     }
 
-    private void storeRedefinedClassesInCache(@NonNull Integer mockedClassId) {
+    private void storeRedefinedClassesInCache(@NonNull MockedClassKey mockedClassId) {
         assert mockedClassDefinitions != null;
         ClassDefinition[] classDefs = mockedClassDefinitions.toArray(CLASS_DEFINITIONS);
         MockedClass mockedClass = new MockedClass(instanceFactory, classDefs);
 
-        mockedClasses.put(mockedClassId, mockedClass);
+        synchronized (mockedClasses) {
+            mockedClasses.put(mockedClassId, mockedClass);
+        }
     }
 
     @NonNull
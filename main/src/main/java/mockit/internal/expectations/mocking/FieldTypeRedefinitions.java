@@ -19,6 +19,7 @@ import java.util.Map.Entry;
 import mockit.asm.jvmConstants.Access;
 import mockit.internal.reflection.FieldReflection;
 import mockit.internal.state.TestRun;
+import mockit.internal.util.ClassMetadataIndex;
 import mockit.internal.util.StackTrace;
 
 @SuppressWarnings("UnnecessaryFullyQualifiedName")
@@ -50,7 +51,7 @@ public final class FieldTypeRedefinitions extends TypeRedefinitions {
             redefineFieldTypes(superClass);
         }
 
-        Field[] fields = classWithMockFields.getDeclaredFields();
+        Field[] fields = ClassMetadataIndex.of(classWithMockFields).getDeclaredFields();
 
         for (Field candidateField : fields) {
             int fieldModifiers = candidateField.getModifiers();
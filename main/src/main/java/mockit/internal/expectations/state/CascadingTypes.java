@@ -16,13 +16,29 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import mockit.asm.types.JavaType;
+import mockit.internal.util.WeakIdentityMap;
 
 public final class CascadingTypes {
     @NonNull
     private final Map<Type, MockedTypeCascade> mockedTypesToCascades;
 
+    /**
+     * The first cascade added for each mocked type descriptor, used when the cascade cannot be found from the mocked
+     * instance itself.
+     */
+    @NonNull
+    private final Map<String, MockedTypeCascade> mockedTypeDescsToCascades;
+
+    /**
+     * The cascade to which each cascading instance belongs, with instances compared by identity and weakly held.
+     */
+    @NonNull
+    private final WeakIdentityMap<Object, MockedTypeCascade> instancesToCascades;
+
     CascadingTypes() {
         mockedTypesToCascades = new ConcurrentHashMap<>(4);
+        mockedTypeDescsToCascades = new ConcurrentHashMap<>(4);
+        instancesToCascades = new WeakIdentityMap<>();
     }
 
     public void add(boolean fromMockField, @NonNull Type mockedType) {
@@ -33,8 +49,10 @@ public final class CascadingTypes {
 
     @NonNull
     MockedTypeCascade add(@NonNull String mockedTypeDesc, boolean fromMockField, @NonNull Type mockedType) {
-        return mockedTypesToCascades.computeIfAbsent(mockedType,
+        MockedTypeCascade cascade = mockedTypesToCascades.computeIfAbsent(mockedType,
                 k -> new MockedTypeCascade(fromMockField, mockedType, mockedTypeDesc));
+        mockedTypeDescsToCascades.putIfAbsent(mockedTypeDesc, cascade);
+        return cascade;
     }
 
     @NonNull
@@ -48,32 +66,15 @@ public final class CascadingTypes {
             return null;
         }
 
-        if (mockInstance != null) {
-            MockedTypeCascade cascade = findCascadeForInstance(mockInstance);
+        if (mockInstance != null && !instancesToCascades.isEmpty()) {
+            MockedTypeCascade cascade = instancesToCascades.get(mockInstance);
 
             if (cascade != null) {
                 return cascade;
             }
         }
 
-        for (MockedTypeCascade cascade : mockedTypesToCascades.values()) {
-            if (cascade.mockedTypeDesc.equals(mockedTypeDesc)) {
-                return cascade;
-            }
-        }
-
-        return null;
-    }
-
-    @Nullable
-    private MockedTypeCascade findCascadeForInstance(@NonNull Object mockInstance) {
-        for (MockedTypeCascade cascade : mockedTypesToCascades.values()) {
-            if (cascade.hasInstance(mockInstance)) {
-                return cascade;
-            }
-        }
-
-        return null;
+        return mockedTypeDescsToCascades.get(mockedTypeDesc);
     }
 
     void clearNonSharedCascadingTypes() {
@@ -89,18 +90,31 @@ public final class CascadingTypes {
                     itr.remove();
                 }
             }
+
+            instancesToCascades.clear();
+            mockedTypeDescsToCascades.clear();
+
+            for (MockedTypeCascade cascade : mockedTypesToCascades.values()) {
+                mockedTypeDescsToCascades.putIfAbsent(cascade.mockedTypeDesc, cascade);
+            }
         }
     }
 
     public void clear() {
         mockedTypesToCascades.clear();
+        mockedTypeDescsToCascades.clear();
+        instancesToCascades.clear();
     }
 
     void addInstance(@NonNull Type mockedType, @NonNull Object cascadingInstance) {
         MockedTypeCascade cascade = mockedTypesToCascades.get(mockedType);
 
         if (cascade != null) {
-            cascade.addInstance(cascadingInstance);
+            addInstance(cascade, cascadingInstance);
         }
     }
+
+    void addInstance(@NonNull MockedTypeCascade cascade, @NonNull Object cascadingInstance) {
+        instancesToCascades.putIfAbsent(cascadingInstance, cascade);
+    }
 }
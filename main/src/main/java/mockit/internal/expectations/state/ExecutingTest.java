@@ -20,6 +20,7 @@ import mockit.internal.BaseInvocation;
 import mockit.internal.expectations.RecordAndReplayExecution;
 import mockit.internal.expectations.mocking.MockedType;
 import mockit.internal.expectations.mocking.ParameterTypeRedefinitions;
+import mockit.internal.state.ThreadContext;
 
 public final class ExecutingTest {
     @Nullable
@@ -27,12 +28,6 @@ public final class ExecutingTest {
     @Nullable
     private RecordAndReplayExecution recordAndReplayForLastTestMethod;
 
-    @NonNull
-    private final ThreadLocal<Boolean> shouldIgnoreMockingCallbacks;
-    @NonNull
-    private final ThreadLocal<BaseInvocation> proceedingInvocation;
-    private boolean proceeding;
-
     @Nullable
     private ParameterTypeRedefinitions parameterTypeRedefinitions;
 
@@ -46,8 +41,6 @@ public final class ExecutingTest {
     private final CascadingTypes cascadingTypes;
 
     public ExecutingTest() {
-        shouldIgnoreMockingCallbacks = ThreadLocal.withInitial(() -> false);
-        proceedingInvocation = new ThreadLocal<>();
         regularMocks = new ArrayList<>();
         injectableMocks = new ArrayList<>();
         originalToCapturedInstance = new IdentityHashMap<>(4);
@@ -81,51 +74,50 @@ public final class ExecutingTest {
     }
 
     public boolean isShouldIgnoreMockingCallbacks() {
-        return shouldIgnoreMockingCallbacks.get();
+        return ThreadContext.current().isIgnoringMockingCallbacks();
     }
 
     public boolean setShouldIgnoreMockingCallbacks(boolean flag) {
-        boolean previousFlag = shouldIgnoreMockingCallbacks.get();
-        shouldIgnoreMockingCallbacks.set(flag);
-        return previousFlag;
+        return ThreadContext.current().setIgnoringMockingCallbacks(flag);
     }
 
     public boolean isProceedingIntoRealImplementation() {
-        boolean result = proceeding;
-        proceeding = false;
-        return result;
+        return ThreadContext.current().clearProceedingIntoRealImplementation();
     }
 
     public void markAsProceedingIntoRealImplementation() {
-        proceeding = true;
+        ThreadContext.current().markAsProceedingIntoRealImplementation();
     }
 
     public void markAsProceedingIntoRealImplementation(@NonNull BaseInvocation invocation) {
-        BaseInvocation previousInvocation = proceedingInvocation.get();
+        ThreadContext context = ThreadContext.current();
+        BaseInvocation previousInvocation = context.getProceedingInvocation();
 
         if (previousInvocation != null) {
             invocation.setPrevious(previousInvocation);
         }
 
-        proceedingInvocation.set(invocation);
-        proceeding = true;
+        context.setProceedingInvocation(invocation);
+        context.markAsProceedingIntoRealImplementation();
     }
 
     public boolean shouldProceedIntoRealImplementation(@Nullable Object mock, @NonNull String classDesc) {
-        BaseInvocation pendingInvocation = proceedingInvocation.get();
+        ThreadContext context = ThreadContext.current();
+        BaseInvocation pendingInvocation = context.getProceedingInvocation();
 
         // noinspection SimplifiableIfStatement
         if (pendingInvocation != null && pendingInvocation.isMethodInSuperclass(mock, classDesc)) {
             return true;
         }
 
-        return isProceedingIntoRealImplementation();
+        return context.clearProceedingIntoRealImplementation();
     }
 
     public void clearProceedingState() {
-        BaseInvocation pendingInvocation = proceedingInvocation.get();
+        ThreadContext context = ThreadContext.current();
+        BaseInvocation pendingInvocation = context.getProceedingInvocation();
         BaseInvocation previousInvocation = pendingInvocation.getPrevious();
-        proceedingInvocation.set(previousInvocation);
+        context.setProceedingInvocation(previousInvocation);
     }
 
     @NonNull
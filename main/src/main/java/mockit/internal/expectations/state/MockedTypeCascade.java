@@ -10,7 +10,6 @@ import static java.lang.reflect.Modifier.PUBLIC;
 import static java.lang.reflect.Modifier.isPublic;
 
 import static mockit.asm.types.JavaType.getInternalName;
-import static mockit.internal.util.Utilities.containsReference;
 import static mockit.internal.util.Utilities.getClassType;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -20,10 +19,8 @@ import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import mockit.internal.expectations.MockingFilters;
 import mockit.internal.expectations.mocking.CascadingTypeRedefinition;
@@ -49,15 +46,12 @@ public final class MockedTypeCascade {
     private GenericTypeReflection genericReflection;
     @NonNull
     private final Map<String, Type> cascadedTypesAndMocks;
-    @NonNull
-    private final List<Object> cascadingInstances;
 
     MockedTypeCascade(boolean fromMockField, @NonNull Type mockedType, @NonNull String mockedTypeDesc) {
         this.fromMockField = fromMockField;
         this.mockedType = mockedType;
         this.mockedTypeDesc = mockedTypeDesc;
         cascadedTypesAndMocks = new ConcurrentHashMap<>(4);
-        cascadingInstances = new CopyOnWriteArrayList<>();
     }
 
     @Nullable
@@ -282,21 +276,12 @@ public final class MockedTypeCascade {
 
         Object cascadedInstance = instanceFactory.create();
         instanceFactory.clearLastInstance();
-        addInstance(cascadedInstance);
+        CASCADING_TYPES.addInstance(this, cascadedInstance);
         TestRun.getExecutingTest().addInjectableMock(cascadedInstance);
         return cascadedInstance;
     }
 
     void discardCascadedMocks() {
         cascadedTypesAndMocks.clear();
-        cascadingInstances.clear();
-    }
-
-    void addInstance(@NonNull Object cascadingInstance) {
-        cascadingInstances.add(cascadingInstance);
-    }
-
-    boolean hasInstance(@NonNull Object cascadingInstance) {
-        return containsReference(cascadingInstances, cascadingInstance);
     }
 }
@@ -38,7 +38,8 @@ public final class FakeBridge extends ClassLoadingBridge {
             }
 
             Integer fakeStateIndex = (Integer) args[1];
-            return TestRun.updateFakeState(fakeClassDesc, faked, fakeStateIndex);
+            Integer fakeClassId = (Integer) args[2];
+            return TestRun.updateFakeState(fakeClassId, faked, fakeStateIndex);
         } finally {
             TestRun.exitNoMockingZone();
         }
@@ -11,6 +11,7 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.lang.instrument.ClassDefinition;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
+import java.util.List;
 
 import mockit.MockUp;
 import mockit.asm.classes.ClassReader;
@@ -62,10 +63,13 @@ public final class FakeClassSetup {
 
         FakeClasses fakeClasses = TestRun.getFakeClasses();
 
+        int fakeClassId = fakeMethods.getFakeClassId();
+        List<FakeState> fakeStates = fakeMethods.getFakeStates();
+
         if (forStartupFake) {
-            fakeClasses.addFake(fakeMethods.getFakeClassInternalName(), fake);
+            fakeClasses.addFake(fakeMethods.getFakeClassInternalName(), fakeClassId, fake, fakeStates);
         } else {
-            fakeClasses.addFake(fake);
+            fakeClasses.addFake(fake, fakeClassId, fakeStates);
         }
     }
 
@@ -11,14 +11,27 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import mockit.MockUp;
-import mockit.internal.util.ClassLoad;
 
+import org.checkerframework.checker.index.qual.NonNegative;
+
+/**
+ * Holds the fakes currently applied.
+ * <p>
+ * Each fake class gets a numeric id, which is embedded in the code generated for the methods it fakes. The fake
+ * applied for a given id, and its fake states, are kept in arrays indexed by that id, so that the generated code finds
+ * them without having to look up the fake class by name.
+ */
 public final class FakeClasses {
+    @NonNull
+    private static final Map<String, Integer> FAKE_CLASS_IDS = new HashMap<>();
     private static final Field INVOKED_INSTANCE_FIELD;
     private static final Method ON_TEAR_DOWN_METHOD;
 
@@ -43,13 +56,30 @@ public final class FakeClasses {
         }
     }
 
+    /**
+     * Gets the id of the given fake class, assigning a new one the first time.
+     */
+    @NonNegative
+    static int getFakeClassId(@NonNull String fakeClassDesc) {
+        synchronized (FAKE_CLASS_IDS) {
+            return FAKE_CLASS_IDS.computeIfAbsent(fakeClassDesc, desc -> FAKE_CLASS_IDS.size());
+        }
+    }
+
     public static final class MockUpInstances {
         @NonNull
         public final MockUp<?> initialMockUp;
+        @NonNegative
+        final int fakeClassId;
+        @Nullable
+        final List<FakeState> initialFakeStates;
         boolean hasMockupsForSingleInstances;
 
-        MockUpInstances(@NonNull MockUp<?> initialMockUp) {
+        MockUpInstances(@NonNull MockUp<?> initialMockUp, @NonNegative int fakeClassId,
+                @Nullable List<FakeState> initialFakeStates) {
             this.initialMockUp = initialMockUp;
+            this.fakeClassId = fakeClassId;
+            this.initialFakeStates = initialFakeStates;
             hasMockupsForSingleInstances = false;
         }
 
@@ -71,21 +101,47 @@ public final class FakeClasses {
     @NonNull
     public final FakeStates fakeStates;
 
+    // Indexed by fake class id:
+    @NonNull
+    private MockUp<?>[] startupMocksById;
+    @NonNull
+    private List<?>[] startupFakeStatesById;
+    @NonNull
+    private MockUpInstances[] mockUpInstancesById;
+
     public FakeClasses() {
         startupMocks = new IdentityHashMap<>(8);
         mockupClassesToMockupInstances = new IdentityHashMap<>();
         mockedToMockupInstances = new IdentityHashMap<>();
         fakeStates = new FakeStates();
+        startupMocksById = new MockUp<?>[0];
+        startupFakeStatesById = new List<?>[0];
+        mockUpInstancesById = new MockUpInstances[0];
+    }
+
+    private void ensureCapacityForId(@NonNegative int fakeClassId) {
+        if (fakeClassId >= mockUpInstancesById.length) {
+            int newLength = Math.max(fakeClassId + 1, 2 * mockUpInstancesById.length);
+            startupMocksById = Arrays.copyOf(startupMocksById, newLength);
+            startupFakeStatesById = Arrays.copyOf(startupFakeStatesById, newLength);
+            mockUpInstancesById = Arrays.copyOf(mockUpInstancesById, newLength);
+        }
     }
 
-    public void addFake(@NonNull String mockClassDesc, @NonNull MockUp<?> mockUp) {
+    void addFake(@NonNull String mockClassDesc, @NonNegative int fakeClassId, @NonNull MockUp<?> mockUp,
+            @Nullable List<FakeState> mockUpFakeStates) {
         startupMocks.put(mockClassDesc, mockUp);
+        ensureCapacityForId(fakeClassId);
+        startupMocksById[fakeClassId] = mockUp;
+        startupFakeStatesById[fakeClassId] = mockUpFakeStates;
     }
 
-    public void addFake(@NonNull MockUp<?> mockUp) {
+    void addFake(@NonNull MockUp<?> mockUp, @NonNegative int fakeClassId, @Nullable List<FakeState> mockUpFakeStates) {
         Class<?> mockUpClass = mockUp.getClass();
-        MockUpInstances newData = new MockUpInstances(mockUp);
+        MockUpInstances newData = new MockUpInstances(mockUp, fakeClassId, mockUpFakeStates);
         mockupClassesToMockupInstances.put(mockUpClass, newData);
+        ensureCapacityForId(fakeClassId);
+        mockUpInstancesById[fakeClassId] = newData;
     }
 
     public void addFake(@NonNull MockUp<?> mockUp, @NonNull Object mockedInstance) {
@@ -97,8 +153,8 @@ public final class FakeClasses {
     }
 
     @Nullable
-    public MockUp<?> getFake(@NonNull String mockUpClassDesc, @Nullable Object mockedInstance) {
-        if (mockedInstance != null) {
+    public MockUp<?> getFake(@NonNegative int fakeClassId, @Nullable Object mockedInstance) {
+        if (mockedInstance != null && !mockedToMockupInstances.isEmpty()) {
             MockUp<?> mockUpForSingleInstance = mockedToMockupInstances.get(mockedInstance);
 
             if (mockUpForSingleInstance != null) {
@@ -106,14 +162,22 @@ public final class FakeClasses {
             }
         }
 
-        MockUp<?> startupMock = startupMocks.get(mockUpClassDesc);
+        if (fakeClassId >= mockUpInstancesById.length) {
+            return null;
+        }
+
+        MockUp<?> startupMock = startupMocksById[fakeClassId];
 
         if (startupMock != null) {
             return startupMock;
         }
 
-        Class<?> mockUpClass = ClassLoad.loadByInternalName(mockUpClassDesc);
-        MockUpInstances mockUpInstances = mockupClassesToMockupInstances.get(mockUpClass);
+        MockUpInstances mockUpInstances = mockUpInstancesById[fakeClassId];
+
+        if (mockUpInstances == null) {
+            return null;
+        }
+
         Object invokedInstance = mockedInstance;
 
         if (mockedInstance == null) {
@@ -130,6 +194,38 @@ public final class FakeClasses {
         return mockUpInstances.initialMockUp;
     }
 
+    public boolean updateFakeState(@NonNegative int fakeClassId, @NonNull Object fake, @NonNegative int fakeStateIndex) {
+        return getFakeState(fakeClassId, fake, fakeStateIndex).update();
+    }
+
+    /**
+     * Gets the fake state of the given index for a fake previously obtained from {@link #getFake(int, Object)} with the
+     * same fake class id. The fake states of the startup fake or of the initial instance of the fake class are taken
+     * directly from their slots; those of fakes applied to single instances are looked up.
+     */
+    @NonNull
+    FakeState getFakeState(@NonNegative int fakeClassId, @NonNull Object fake, @NonNegative int fakeStateIndex) {
+        List<?> fakeStatesForId = null;
+
+        if (fakeClassId < mockUpInstancesById.length) {
+            if (startupMocksById[fakeClassId] == fake) {
+                fakeStatesForId = startupFakeStatesById[fakeClassId];
+            } else {
+                MockUpInstances mockUpInstances = mockUpInstancesById[fakeClassId];
+
+                if (mockUpInstances != null && mockUpInstances.initialMockUp == fake) {
+                    fakeStatesForId = mockUpInstances.initialFakeStates;
+                }
+            }
+        }
+
+        if (fakeStatesForId == null || fakeStatesForId.isEmpty()) {
+            return fakeStates.getFakeState(fake, fakeStateIndex);
+        }
+
+        return (FakeState) fakeStatesForId.get(fakeStateIndex);
+    }
+
     @Nullable
     public MockUpInstances findPreviouslyAppliedMockUps(@NonNull MockUp<?> newMockUp) {
         Class<?> mockUpClass = newMockUp.getClass();
@@ -159,6 +255,7 @@ public final class FakeClasses {
             if (!previousMockupClasses.containsKey(mockupClass)) {
                 MockUpInstances mockUpInstances = mockupClassAndInstances.getValue();
                 mockUpInstances.notifyMockUpOfTearDown();
+                mockUpInstancesById[mockUpInstances.fakeClassId] = null;
             }
         }
 
@@ -180,6 +277,7 @@ public final class FakeClasses {
             }
 
             mockupClassesToMockupInstances.clear();
+            Arrays.fill(mockUpInstancesById, null);
         }
     }
 
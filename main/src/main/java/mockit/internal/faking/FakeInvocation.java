@@ -34,11 +34,12 @@ public final class FakeInvocation extends BaseInvocation {
 
     @NonNull // called by generated bytecode
     public static FakeInvocation create(@Nullable Object invokedInstance, @Nullable Object[] invokedArguments,
-            @NonNull String fakeClassDesc, @NonNegative int fakeStateIndex, @NonNull String fakedClassDesc,
+            @NonNegative int fakeClassId, @NonNegative int fakeStateIndex, @NonNull String fakedClassDesc,
             @NonNull String fakedMethodName, @NonNull String fakedMethodDesc) {
-        Object fake = TestRun.getFake(fakeClassDesc, invokedInstance);
+        FakeClasses fakeClasses = TestRun.getFakeClasses();
+        Object fake = fakeClasses.getFake(fakeClassId, invokedInstance);
         assert fake != null;
-        FakeState fakeState = TestRun.getFakeStates().getFakeState(fake, fakeStateIndex);
+        FakeState fakeState = fakeClasses.getFakeState(fakeClassId, fake, fakeStateIndex);
         Object[] args = invokedArguments == null ? NO_ARGS : invokedArguments;
         return new FakeInvocation(invokedInstance, args, fakeState, fakedClassDesc, fakedMethodName, fakedMethodDesc);
     }
@@ -52,6 +53,20 @@ public final class FakeInvocation extends BaseInvocation {
         this.fakedMethodDesc = fakedMethodDesc;
     }
 
+    /**
+     * Creates an invocation whose arguments are the values in the given array from the given index onwards; they get
+     * copied into an array of their own only if requested through {@link #getInvokedArguments()}.
+     */
+    FakeInvocation(@Nullable Object invokedInstance, @NonNull Object[] argumentValues,
+            @NonNegative int firstArgumentIndex, @NonNull FakeState fakeState, @NonNull String fakedClassDesc,
+            @NonNull String fakedMethodName, @NonNull String fakedMethodDesc) {
+        super(invokedInstance, argumentValues, firstArgumentIndex, fakeState.getTimesInvoked());
+        this.fakeState = fakeState;
+        this.fakedClassDesc = fakedClassDesc;
+        this.fakedMethodName = fakedMethodName;
+        this.fakedMethodDesc = fakedMethodDesc;
+    }
+
     @NonNull
     @Override
     protected Member findRealMember() {
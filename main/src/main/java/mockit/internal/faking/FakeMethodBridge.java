@@ -13,15 +13,21 @@ import java.lang.reflect.Method;
 import mockit.Invocation;
 import mockit.internal.ClassLoadingBridge;
 import mockit.internal.reflection.MethodReflection;
-import mockit.internal.reflection.ParameterReflection;
 import mockit.internal.state.TestRun;
 import mockit.internal.util.DefaultValues;
-import mockit.internal.util.TypeDescriptor;
 
 public final class FakeMethodBridge extends ClassLoadingBridge {
     @NonNull
     public static final ClassLoadingBridge MB = new FakeMethodBridge();
 
+    @NonNull
+    private static final Class<?>[] INVOCATION_PARAMETER = { Invocation.class };
+
+    /**
+     * The index of the first argument for the fake method, in the array of arguments passed to the bridge.
+     */
+    private static final int FIRST_FAKE_ARGUMENT = 6;
+
     private FakeMethodBridge() {
         super("$FMB");
     }
@@ -29,11 +35,12 @@ public final class FakeMethodBridge extends ClassLoadingBridge {
     @Nullable
     @Override
     public Object invoke(@Nullable Object fakedInstance, Method method, @NonNull Object[] args) throws Throwable {
-        String fakeClassDesc = (String) args[0];
+        int fakeClassId = (Integer) args[0];
         String fakedClassDesc = (String) args[1];
         String fakeDesc = (String) args[4];
 
-        Object fake = TestRun.getFake(fakeClassDesc, fakedInstance);
+        FakeClasses fakeClasses = TestRun.getFakeClasses();
+        Object fake = fakeClasses.getFake(fakeClassId, fakedInstance);
 
         if (fake == null || notToBeMocked(fakedInstance, fakedClassDesc)) {
             return DefaultValues.computeForReturnType(fakedClassDesc);
@@ -41,25 +48,34 @@ public final class FakeMethodBridge extends ClassLoadingBridge {
 
         String fakeName = (String) args[3];
         int fakeStateIndex = (Integer) args[5];
-        Object[] fakeArgs = extractArguments(6, args);
 
-        return callFake(fakedInstance, fake, fakedClassDesc, fakeName, fakeDesc, fakeStateIndex, fakeArgs);
+        return callFake(fakeClasses, fakeClassId, fakedInstance, fake, fakedClassDesc, fakeName, fakeDesc,
+                fakeStateIndex, args);
     }
 
+    /**
+     * Calls the fake method, with the arguments received from index {@link #FIRST_FAKE_ARGUMENT} onwards in the given
+     * array of bridge arguments. An <code>Invocation</code> passed to the fake method shares the array its arguments
+     * are already in, so that they get copied into an array of their own only if the fake method asks for them.
+     */
     @Nullable
-    private static Object callFake(@Nullable Object fakedInstance, @NonNull Object fake, @NonNull String fakedClassDesc,
-            @NonNull String fakeOrFakedName, @NonNull String fakeOrFakedDesc, int fakeStateIndex,
-            @NonNull Object[] fakeArgs) throws Throwable {
+    private static Object callFake(@NonNull FakeClasses fakeClasses, int fakeClassId, @Nullable Object fakedInstance,
+            @NonNull Object fake, @NonNull String fakedClassDesc, @NonNull String fakeOrFakedName,
+            @NonNull String fakeOrFakedDesc, int fakeStateIndex, @NonNull Object[] args) throws Throwable {
         Class<?> fakeClass = fake.getClass();
 
         if (fakeStateIndex < 0) {
-            return executeSimpleFakeMethod(fakeClass, fake, fakeOrFakedName, fakeOrFakedDesc, fakeArgs);
+            Method fakeMethod = MethodReflection.getMethodByDescriptor(fakeClass, fakeOrFakedName, fakeOrFakedDesc);
+            Object[] fakeArgs = extractArguments(FIRST_FAKE_ARGUMENT, args);
+            return MethodReflection.invokeWithCheckedThrows(fake, fakeMethod, fakeArgs);
         }
 
-        FakeState fakeState = TestRun.getFakeStates().getFakeState(fake, fakeStateIndex);
+        FakeState fakeState = fakeClasses.getFakeState(fakeClassId, fake, fakeStateIndex);
 
         if (!fakeState.fakeMethod.hasInvocationParameter()) {
-            return executeFakeMethodWithoutInvocationArgument(fakeState, fakeClass, fake, fakeOrFakedDesc, fakeArgs);
+            Method fakeMethod = fakeState.getFakeMethod(fakeClass, fakeOrFakedDesc);
+            Object[] fakeArgs = extractArguments(FIRST_FAKE_ARGUMENT, args);
+            return MethodReflection.invokeWithCheckedThrows(fake, fakeMethod, fakeArgs);
         }
 
         if (fakeState.shouldProceedIntoRealImplementation(fakedInstance, fakedClassDesc)) {
@@ -67,49 +83,34 @@ public final class FakeMethodBridge extends ClassLoadingBridge {
         }
 
         return executeFakeMethodWithInvocationArgument(fakeState, fakeClass, fake, fakedInstance, fakedClassDesc,
-                fakeOrFakedName, fakeOrFakedDesc, fakeArgs);
-    }
-
-    @Nullable
-    private static Object executeSimpleFakeMethod(@NonNull Class<?> fakeClass, @Nullable Object fake,
-            @NonNull String fakeOrFakedName, @NonNull String fakeOrFakedDesc, @NonNull Object[] fakeArgs)
-            throws Throwable {
-        Class<?>[] paramClasses = TypeDescriptor.getParameterTypes(fakeOrFakedDesc);
-        return MethodReflection.invokeWithCheckedThrows(fakeClass, fake, fakeOrFakedName, paramClasses, fakeArgs);
-    }
-
-    @Nullable
-    private static Object executeFakeMethodWithoutInvocationArgument(@NonNull FakeState fakeState,
-            @NonNull Class<?> fakeClass, @Nullable Object fake, @NonNull String fakeOrFakedDesc,
-            @NonNull Object[] fakeArgs) throws Throwable {
-        Class<?>[] paramClasses = TypeDescriptor.getParameterTypes(fakeOrFakedDesc);
-        Method fakeMethod = fakeState.getFakeMethod(fakeClass, paramClasses);
-        return MethodReflection.invokeWithCheckedThrows(fake, fakeMethod, fakeArgs);
+                fakeOrFakedName, fakeOrFakedDesc, args);
     }
 
     @Nullable
     private static Object executeFakeMethodWithInvocationArgument(@NonNull FakeState fakeState,
             @NonNull Class<?> fakeClass, @Nullable Object fake, @Nullable Object fakedInstance,
             @NonNull String fakedClassDesc, @NonNull String fakedName, @NonNull String fakedDesc,
-            @NonNull Object[] fakeArgs) throws Throwable {
-        Class<?>[] paramClasses;
+            @NonNull Object[] args) throws Throwable {
         Method fakeMethod;
         FakeInvocation invocation;
         Object[] executionArgs;
 
         if (fakeState.fakeMethod.hasInvocationParameterOnly()) {
-            paramClasses = new Class[] { Invocation.class };
-            fakeMethod = fakeState.getFakeMethod(fakeClass, paramClasses);
-            invocation = new FakeInvocation(fakedInstance, fakeArgs, fakeState, fakedClassDesc, fakedName, fakedDesc);
+            fakeMethod = fakeState.getFakeMethod(fakeClass, INVOCATION_PARAMETER);
+            invocation = new FakeInvocation(fakedInstance, args, FIRST_FAKE_ARGUMENT, fakeState, fakedClassDesc,
+                    fakedName, fakedDesc);
             executionArgs = new Object[] { invocation };
         } else {
-            paramClasses = TypeDescriptor.getParameterTypes(fakedDesc);
-            fakeMethod = fakeState.getFakeMethod(fakeClass, paramClasses);
+            fakeMethod = fakeState.getFakeMethod(fakeClass, fakedDesc);
+
+            // The fake arguments are taken together with the preceding slot, which then receives the invocation.
+            executionArgs = extractArguments(FIRST_FAKE_ARGUMENT - 1, args);
 
             // noinspection AssignmentToMethodParameter
             fakedDesc = fakeState.fakeMethod.fakeDescWithoutInvocationParameter;
-            invocation = new FakeInvocation(fakedInstance, fakeArgs, fakeState, fakedClassDesc, fakedName, fakedDesc);
-            executionArgs = ParameterReflection.argumentsWithExtraFirstValue(fakeArgs, invocation);
+            invocation = new FakeInvocation(fakedInstance, executionArgs, 1, fakeState, fakedClassDesc, fakedName,
+                    fakedDesc);
+            executionArgs[0] = invocation;
         }
 
         Object result = MethodReflection.invokeWithCheckedThrows(fake, fakeMethod, executionArgs);
@@ -14,18 +14,15 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 import java.lang.reflect.Method;
-import java.util.EnumSet;
 import java.util.List;
 
 import mockit.Mock;
 import mockit.MockUp;
-import mockit.asm.metadata.ClassMetadataReader;
-import mockit.asm.metadata.ClassMetadataReader.Attribute;
-import mockit.asm.metadata.ClassMetadataReader.MethodInfo;
 import mockit.asm.types.JavaType;
-import mockit.internal.ClassFile;
 import mockit.internal.faking.FakeMethods.FakeMethod;
 import mockit.internal.util.ClassLoad;
+import mockit.internal.util.ClassMetadataIndex;
+import mockit.internal.util.ClassMetadataIndex.MethodMetadata;
 import mockit.internal.util.TypeDescriptor;
 
 /**
@@ -34,7 +31,6 @@ import mockit.internal.util.TypeDescriptor;
  */
 final class FakeMethodCollector {
     private static final int INVALID_METHOD_ACCESSES = BRIDGE + SYNTHETIC + ABSTRACT + NATIVE;
-    private static final EnumSet<Attribute> ANNOTATIONS = EnumSet.of(Attribute.Annotations);
 
     @NonNull
     private final FakeMethods fakeMethods;
@@ -51,9 +47,7 @@ final class FakeMethodCollector {
         Class<?> classToCollectFakesFrom = fakeClass;
 
         do {
-            byte[] classfileBytes = ClassFile.readBytesFromClassFile(classToCollectFakesFrom);
-            ClassMetadataReader cmr = new ClassMetadataReader(classfileBytes, ANNOTATIONS);
-            List<MethodInfo> methods = cmr.getMethods();
+            List<MethodMetadata> methods = ClassMetadataIndex.of(classToCollectFakesFrom).getMethods();
             addFakeMethods(classToCollectFakesFrom, methods);
 
             classToCollectFakesFrom = classToCollectFakesFrom.getSuperclass();
@@ -61,8 +55,8 @@ final class FakeMethodCollector {
         } while (classToCollectFakesFrom != MockUp.class);
     }
 
-    private void addFakeMethods(@NonNull Class<?> fakeClass, @NonNull List<MethodInfo> methods) {
-        for (MethodInfo method : methods) {
+    private void addFakeMethods(@NonNull Class<?> fakeClass, @NonNull List<MethodMetadata> methods) {
+        for (MethodMetadata method : methods) {
             int access = method.accessFlags;
 
             if ((access & INVALID_METHOD_ACCESSES) == 0 && method.isMethod() && method.hasAnnotation("Lmockit/Mock;")) {
@@ -88,7 +82,7 @@ final class FakeMethodCollector {
         return fakeState;
     }
 
-    private void applyInvocationConstraintsIfAny(@NonNull Class<?> fakeClass, @NonNull MethodInfo methodInfo,
+    private void applyInvocationConstraintsIfAny(@NonNull Class<?> fakeClass, @NonNull MethodMetadata methodInfo,
             @NonNull FakeMethod fakeMethod, @Nullable FakeState existingFakeState) {
         Method javaMethod = findJavaMethod(fakeClass, methodInfo);
         Mock annotation = javaMethod.getAnnotation(Mock.class);
@@ -131,7 +125,7 @@ final class FakeMethodCollector {
     }
 
     @NonNull
-    private Method findJavaMethod(@NonNull Class<?> fakeClass, @NonNull MethodInfo methodInfo) {
+    private Method findJavaMethod(@NonNull Class<?> fakeClass, @NonNull MethodMetadata methodInfo) {
         Class<?>[] parameterTypes = TypeDescriptor.getParameterTypes(methodInfo.desc);
 
         try {
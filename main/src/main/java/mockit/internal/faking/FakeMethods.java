@@ -27,6 +27,8 @@ import mockit.internal.util.MethodFormatter;
 import mockit.internal.util.TypeDescriptor;
 import mockit.internal.util.Utilities;
 
+import org.checkerframework.checker.index.qual.NonNegative;
+
 /**
  * A container for the fake methods "collected" from a fake class.
  */
@@ -43,6 +45,8 @@ final class FakeMethods {
     private final GenericTypeReflection typeParametersToTypeArguments;
     @NonNull
     private String fakeClassInternalName;
+    @NonNegative
+    private int fakeClassId;
     @Nullable
     private List<FakeState> fakeStates;
 
@@ -296,6 +300,17 @@ final class FakeMethods {
 
     void setFakeClassInternalName(@NonNull String fakeClassInternalName) {
         this.fakeClassInternalName = fakeClassInternalName.intern();
+        fakeClassId = FakeClasses.getFakeClassId(this.fakeClassInternalName);
+    }
+
+    @NonNegative
+    int getFakeClassId() {
+        return fakeClassId;
+    }
+
+    @Nullable
+    List<FakeState> getFakeStates() {
+        return fakeStates;
     }
 
     boolean hasUnusedFakes() {
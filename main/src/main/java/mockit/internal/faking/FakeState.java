@@ -17,6 +17,7 @@ import mockit.internal.faking.FakeMethods.FakeMethod;
 import mockit.internal.reflection.MethodReflection;
 import mockit.internal.reflection.RealMethodOrConstructor;
 import mockit.internal.util.ClassLoad;
+import mockit.internal.util.TypeDescriptor;
 
 final class FakeState {
     private static final ClassLoader THIS_CL = FakeState.class.getClassLoader();
@@ -228,6 +229,21 @@ final class FakeState {
         proceedingInvocation.set(previousInvocation);
     }
 
+    /**
+     * Gets the fake method, resolving it from the parameter types of the given method descriptor the first time only.
+     */
+    @NonNull
+    Method getFakeMethod(@NonNull Class<?> fakeClass, @NonNull String methodDescForParameterTypes) {
+        Method method = actualFakeMethod;
+
+        if (method == null) {
+            Class<?>[] parameterTypes = TypeDescriptor.getParameterTypes(methodDescForParameterTypes);
+            method = getFakeMethod(fakeClass, parameterTypes);
+        }
+
+        return method;
+    }
+
     @NonNull
     Method getFakeMethod(@NonNull Class<?> fakeClass, @NonNull Class<?>[] parameterTypes) {
         if (actualFakeMethod == null) {
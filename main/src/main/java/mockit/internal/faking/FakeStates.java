@@ -117,11 +117,6 @@ public final class FakeStates {
         }
     }
 
-    public boolean updateFakeState(@NonNull Object fake, @NonNegative int fakeStateIndex) {
-        FakeState fakeState = getFakeState(fake, fakeStateIndex);
-        return fakeState.update();
-    }
-
     @NonNull
     FakeState getFakeState(@NonNull Object fake, @NonNegative int fakeStateIndex) {
         List<FakeState> fakeStates = startupFakesToFakeStates.get(fake);
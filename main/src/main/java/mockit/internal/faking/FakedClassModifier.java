@@ -26,7 +26,6 @@ import static mockit.asm.jvmConstants.Opcodes.INVOKEVIRTUAL;
 import static mockit.asm.jvmConstants.Opcodes.IRETURN;
 import static mockit.asm.jvmConstants.Opcodes.POP;
 import static mockit.asm.jvmConstants.Opcodes.RETURN;
-import static mockit.asm.jvmConstants.Opcodes.SIPUSH;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -70,7 +69,8 @@ final class FakedClassModifier extends BaseClassModifier {
      * <p>
      * The fake instance provided will receive calls for any instance methods defined in the fake class. Therefore, it
      * needs to be later recovered by the modified bytecode inside the real method. To enable this, the fake instance is
-     * added to a global data structure made available through the {@link TestRun#getFake(String, Object)} method.
+     * added to a global data structure made available through the {@link TestRun#getFake(int, Object)} method, which
+     * finds it by the numeric id of its fake class.
      *
      * @param cr
      *            the class file reader for the real class
@@ -191,11 +191,11 @@ final class FakedClassModifier extends BaseClassModifier {
             mw.visitTypeInsn(CHECKCAST, "java/lang/Boolean");
             mw.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Boolean", "booleanValue", "()Z", false);
         } else {
-            mw.visitLdcInsn(fakeMethods.getFakeClassInternalName());
+            generateCodeToPushInt(fakeMethods.getFakeClassId());
             generateCodeToPassThisOrNullIfStaticMethod();
-            mw.visitIntInsn(SIPUSH, fakeMethod.getIndexForFakeState());
+            generateCodeToPushInt(fakeMethod.getIndexForFakeState());
             mw.visitMethodInsn(INVOKESTATIC, "mockit/internal/state/TestRun", "updateFakeState",
-                    "(Ljava/lang/String;Ljava/lang/Object;I)Z", false);
+                    "(ILjava/lang/Object;I)Z", false);
         }
     }
 
@@ -207,12 +207,14 @@ final class FakedClassModifier extends BaseClassModifier {
         mw.visitInsn(ACONST_NULL);
 
         // Create array for call arguments (third "invoke" argument):
-        generateCodeToCreateArrayOfObject(2);
+        generateCodeToCreateArrayOfObject(3);
 
         int i = 0;
         generateCodeToFillArrayElement(i, fakeMethods.getFakeClassInternalName());
         i++;
         generateCodeToFillArrayElement(i, fakeMethod.getIndexForFakeState());
+        i++;
+        generateCodeToFillArrayElement(i, fakeMethods.getFakeClassId());
 
         generateCallToInvocationHandler();
     }
@@ -329,20 +331,22 @@ final class FakedClassModifier extends BaseClassModifier {
             generateCodeToObtainInstanceOfClassLoadingBridge(FakeBridge.MB);
             mw.visitInsn(ACONST_NULL); // null for 'this' (uninitialized)
             mw.visitInsn(ACONST_NULL);
-            generateCodeToCreateArrayOfObject(2);
+            generateCodeToCreateArrayOfObject(3);
             int i = 0;
             generateCodeToFillArrayElement(i, fakeMethods.getFakeClassInternalName());
             i++;
             generateCodeToFillArrayElement(i, fakeMethod.getIndexForFakeState());
+            i++;
+            generateCodeToFillArrayElement(i, fakeMethods.getFakeClassId());
             generateCallToInvocationHandler();
             mw.visitTypeInsn(CHECKCAST, "java/lang/Boolean");
             mw.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Boolean", "booleanValue", "()Z", false);
         } else {
-            mw.visitLdcInsn(fakeMethods.getFakeClassInternalName());
+            generateCodeToPushInt(fakeMethods.getFakeClassId());
             mw.visitInsn(ACONST_NULL); // null for 'this' (uninitialized)
-            mw.visitIntInsn(SIPUSH, fakeMethod.getIndexForFakeState());
+            generateCodeToPushInt(fakeMethod.getIndexForFakeState());
             mw.visitMethodInsn(INVOKESTATIC, "mockit/internal/state/TestRun", "updateFakeState",
-                    "(Ljava/lang/String;Ljava/lang/Object;I)Z", false);
+                    "(ILjava/lang/Object;I)Z", false);
         }
     }
 
@@ -370,7 +374,7 @@ final class FakedClassModifier extends BaseClassModifier {
         generateCodeToCreateArrayOfObject(6 + argTypes.length);
 
         int i = 0;
-        generateCodeToFillArrayElement(i, fakeMethods.getFakeClassInternalName());
+        generateCodeToFillArrayElement(i, fakeMethods.getFakeClassId());
         i++;
         generateCodeToFillArrayElement(i, classDesc);
         i++;
@@ -416,10 +420,10 @@ final class FakedClassModifier extends BaseClassModifier {
     }
 
     private void generateCodeToObtainFakeInstance(@NonNull String fakeClassDesc) {
-        mw.visitLdcInsn(fakeClassDesc);
+        generateCodeToPushInt(fakeMethods.getFakeClassId());
         generateCodeToPassThisOrNullIfStaticMethod();
         mw.visitMethodInsn(INVOKESTATIC, "mockit/internal/state/TestRun", "getFake",
-                "(Ljava/lang/String;Ljava/lang/Object;)Ljava/lang/Object;", false);
+                "(ILjava/lang/Object;)Ljava/lang/Object;", false);
         mw.visitTypeInsn(CHECKCAST, fakeClassDesc);
     }
 
@@ -460,14 +464,14 @@ final class FakedClassModifier extends BaseClassModifier {
             generateCodeToFillArrayWithParameterValues(argTypes, 0, initialParameterIndex);
         }
 
-        mw.visitLdcInsn(fakeMethods.getFakeClassInternalName());
-        mw.visitIntInsn(SIPUSH, fakeMethod.getIndexForFakeState());
+        generateCodeToPushInt(fakeMethods.getFakeClassId());
+        generateCodeToPushInt(fakeMethod.getIndexForFakeState());
         mw.visitLdcInsn(classDesc);
         mw.visitLdcInsn(methodName);
         mw.visitLdcInsn(methodDesc);
 
         mw.visitMethodInsn(INVOKESTATIC, "mockit/internal/faking/FakeInvocation", "create",
-                "(Ljava/lang/Object;[Ljava/lang/Object;Ljava/lang/String;ILjava/lang/String;Ljava/lang/String;Ljava/lang/String;)"
+                "(Ljava/lang/Object;[Ljava/lang/Object;IILjava/lang/String;Ljava/lang/String;Ljava/lang/String;)"
                         + "Lmockit/internal/faking/FakeInvocation;",
                 false);
     }
@@ -8,26 +8,89 @@ package mockit.internal.injection;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import mockit.internal.injection.InjectionPoint.KindOfInjectionPoint;
 import mockit.internal.injection.field.FieldInjection;
 import mockit.internal.injection.full.FullInjection;
 
+/**
+ * Exports tested objects and their dependencies as beans, looked up by name or by type.
+ * <p>
+ * Beans found are indexed by the name or type they were looked up with, so that repeated lookups during a test don't
+ * have to be resolved again. The index is discarded whenever the injection state changes, that is, when injectables
+ * are set for a new test, when tested objects or dependencies get created, and when they are cleared after a test.
+ */
 public final class BeanExporter {
     @NonNull
     private final InjectionState injectionState;
+    @NonNull
+    private final Map<String, Object> beansByName;
+    @NonNull
+    private final Map<Class<?>, Object> beansByType;
+    @NonNull
+    private final Map<Class<?>, InjectionProvider> injectablesByType;
+    private volatile long indexedModificationCount;
 
     BeanExporter(@NonNull InjectionState injectionState) {
         this.injectionState = injectionState;
+        beansByName = new ConcurrentHashMap<>();
+        beansByType = new ConcurrentHashMap<>();
+        injectablesByType = new ConcurrentHashMap<>();
+        indexedModificationCount = injectionState.getModificationCount();
+    }
+
+    private void discardIndexedBeansIfStateChanged() {
+        long modificationCount = injectionState.getModificationCount();
+
+        if (modificationCount != indexedModificationCount) {
+            beansByName.clear();
+            beansByType.clear();
+            injectablesByType.clear();
+            indexedModificationCount = modificationCount;
+        }
     }
 
     @Nullable
     public Object getBean(@NonNull String name) {
-        InjectionPoint injectionPoint = new InjectionPoint(Object.class, name, true);
-        return injectionState.getInstantiatedDependency(null, injectionPoint);
+        discardIndexedBeansIfStateChanged();
+        Object bean = beansByName.get(name);
+
+        if (bean == null) {
+            InjectionPoint injectionPoint = new InjectionPoint(Object.class, name, true);
+            bean = injectionState.getInstantiatedDependency(null, injectionPoint);
+
+            if (bean != null) {
+                beansByName.put(name, bean);
+            }
+        }
+
+        return bean;
     }
 
     @Nullable
+    @SuppressWarnings("unchecked")
     public <T> T getBean(@NonNull Class<T> beanType) {
+        discardIndexedBeansIfStateChanged();
+        InjectionProvider injectable = injectablesByType.get(beanType);
+
+        if (injectable != null) {
+            Object testInstance = injectionState.getCurrentTestClassInstance();
+            return (T) injectable.getValue(testInstance);
+        }
+
+        Object bean = beansByType.get(beanType);
+
+        if (bean == null) {
+            bean = findOrCreateBean(beanType);
+        }
+
+        return (T) bean;
+    }
+
+    @Nullable
+    private Object findOrCreateBean(@NonNull Class<?> beanType) {
         TestedClass testedClass = new TestedClass(beanType, beanType);
         String beanName = getBeanNameFromType(beanType);
 
@@ -36,14 +99,23 @@ public final class BeanExporter {
                 testedClass);
 
         if (injectable != null) {
+            injectablesByType.put(beanType, injectable);
             Object testInstance = injectionState.getCurrentTestClassInstance();
-            return (T) injectable.getValue(testInstance);
+            return injectable.getValue(testInstance);
         }
 
         FullInjection injection = new FullInjection(injectionState, beanType, beanName);
         Injector injector = new FieldInjection(injectionState, injection);
 
-        return (T) injection.createOrReuseInstance(testedClass, injector, null, beanName);
+        Object bean = injection.createOrReuseInstance(testedClass, injector, null, beanName);
+
+        if (bean != null) {
+            // Creating the bean may have changed the injection state, so the index is brought up to date first.
+            discardIndexedBeansIfStateChanged();
+            beansByType.put(beanType, bean);
+        }
+
+        return bean;
     }
 
     @NonNull
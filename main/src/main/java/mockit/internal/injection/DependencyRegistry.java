@@ -0,0 +1,302 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.injection;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import mockit.internal.reflection.GenericTypeReflection;
+
+/**
+ * Tested objects or instantiated dependencies, keyed by the injection points they were created for, in the order they
+ * were first registered.
+ * <p>
+ * Besides exact lookups, objects are indexed by every class and interface their declared type is assignable to
+ * (including the covariant array types for an array type), and by the name of their injection point, so that finding a
+ * matching object for a given injection point only has to consider the objects which can possibly match, instead of
+ * all of them. Objects declared with a type variable or wildcard type can't be indexed, and so are always considered.
+ */
+final class DependencyRegistry {
+    @NonNull
+    private static final ClassValue<Class<?>[]> ASSIGNABLE_TYPES = new ClassValue<Class<?>[]>() {
+        @Override
+        protected Class<?>[] computeValue(Class<?> type) {
+            Set<Class<?>> supertypes = new LinkedHashSet<>();
+            addSupertypes(supertypes, type);
+            supertypes.add(Object.class);
+            return supertypes.toArray(new Class<?>[0]);
+        }
+    };
+
+    private static void addSupertypes(@NonNull Set<Class<?>> supertypes, @Nullable Class<?> type) {
+        if (type != null && supertypes.add(type)) {
+            if (type.isArray()) {
+                addArraySupertypes(supertypes, type.getComponentType());
+                return;
+            }
+
+            addSupertypes(supertypes, type.getSuperclass());
+
+            for (Class<?> anInterface : type.getInterfaces()) {
+                addSupertypes(supertypes, anInterface);
+            }
+        }
+    }
+
+    /**
+     * Adds the types an array of the given component type is assignable to: arrays of each supertype of a reference
+     * component type, and the interfaces implemented by all arrays.
+     */
+    private static void addArraySupertypes(@NonNull Set<Class<?>> supertypes, @NonNull Class<?> componentType) {
+        if (!componentType.isPrimitive()) {
+            for (Class<?> componentSupertype : ASSIGNABLE_TYPES.get(componentType)) {
+                supertypes.add(Array.newInstance(componentSupertype, 0).getClass());
+            }
+        }
+
+        supertypes.add(Cloneable.class);
+        supertypes.add(Serializable.class);
+    }
+
+    private static final class Registration {
+        @NonNull
+        final InjectionPoint injectionPoint;
+        @NonNull
+        Object object;
+        final int order;
+
+        Registration(@NonNull InjectionPoint injectionPoint, @NonNull Object object, int order) {
+            this.injectionPoint = injectionPoint;
+            this.object = object;
+            this.order = order;
+        }
+    }
+
+    @NonNull
+    private final Map<InjectionPoint, Registration> registrations;
+    @NonNull
+    private final Map<Class<?>, List<Registration>> registrationsByAssignableType;
+    @NonNull
+    private final Map<String, List<Registration>> registrationsByName;
+    @NonNull
+    private final List<Registration> registrationsOfUnindexedTypes;
+    private volatile int modificationCount;
+
+    DependencyRegistry() {
+        registrations = new LinkedHashMap<>();
+        registrationsByAssignableType = new HashMap<>();
+        registrationsByName = new HashMap<>();
+        registrationsOfUnindexedTypes = new ArrayList<>();
+    }
+
+    synchronized boolean isEmpty() {
+        return registrations.isEmpty();
+    }
+
+    @Nullable
+    synchronized Object get(@NonNull InjectionPoint injectionPoint) {
+        Registration registration = registrations.get(injectionPoint);
+        return registration == null ? null : registration.object;
+    }
+
+    /**
+     * Gets the number of times objects were registered or cleared, so that lookup results cached elsewhere can be
+     * discarded when it changes.
+     */
+    int getModificationCount() {
+        return modificationCount;
+    }
+
+    synchronized void put(@NonNull InjectionPoint injectionPoint, @NonNull Object object) {
+        modificationCount++;
+        Registration registration = registrations.get(injectionPoint);
+
+        if (registration != null) {
+            registration.object = object;
+            return;
+        }
+
+        registration = new Registration(injectionPoint, object, registrations.size());
+        registrations.put(injectionPoint, registration);
+
+        Class<?> rawType = getRawType(injectionPoint.type);
+
+        if (rawType != null) {
+            for (Class<?> assignableType : ASSIGNABLE_TYPES.get(rawType)) {
+                registrationsByAssignableType.computeIfAbsent(assignableType, k -> new ArrayList<>()).add(registration);
+            }
+        } else {
+            registrationsOfUnindexedTypes.add(registration);
+        }
+
+        String name = injectionPoint.getNormalizedName();
+
+        if (name != null) {
+            registrationsByName.computeIfAbsent(name, k -> new ArrayList<>()).add(registration);
+        }
+    }
+
+    @Nullable
+    private static Class<?> getRawType(@NonNull Type type) {
+        if (type instanceof Class<?>) {
+            return (Class<?>) type;
+        }
+
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+
+        if (type instanceof GenericArrayType) {
+            Class<?> componentType = getRawType(((GenericArrayType) type).getGenericComponentType());
+            return componentType == null ? null : Array.newInstance(componentType, 0).getClass();
+        }
+
+        return null;
+    }
+
+    @NonNull
+    synchronized List<Object> getObjects() {
+        List<Object> objects = new ArrayList<>(registrations.size());
+
+        for (Registration registration : registrations.values()) {
+            objects.add(registration.object);
+        }
+
+        return objects;
+    }
+
+    synchronized void clear() {
+        modificationCount++;
+        registrations.clear();
+        registrationsByAssignableType.clear();
+        registrationsByName.clear();
+        registrationsOfUnindexedTypes.clear();
+    }
+
+    /**
+     * Finds the first object whose injection point equals the given one or, if type matching is available, has a
+     * matching type and the same name; otherwise, and unless the given injection point is qualified, the last object of
+     * a matching type. Without type matching, an object is also found when its injection point has the same name.
+     */
+    @Nullable
+    synchronized Object findMatchingObject(@Nullable GenericTypeReflection reflection,
+            @NonNull InjectionPoint injectionPoint) {
+        if (registrations.isEmpty()) {
+            return null;
+        }
+
+        Type dependencyType = injectionPoint.type;
+        Object found = null;
+
+        for (Registration registration : getCandidates(reflection, injectionPoint)) {
+            InjectionPoint dependencyIP = registration.injectionPoint;
+            Object dependencyObject = registration.object;
+
+            if (injectionPoint.equals(dependencyIP)) {
+                return dependencyObject;
+            }
+
+            if (reflection != null) {
+                if (!reflection.areMatchingTypes(dependencyType, dependencyIP.type)) {
+                    continue;
+                }
+                found = dependencyObject;
+            }
+
+            if (injectionPoint.hasSameName(dependencyIP)) {
+                return dependencyObject;
+            }
+        }
+
+        return injectionPoint.qualified ? null : found;
+    }
+
+    /**
+     * Gets, in registration order, the registrations which can possibly match the given injection point: those of an
+     * assignable type or of a type which can't be indexed, plus those of the same name when there is no type matching.
+     * For a type variable or another kind of type which can't be looked up directly, all registrations are candidates.
+     */
+    @NonNull
+    private Iterable<Registration> getCandidates(@Nullable GenericTypeReflection reflection,
+            @NonNull InjectionPoint injectionPoint) {
+        Class<?> rawType = getRawType(injectionPoint.type);
+
+        if (reflection != null && rawType == null) {
+            return registrations.values();
+        }
+
+        List<Registration> byType = rawType == null ? null : registrationsByAssignableType.get(rawType);
+
+        if (!registrationsOfUnindexedTypes.isEmpty()) {
+            byType = byType == null ? registrationsOfUnindexedTypes
+                    : mergeInRegistrationOrder(byType, registrationsOfUnindexedTypes);
+        }
+
+        if (reflection != null) {
+            return byType == null ? Collections.<Registration> emptyList() : byType;
+        }
+
+        String name = injectionPoint.getNormalizedName();
+        List<Registration> byName = name == null ? null : registrationsByName.get(name);
+
+        if (byType == null) {
+            return byName == null ? Collections.<Registration> emptyList() : byName;
+        }
+
+        return byName == null ? byType : mergeInRegistrationOrder(byType, byName);
+    }
+
+    @NonNull
+    private static List<Registration> mergeInRegistrationOrder(@NonNull List<Registration> registrations1,
+            @NonNull List<Registration> registrations2) {
+        List<Registration> merged = new ArrayList<>(registrations1.size() + registrations2.size());
+        int i = 0;
+        int j = 0;
+
+        while (i < registrations1.size() || j < registrations2.size()) {
+            Registration next;
+
+            if (j == registrations2.size()) {
+                next = registrations1.get(i++);
+            } else if (i == registrations1.size()) {
+                next = registrations2.get(j++);
+            } else {
+                Registration r1 = registrations1.get(i);
+                Registration r2 = registrations2.get(j);
+
+                if (r1 == r2) {
+                    i++;
+                    j++;
+                    next = r1;
+                } else if (r1.order < r2.order) {
+                    i++;
+                    next = r1;
+                } else {
+                    j++;
+                    next = r2;
+                }
+            }
+
+            merged.add(next);
+        }
+
+        return merged;
+    }
+}
@@ -188,6 +188,11 @@ public final class InjectionPoint {
         return 31 * type.hashCode() + (normalizedName == null ? 0 : normalizedName.hashCode());
     }
 
+    @Nullable
+    String getNormalizedName() {
+        return normalizedName;
+    }
+
     boolean hasSameName(InjectionPoint otherIP) {
         String thisName = normalizedName;
         return thisName != null && thisName.equals(otherIP.normalizedName);
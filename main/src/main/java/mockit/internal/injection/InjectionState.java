@@ -5,18 +5,12 @@
  */
 package mockit.internal.injection;
 
-import static mockit.internal.injection.InjectionPoint.getQualifiedName;
-
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Type;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
 
 import mockit.internal.reflection.FieldReflection;
 import mockit.internal.reflection.GenericTypeReflection;
@@ -26,12 +20,12 @@ import mockit.internal.reflection.GenericTypeReflection;
  */
 public final class InjectionState {
     @NonNull
-    private static final Map<InjectionPoint, Object> globalObjects = new ConcurrentHashMap<>(2);
+    private static final DependencyRegistry globalObjects = new DependencyRegistry();
 
     @NonNull
-    private final Map<InjectionPoint, Object> testedObjects;
+    private final DependencyRegistry testedObjects;
     @NonNull
-    private final Map<InjectionPoint, Object> instantiatedDependencies;
+    private final DependencyRegistry instantiatedDependencies;
     @NonNull
     public final InjectionProviders injectionProviders;
     @NonNull
@@ -41,10 +35,11 @@ public final class InjectionState {
     @Nullable
     private BeanExporter beanExporter;
     private Object currentTestClassInstance;
+    private volatile int injectablesModificationCount;
 
     InjectionState() {
-        testedObjects = new LinkedHashMap<>();
-        instantiatedDependencies = new LinkedHashMap<>();
+        testedObjects = new DependencyRegistry();
+        instantiatedDependencies = new DependencyRegistry();
         lifecycleMethods = new LifecycleMethods();
         injectionProviders = new InjectionProviders(lifecycleMethods);
         interfaceResolution = new InterfaceResolution();
@@ -52,6 +47,7 @@ public final class InjectionState {
 
     void setInjectables(@NonNull Object testClassInstance, @NonNull List<? extends InjectionProvider> injectables) {
         currentTestClassInstance = testClassInstance;
+        injectablesModificationCount++;
         injectionProviders.setInjectables(injectables);
         lifecycleMethods.getServletConfigForInitMethodsIfAny(injectables, testClassInstance);
     }
@@ -59,6 +55,7 @@ public final class InjectionState {
     void addInjectables(@NonNull Object testClassInstance,
             @NonNull List<? extends InjectionProvider> injectablesToAdd) {
         currentTestClassInstance = testClassInstance;
+        injectablesModificationCount++;
         List<InjectionProvider> injectables = injectionProviders.addInjectables(injectablesToAdd);
         lifecycleMethods.getServletConfigForInitMethodsIfAny(injectables, testClassInstance);
     }
@@ -73,7 +70,7 @@ public final class InjectionState {
     }
 
     void saveTestedObject(@NonNull InjectionPoint key, @NonNull Object testedObject, boolean global) {
-        Map<InjectionPoint, Object> objects = global ? globalObjects : testedObjects;
+        DependencyRegistry objects = global ? globalObjects : testedObjects;
         objects.put(key, testedObject);
     }
 
@@ -102,7 +99,7 @@ public final class InjectionState {
             dependency = instantiatedDependencies.get(injectionPointWithTypeOnly);
 
             if (dependency == null) {
-                dependency = findMatchingObject(instantiatedDependencies, null, injectionPointWithTypeOnly);
+                dependency = instantiatedDependencies.findMatchingObject(null, injectionPointWithTypeOnly);
             }
         }
 
@@ -111,7 +108,11 @@ public final class InjectionState {
 
     @Nullable
     private Object getValueFromExistingTestedObject(@NonNull InjectionPoint injectionPoint) {
-        for (Object testedObject : testedObjects.values()) {
+        if (injectionPoint.getNormalizedName() == null) {
+            return null;
+        }
+
+        for (Object testedObject : testedObjects.getObjects()) {
             Object fieldValue = getValueFromFieldOfEquivalentTypeAndName(injectionPoint, testedObject);
 
             if (fieldValue != null) {
@@ -125,19 +126,9 @@ public final class InjectionState {
     @Nullable
     private static Object getValueFromFieldOfEquivalentTypeAndName(@NonNull InjectionPoint injectionPoint,
             @NonNull Object testedObject) {
-        for (Field internalField : testedObject.getClass().getDeclaredFields()) {
-            Type fieldType = internalField.getGenericType();
-            String qualifiedName = getQualifiedName(internalField.getDeclaredAnnotations());
-            boolean qualified = qualifiedName != null;
-            String fieldName = qualified ? qualifiedName : internalField.getName();
-            InjectionPoint internalInjectionPoint = new InjectionPoint(fieldType, fieldName, qualified);
-
-            if (internalInjectionPoint.equals(injectionPoint)) {
-                return FieldReflection.getFieldValue(internalField, testedObject);
-            }
-        }
-
-        return null;
+        Map<InjectionPoint, Field> fields = InstantiationPlan.of(testedObject.getClass()).getFieldsByInjectionPoint();
+        Field internalField = fields.get(injectionPoint);
+        return internalField == null ? null : FieldReflection.getFieldValue(internalField, testedObject);
     }
 
     @Nullable
@@ -151,7 +142,7 @@ public final class InjectionState {
         Object testedValue = testedObjects.get(injectionPoint);
 
         if (testedValue == null) {
-            testedValue = findMatchingObject(testedObjects, testedClass, injectionPoint);
+            testedValue = testedObjects.findMatchingObject(testedClass.reflection, injectionPoint);
         }
 
         return testedValue;
@@ -159,19 +150,20 @@ public final class InjectionState {
 
     @Nullable
     public Object getInstantiatedDependency(@Nullable TestedClass testedClass, @NonNull InjectionPoint dependencyKey) {
+        GenericTypeReflection reflection = testedClass == null ? null : testedClass.reflection;
         Object dependency = testedObjects.get(dependencyKey);
 
         if (dependency == null) {
-            dependency = findMatchingObject(testedObjects, testedClass, dependencyKey);
+            dependency = testedObjects.findMatchingObject(reflection, dependencyKey);
 
             if (dependency == null) {
                 dependency = instantiatedDependencies.get(dependencyKey);
 
                 if (dependency == null) {
-                    dependency = findMatchingObject(instantiatedDependencies, testedClass, dependencyKey);
+                    dependency = instantiatedDependencies.findMatchingObject(reflection, dependencyKey);
 
                     if (dependency == null) {
-                        dependency = findMatchingObject(globalObjects, testedClass, dependencyKey);
+                        dependency = globalObjects.findMatchingObject(reflection, dependencyKey);
                     }
                 }
             }
@@ -180,40 +172,6 @@ public final class InjectionState {
         return dependency;
     }
 
-    @Nullable
-    private static Object findMatchingObject(@NonNull Map<InjectionPoint, Object> availableObjects,
-            @Nullable TestedClass testedClass, @NonNull InjectionPoint injectionPoint) {
-        if (availableObjects.isEmpty()) {
-            return null;
-        }
-
-        GenericTypeReflection reflection = testedClass == null ? null : testedClass.reflection;
-        Type dependencyType = injectionPoint.type;
-        Object found = null;
-
-        for (Entry<InjectionPoint, Object> injectionPointAndObject : availableObjects.entrySet()) {
-            InjectionPoint dependencyIP = injectionPointAndObject.getKey();
-            Object dependencyObject = injectionPointAndObject.getValue();
-
-            if (injectionPoint.equals(dependencyIP)) {
-                return dependencyObject;
-            }
-
-            if (reflection != null) {
-                if (!reflection.areMatchingTypes(dependencyType, dependencyIP.type)) {
-                    continue;
-                }
-                found = dependencyObject;
-            }
-
-            if (injectionPoint.hasSameName(dependencyIP)) {
-                return dependencyObject;
-            }
-        }
-
-        return injectionPoint.qualified ? null : found;
-    }
-
     public void saveInstantiatedDependency(@NonNull InjectionPoint dependencyKey, @NonNull Object dependency) {
         instantiatedDependencies.put(dependencyKey, dependency);
     }
@@ -227,6 +185,15 @@ public final class InjectionState {
         instantiatedDependencies.clear();
     }
 
+    /**
+     * Gets a number which changes whenever injectables are set or objects are saved as tested, instantiated, or global
+     * dependencies, or cleared.
+     */
+    long getModificationCount() {
+        return (long) injectablesModificationCount + testedObjects.getModificationCount()
+                + instantiatedDependencies.getModificationCount() + globalObjects.getModificationCount();
+    }
+
     @NonNull
     BeanExporter getBeanExporter() {
         if (beanExporter == null) {
@@ -5,20 +5,15 @@
  */
 package mockit.internal.injection;
 
-import static java.lang.reflect.Modifier.isFinal;
-import static java.lang.reflect.Modifier.isStatic;
-import static java.lang.reflect.Modifier.isVolatile;
 import static java.util.regex.Pattern.compile;
 
-import static mockit.internal.injection.InjectionPoint.JAKARTA_PERSISTENCE_UNIT_CLASS;
-import static mockit.internal.injection.InjectionPoint.JAVAX_PERSISTENCE_UNIT_CLASS;
 import static mockit.internal.injection.InjectionPoint.convertToLegalJavaIdentifierIfNeeded;
-import static mockit.internal.injection.InjectionPoint.getQualifiedName;
 import static mockit.internal.injection.InjectionPoint.isJakartaServlet;
 import static mockit.internal.injection.InjectionPoint.isJavaxServlet;
-import static mockit.internal.injection.InjectionPoint.kindOfInjectionPoint;
 import static mockit.internal.injection.InjectionPoint.wrapInProviderIfNeeded;
 import static mockit.internal.injection.InjectionProvider.NULL;
+import static mockit.internal.injection.InstantiationPlan.kindOfTargetField;
+import static mockit.internal.injection.InstantiationPlan.qualifiedNameOfTargetField;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -56,7 +51,7 @@ public class Injector {
         Class<?> classWithFields = actualTestedClass;
 
         do {
-            addEligibleFields(targetFields, classWithFields);
+            targetFields.addAll(InstantiationPlan.of(classWithFields).getEligibleFields());
             classWithFields = classWithFields.getSuperclass();
         } while (testedClass.isClassFromSameModuleOrSystemAsTestedClass(classWithFields)
                 || isJakartaServlet(classWithFields) || isJavaxServlet(classWithFields));
@@ -64,40 +59,6 @@ public class Injector {
         return targetFields;
     }
 
-    private static void addEligibleFields(@NonNull List<Field> targetFields, @NonNull Class<?> classWithFields) {
-        Field[] fields = classWithFields.getDeclaredFields();
-
-        for (Field field : fields) {
-            if (isEligibleForInjection(field)) {
-                targetFields.add(field);
-            }
-        }
-    }
-
-    private static boolean isEligibleForInjection(@NonNull Field field) {
-        int modifiers = field.getModifiers();
-
-        if (isFinal(modifiers)) {
-            return false;
-        }
-
-        if (kindOfInjectionPoint(field) != KindOfInjectionPoint.NotAnnotated) {
-            return true;
-        }
-
-        if (JAKARTA_PERSISTENCE_UNIT_CLASS != null
-                && field.getType().isAnnotationPresent(jakarta.persistence.Entity.class)) {
-            return false;
-        }
-
-        if (JAVAX_PERSISTENCE_UNIT_CLASS != null
-                && field.getType().isAnnotationPresent(javax.persistence.Entity.class)) {
-            return false;
-        }
-
-        return !isStatic(modifiers) && !isVolatile(modifiers);
-    }
-
     public final void fillOutDependenciesRecursively(@NonNull Object dependency, @NonNull TestedClass testedClass) {
         Class<?> dependencyClass = dependency.getClass();
         List<Field> targetFields = findAllTargetInstanceFieldsInTestedClassHierarchy(dependencyClass, testedClass);
@@ -126,7 +87,7 @@ public class Injector {
 
     private static boolean targetFieldWasNotAssignedByConstructor(@NonNull Object testedObject,
             @NonNull Field targetField) {
-        if (kindOfInjectionPoint(targetField) != KindOfInjectionPoint.NotAnnotated) {
+        if (kindOfTargetField(targetField) != KindOfInjectionPoint.NotAnnotated) {
             return true;
         }
 
@@ -151,7 +112,7 @@ public class Injector {
     private Object getValueForFieldIfAvailable(@NonNull List<Field> targetFields, @NonNull TestedClass testedClass,
             @NonNull Field targetField) {
         @Nullable
-        String qualifiedFieldName = getQualifiedName(targetField.getDeclaredAnnotations());
+        String qualifiedFieldName = qualifiedNameOfTargetField(targetField);
         InjectionProvider injectable = findAvailableInjectableIfAny(targetFields, qualifiedFieldName, testedClass,
                 targetField);
 
@@ -179,7 +140,7 @@ public class Injector {
             }
         }
 
-        KindOfInjectionPoint kindOfInjectionPoint = kindOfInjectionPoint(targetField);
+        KindOfInjectionPoint kindOfInjectionPoint = kindOfTargetField(targetField);
         throwExceptionIfUnableToInjectRequiredTargetField(kindOfInjectionPoint, targetField, qualifiedFieldName);
         return null;
     }
@@ -187,7 +148,7 @@ public class Injector {
     @Nullable
     private InjectionProvider findAvailableInjectableIfAny(@NonNull List<Field> targetFields,
             @Nullable String qualifiedTargetFieldName, @NonNull TestedClass testedClass, @NonNull Field targetField) {
-        KindOfInjectionPoint kindOfInjectionPoint = kindOfInjectionPoint(targetField);
+        KindOfInjectionPoint kindOfInjectionPoint = kindOfTargetField(targetField);
         InjectionProviders injectionProviders = injectionState.injectionProviders;
         injectionProviders.setTypeOfInjectionPoint(targetField.getGenericType(), kindOfInjectionPoint);
 
@@ -0,0 +1,360 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.injection;
+
+import static java.lang.reflect.Modifier.PRIVATE;
+import static java.lang.reflect.Modifier.PROTECTED;
+import static java.lang.reflect.Modifier.PUBLIC;
+import static java.lang.reflect.Modifier.isFinal;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.lang.reflect.Modifier.isVolatile;
+
+import static mockit.internal.injection.InjectionPoint.JAKARTA_PERSISTENCE_UNIT_CLASS;
+import static mockit.internal.injection.InjectionPoint.JAVAX_PERSISTENCE_UNIT_CLASS;
+import static mockit.internal.injection.InjectionPoint.getQualifiedName;
+import static mockit.internal.injection.InjectionPoint.kindOfInjectionPoint;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mockit.asm.types.JavaType;
+import mockit.internal.injection.InjectionPoint.KindOfInjectionPoint;
+import mockit.internal.reflection.ConstructorReflection;
+import mockit.internal.util.ClassMetadataIndex;
+
+/**
+ * The parts of the instantiation of a tested class, or of one of its dependencies, which don't depend on the tested and
+ * injectable values available to a particular test: the candidate constructors with the metadata of their parameters,
+ * the fields eligible for injection, and the location the class was loaded from.
+ * <p>
+ * A plan is computed on first use and kept for as long as the class is loaded, so that each test only has to match it
+ * against its own tested and injectable values.
+ */
+public final class InstantiationPlan {
+    private static final int CONSTRUCTOR_ACCESS = PUBLIC + PROTECTED + PRIVATE;
+
+    @NonNull
+    private static final Comparator<ConstructorPlan> PLANS_BY_ACCESSIBILITY = (plan1, plan2) -> compareAccessibility(
+            plan1.constructor, plan2.constructor);
+
+    @NonNull
+    private static final ClassValue<InstantiationPlan> PLANS = new ClassValue<InstantiationPlan>() {
+        @Override
+        protected InstantiationPlan computeValue(Class<?> type) {
+            return new InstantiationPlan(type);
+        }
+    };
+
+    /**
+     * A constructor of the planned class, with the metadata needed to match its parameters against injectables.
+     */
+    public static final class ConstructorPlan {
+        @NonNull
+        public final Constructor<?> constructor;
+        @NonNull
+        public final Type[] parameterTypes;
+        @NonNull
+        public final Annotation[][] parameterAnnotations;
+        @NonNull
+        private final String[] qualifiedNames;
+        @NonNull
+        public final KindOfInjectionPoint kindOfInjectionPoint;
+        @NonNull
+        public final String constructorDesc;
+        @Nullable
+        private volatile MethodHandle invoker;
+
+        ConstructorPlan(@NonNull Constructor<?> constructor) {
+            this.constructor = constructor;
+            parameterTypes = constructor.getGenericParameterTypes();
+            parameterAnnotations = constructor.getParameterAnnotations();
+            qualifiedNames = new String[parameterAnnotations.length];
+
+            for (int i = 0; i < qualifiedNames.length; i++) {
+                qualifiedNames[i] = InjectionPoint.getQualifiedName(parameterAnnotations[i]);
+            }
+
+            kindOfInjectionPoint = kindOfInjectionPoint(constructor);
+            constructorDesc = "<init>" + JavaType.getConstructorDescriptor(constructor);
+        }
+
+        public int getModifiers() {
+            return CONSTRUCTOR_ACCESS & constructor.getModifiers();
+        }
+
+        @Nullable
+        public String getQualifiedName(int parameterIndex) {
+            return qualifiedNames[parameterIndex];
+        }
+
+        /**
+         * Creates a new instance through a method handle for the constructor, created on first use.
+         */
+        @NonNull
+        public Object newInstance(@NonNull Object[] arguments) {
+            MethodHandle constructorInvoker = invoker;
+
+            if (constructorInvoker == null) {
+                constructorInvoker = ConstructorReflection.createConstructorHandle(constructor);
+                invoker = constructorInvoker;
+            }
+
+            return ConstructorReflection.invokeAccessible(constructorInvoker, constructor, arguments);
+        }
+    }
+
+    @NonNull
+    private final Class<?> plannedClass;
+    @Nullable
+    private volatile List<ConstructorPlan> constructors;
+    @Nullable
+    private volatile List<ConstructorPlan> constructorsByAccessibility;
+    @Nullable
+    private volatile List<Field> eligibleFields;
+    @Nullable
+    private volatile Map<Field, KindOfInjectionPoint> kindsOfEligibleFields;
+    @Nullable
+    private volatile Map<Field, String> qualifiedNamesOfEligibleFields;
+    @Nullable
+    private volatile String[] codeLocationParentPath;
+    @Nullable
+    private volatile Map<InjectionPoint, Field> fieldsByInjectionPoint;
+
+    private InstantiationPlan(@NonNull Class<?> plannedClass) {
+        this.plannedClass = plannedClass;
+    }
+
+    @NonNull
+    public static InstantiationPlan of(@NonNull Class<?> aClass) {
+        return PLANS.get(aClass);
+    }
+
+    /**
+     * The constructors declared in the planned class, in declaration order.
+     */
+    @NonNull
+    public List<ConstructorPlan> getConstructors() {
+        List<ConstructorPlan> plans = constructors;
+
+        if (plans == null) {
+            Constructor<?>[] declaredConstructors = plannedClass.getDeclaredConstructors();
+            List<ConstructorPlan> newPlans = new ArrayList<>(declaredConstructors.length);
+
+            for (Constructor<?> declaredConstructor : declaredConstructors) {
+                newPlans.add(new ConstructorPlan(declaredConstructor));
+            }
+
+            plans = Collections.unmodifiableList(newPlans);
+            constructors = plans;
+        }
+
+        return plans;
+    }
+
+    /**
+     * The constructors declared in the planned class, the most accessible ones first.
+     */
+    @NonNull
+    public List<ConstructorPlan> getConstructorsByAccessibility() {
+        List<ConstructorPlan> plans = constructorsByAccessibility;
+
+        if (plans == null) {
+            ConstructorPlan[] sortedPlans = getConstructors().toArray(new ConstructorPlan[0]);
+            Arrays.sort(sortedPlans, PLANS_BY_ACCESSIBILITY);
+            plans = Collections.unmodifiableList(Arrays.asList(sortedPlans));
+            constructorsByAccessibility = plans;
+        }
+
+        return plans;
+    }
+
+    public static int compareAccessibility(@NonNull Constructor<?> c1, @NonNull Constructor<?> c2) {
+        int m1 = CONSTRUCTOR_ACCESS & c1.getModifiers();
+        int m2 = CONSTRUCTOR_ACCESS & c2.getModifiers();
+        if (m1 == m2) {
+            return 0;
+        }
+        if (m1 == PUBLIC) {
+            return -1;
+        }
+        if (m2 == PUBLIC) {
+            return 1;
+        }
+        if (m1 == PROTECTED) {
+            return -1;
+        }
+        if (m2 == PROTECTED) {
+            return 1;
+        }
+        if (m2 == PRIVATE) {
+            return -1;
+        }
+        return 1;
+    }
+
+    /**
+     * The fields declared in the planned class (but not in its superclasses) which are eligible for injection.
+     */
+    @NonNull
+    List<Field> getEligibleFields() {
+        List<Field> fields = eligibleFields;
+
+        if (fields == null) {
+            Field[] declaredFields = ClassMetadataIndex.of(plannedClass).getDeclaredFields();
+            List<Field> newFields = new ArrayList<>(declaredFields.length);
+            Map<Field, KindOfInjectionPoint> kinds = new HashMap<>();
+            Map<Field, String> qualifiedNames = new HashMap<>();
+
+            for (Field field : declaredFields) {
+                KindOfInjectionPoint kind = kindOfInjectionPoint(field);
+
+                if (isEligibleForInjection(field, kind)) {
+                    newFields.add(field);
+                    kinds.put(field, kind);
+                    qualifiedNames.put(field, getQualifiedName(field.getDeclaredAnnotations()));
+                }
+            }
+
+            kindsOfEligibleFields = kinds;
+            qualifiedNamesOfEligibleFields = qualifiedNames;
+            fields = Collections.unmodifiableList(newFields);
+            eligibleFields = fields;
+        }
+
+        return fields;
+    }
+
+    private static boolean isEligibleForInjection(@NonNull Field field, @NonNull KindOfInjectionPoint kind) {
+        int modifiers = field.getModifiers();
+
+        if (isFinal(modifiers)) {
+            return false;
+        }
+
+        if (kind != KindOfInjectionPoint.NotAnnotated) {
+            return true;
+        }
+
+        if (JAKARTA_PERSISTENCE_UNIT_CLASS != null
+                && field.getType().isAnnotationPresent(jakarta.persistence.Entity.class)) {
+            return false;
+        }
+
+        if (JAVAX_PERSISTENCE_UNIT_CLASS != null
+                && field.getType().isAnnotationPresent(javax.persistence.Entity.class)) {
+            return false;
+        }
+
+        return !isStatic(modifiers) && !isVolatile(modifiers);
+    }
+
+    /**
+     * Gets the kind of injection point of a field, which is already known if the field was planned as eligible for
+     * injection.
+     */
+    @NonNull
+    static KindOfInjectionPoint kindOfTargetField(@NonNull Field field) {
+        InstantiationPlan plan = of(field.getDeclaringClass());
+        plan.getEligibleFields();
+        Map<Field, KindOfInjectionPoint> kinds = plan.kindsOfEligibleFields;
+        KindOfInjectionPoint kind = kinds == null ? null : kinds.get(field);
+        return kind == null ? kindOfInjectionPoint(field) : kind;
+    }
+
+    /**
+     * Gets the name given by a qualifying annotation on a field, which is already known if the field was planned as
+     * eligible for injection.
+     */
+    @Nullable
+    static String qualifiedNameOfTargetField(@NonNull Field field) {
+        InstantiationPlan plan = of(field.getDeclaringClass());
+        plan.getEligibleFields();
+        Map<Field, String> qualifiedNames = plan.qualifiedNamesOfEligibleFields;
+
+        if (qualifiedNames != null && qualifiedNames.containsKey(field)) {
+            return qualifiedNames.get(field);
+        }
+
+        return getQualifiedName(field.getDeclaredAnnotations());
+    }
+
+    /**
+     * The fields declared in the planned class (but not in its superclasses), keyed by the injection point each one can
+     * satisfy with its value: its type, together with its qualified name if any or else its name. When more than one
+     * field has the same key, the first one declared is kept.
+     */
+    @NonNull
+    Map<InjectionPoint, Field> getFieldsByInjectionPoint() {
+        Map<InjectionPoint, Field> fields = fieldsByInjectionPoint;
+
+        if (fields == null) {
+            Field[] declaredFields = ClassMetadataIndex.of(plannedClass).getDeclaredFields();
+            fields = new HashMap<>(declaredFields.length * 2);
+
+            for (Field field : declaredFields) {
+                String qualifiedName = getQualifiedName(field.getDeclaredAnnotations());
+                boolean qualified = qualifiedName != null;
+                String fieldName = qualified ? qualifiedName : field.getName();
+                fields.putIfAbsent(new InjectionPoint(field.getGenericType(), fieldName, qualified), field);
+            }
+
+            fieldsByInjectionPoint = fields;
+        }
+
+        return fields;
+    }
+
+    /**
+     * The path of the directory (or jar file) containing the location the planned class was loaded from, if known.
+     */
+    @Nullable
+    String getCodeLocationParentPath() {
+        String[] parentPath = codeLocationParentPath;
+
+        if (parentPath == null) {
+            parentPath = new String[] { findCodeLocationParentPath() };
+            codeLocationParentPath = parentPath;
+        }
+
+        return parentPath[0];
+    }
+
+    @Nullable
+    private String findCodeLocationParentPath() {
+        ProtectionDomain protectionDomain = plannedClass.getProtectionDomain();
+        CodeSource codeSource = protectionDomain.getCodeSource();
+
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return null;
+        }
+
+        URI location;
+        try {
+            location = codeSource.getLocation().toURI();
+        } catch (URISyntaxException e) {
+            location = null;
+        }
+        return Path.of(location).getParent().toString();
+    }
+}
@@ -42,14 +42,23 @@ public final class LifecycleMethods {
     @NonNull
     private final Map<Class<?>, Object> objectsWithTerminationMethodsToExecute;
 
+    @NonNull
+    private final List<Runnable> terminationActions;
+
     @Nullable
     private Object servletConfig;
 
+    @Nullable
+    private ParallelInitialization deferredInitialization;
+
+    private volatile boolean initializingConcurrently;
+
     LifecycleMethods() {
         classesSearched = new ArrayList<>();
         initializationMethods = new IdentityHashMap<>();
         terminationMethods = new IdentityHashMap<>();
         objectsWithTerminationMethodsToExecute = new IdentityHashMap<>();
+        terminationActions = new ArrayList<>();
     }
 
     public void findLifecycleMethods(@NonNull Class<?> testedClass) {
@@ -156,7 +165,43 @@ public final class LifecycleMethods {
                 || isServlet && "destroy".equals(method.getName()) && getParameterCount(method) == 0;
     }
 
+    /**
+     * Starts collecting the initialization methods that would be executed for newly created objects, instead of
+     * executing them right away.
+     */
+    @NonNull
+    ParallelInitialization deferInitializationMethods() {
+        ParallelInitialization initialization = new ParallelInitialization(this);
+        deferredInitialization = initialization;
+        return initialization;
+    }
+
+    void stopDeferringInitializationMethods() {
+        deferredInitialization = null;
+    }
+
+    void setInitializingConcurrently(boolean initializingConcurrently) {
+        this.initializingConcurrently = initializingConcurrently;
+    }
+
+    /**
+     * Whether initialization methods deferred for a tested object are currently running on multiple threads, in which
+     * case they may concurrently call back into injection, for example through an injected provider.
+     */
+    public boolean isInitializingConcurrently() {
+        return initializingConcurrently;
+    }
+
     public void executeInitializationMethodsIfAny(@NonNull Class<?> testedClass, @NonNull Object testedObject) {
+        ParallelInitialization initialization = deferredInitialization;
+
+        if (initialization != null) {
+            List<Method> methodsToExecute = new ArrayList<>();
+            collectInitializationMethods(testedClass, methodsToExecute);
+            initialization.addObjectToInitialize(testedClass, testedObject, methodsToExecute);
+            return;
+        }
+
         Class<?> superclass = testedClass.getSuperclass();
 
         if (superclass != Object.class) {
@@ -169,6 +214,37 @@ public final class LifecycleMethods {
             executeInitializationMethod(testedObject, postConstructMethod);
         }
 
+        registerTerminationMethodIfAny(testedClass, testedObject);
+    }
+
+    /**
+     * Collects the initialization methods of the given class and its superclasses, from the top of the hierarchy down.
+     */
+    private void collectInitializationMethods(@NonNull Class<?> testedClass, @NonNull List<Method> methodsToExecute) {
+        Class<?> superclass = testedClass.getSuperclass();
+
+        if (superclass != Object.class) {
+            collectInitializationMethods(superclass, methodsToExecute);
+        }
+
+        Method postConstructMethod = initializationMethods.get(testedClass);
+
+        if (postConstructMethod != null) {
+            methodsToExecute.add(postConstructMethod);
+        }
+    }
+
+    /**
+     * Registers the given object for the execution of the termination methods of its class and superclasses, once its
+     * deferred initialization methods have all been executed.
+     */
+    void registerTerminationMethodsIfAny(@NonNull Class<?> testedClass, @NonNull Object testedObject) {
+        for (Class<?> aClass = testedClass; aClass != Object.class; aClass = aClass.getSuperclass()) {
+            registerTerminationMethodIfAny(aClass, testedObject);
+        }
+    }
+
+    private void registerTerminationMethodIfAny(@NonNull Class<?> testedClass, @NonNull Object testedObject) {
         Method preDestroyMethod = terminationMethods.get(testedClass);
 
         if (preDestroyMethod != null) {
@@ -176,7 +252,7 @@ public final class LifecycleMethods {
         }
     }
 
-    private void executeInitializationMethod(@NonNull Object testedObject, @NonNull Method initializationMethod) {
+    void executeInitializationMethod(@NonNull Object testedObject, @NonNull Method initializationMethod) {
         Object[] args = NO_ARGS;
 
         if ("init".equals(initializationMethod.getName()) && getParameterCount(initializationMethod) == 1) {
@@ -192,6 +268,14 @@ public final class LifecycleMethods {
         }
     }
 
+    /**
+     * Adds an action to be executed when the current tested objects are discarded, after their termination methods.
+     * Actions are executed in the reverse order they were added.
+     */
+    public synchronized void addTerminationAction(@NonNull Runnable terminationAction) {
+        terminationActions.add(terminationAction);
+    }
+
     void executeTerminationMethodsIfAny() {
         try {
             for (Entry<Class<?>, Object> testedClassAndObject : objectsWithTerminationMethodsToExecute.entrySet()) {
@@ -199,6 +283,27 @@ public final class LifecycleMethods {
             }
         } finally {
             objectsWithTerminationMethodsToExecute.clear();
+            executeTerminationActionsIfAny();
+        }
+    }
+
+    private synchronized void executeTerminationActionsIfAny() {
+        if (terminationActions.isEmpty()) {
+            return;
+        }
+
+        TestRun.exitNoMockingZone();
+
+        try {
+            for (int i = terminationActions.size() - 1; i >= 0; i--) {
+                try {
+                    terminationActions.get(i).run();
+                } catch (RuntimeException | AssertionError ignore) {
+                }
+            }
+        } finally {
+            terminationActions.clear();
+            TestRun.enterNoMockingZone();
         }
     }
 
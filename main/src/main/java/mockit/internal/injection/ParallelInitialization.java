@@ -0,0 +1,265 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.injection;
+
+import static java.lang.reflect.Modifier.isStatic;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import mockit.internal.reflection.FieldReflection;
+import mockit.internal.util.ClassMetadataIndex;
+
+/**
+ * The initialization methods of the objects in the dependency graph of a
+ * <code>@Tested(fullyInitialized = true, parallelInitialization = true)</code> object, collected while the graph is
+ * instantiated on the test thread, so that they can later run concurrently.
+ * <p>
+ * Objects are kept in the order in which they would have been initialized one at a time. An object depends on those
+ * earlier objects which are held in its instance fields, and is only initialized after them; objects without pending
+ * dependencies are initialized on a bounded pool shared by all tests. If initialization fails, the failure of the
+ * earliest object in that order is the one thrown, whatever the order in which the failures actually occurred. Once the
+ * whole batch is done, the objects whose initialization methods all completed are registered for the execution of
+ * their termination methods.
+ */
+final class ParallelInitialization {
+    private static final class Pool {
+        static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+        @NonNull
+        static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS, new DaemonThreadFactory());
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        @NonNull
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@NonNull Runnable task) {
+            Thread thread = new Thread(task, "JMockit-initialization-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    @NonNull
+    private final LifecycleMethods lifecycleMethods;
+    @NonNull
+    private final List<Class<?>> classes;
+    @NonNull
+    private final List<Object> objects;
+    @NonNull
+    private final List<List<Method>> initializationMethods;
+    @NonNull
+    private final Map<Object, Integer> objectIndexes;
+
+    ParallelInitialization(@NonNull LifecycleMethods lifecycleMethods) {
+        this.lifecycleMethods = lifecycleMethods;
+        classes = new ArrayList<>();
+        objects = new ArrayList<>();
+        initializationMethods = new ArrayList<>();
+        objectIndexes = new IdentityHashMap<>();
+    }
+
+    void addObjectToInitialize(@NonNull Class<?> objectClass, @NonNull Object object, @NonNull List<Method> methods) {
+        if (!objectIndexes.containsKey(object)) {
+            objectIndexes.put(object, objects.size());
+            classes.add(objectClass);
+            objects.add(object);
+            initializationMethods.add(methods);
+        }
+    }
+
+    int getObjectCount() {
+        return objects.size();
+    }
+
+    /**
+     * Finds, for each collected object, the indexes of the earlier ones it holds in its instance fields.
+     */
+    @NonNull
+    int[][] resolveDependencies() {
+        int objectCount = objects.size();
+        int[][] dependencies = new int[objectCount][];
+
+        for (int i = 0; i < objectCount; i++) {
+            dependencies[i] = findDependencies(i);
+        }
+
+        return dependencies;
+    }
+
+    @NonNull
+    private int[] findDependencies(int objectIndex) {
+        Object object = objects.get(objectIndex);
+        boolean[] dependedOn = new boolean[objectIndex];
+        int dependencyCount = 0;
+
+        for (Class<?> aClass = object.getClass(); aClass != null
+                && aClass.getClassLoader() != null; aClass = aClass.getSuperclass()) {
+            for (Field field : ClassMetadataIndex.of(aClass).getDeclaredFields()) {
+                if (isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                    continue;
+                }
+
+                Object fieldValue = FieldReflection.getFieldValue(field, object);
+                Integer dependencyIndex = fieldValue == null ? null : objectIndexes.get(fieldValue);
+
+                if (dependencyIndex != null && dependencyIndex < objectIndex && !dependedOn[dependencyIndex]) {
+                    dependedOn[dependencyIndex] = true;
+                    dependencyCount++;
+                }
+            }
+        }
+
+        int[] dependencies = new int[dependencyCount];
+
+        for (int i = 0, j = 0; j < dependencyCount; i++) {
+            if (dependedOn[i]) {
+                dependencies[j++] = i;
+            }
+        }
+
+        return dependencies;
+    }
+
+    void execute() {
+        int objectCount = objects.size();
+
+        if (objectCount == 0) {
+            return;
+        }
+
+        boolean[] initialized = new boolean[objectCount];
+
+        try {
+            if (objectCount == 1 || Pool.THREADS == 1) {
+                for (int i = 0; i < objectCount; i++) {
+                    initializeObject(initialized, i);
+                }
+            } else {
+                executeConcurrently(resolveDependencies(), initialized);
+            }
+        } finally {
+            registerTerminationMethods(initialized);
+        }
+    }
+
+    private void initializeObject(@NonNull boolean[] initialized, int objectIndex) {
+        Object object = objects.get(objectIndex);
+
+        for (Method initializationMethod : initializationMethods.get(objectIndex)) {
+            lifecycleMethods.executeInitializationMethod(object, initializationMethod);
+        }
+
+        initialized[objectIndex] = true;
+    }
+
+    private void registerTerminationMethods(@NonNull boolean[] initialized) {
+        for (int i = 0; i < initialized.length; i++) {
+            if (initialized[i]) {
+                lifecycleMethods.registerTerminationMethodsIfAny(classes.get(i), objects.get(i));
+            }
+        }
+    }
+
+    private void executeConcurrently(@NonNull int[][] dependencies, @NonNull boolean[] initialized) {
+        int objectCount = dependencies.length;
+        int[] pendingDependencies = new int[objectCount];
+        List<List<Integer>> dependents = new ArrayList<>(objectCount);
+
+        for (int i = 0; i < objectCount; i++) {
+            pendingDependencies[i] = dependencies[i].length;
+            dependents.add(new ArrayList<>());
+
+            for (int dependency : dependencies[i]) {
+                dependents.get(dependency).add(i);
+            }
+        }
+
+        CompletionService<Integer> completionService = new ExecutorCompletionService<>(Pool.EXECUTOR);
+        Throwable[] failures = new Throwable[objectCount];
+        int running = 0;
+        lifecycleMethods.setInitializingConcurrently(true);
+
+        try {
+            for (int i = 0; i < objectCount; i++) {
+                if (pendingDependencies[i] == 0) {
+                    submit(completionService, failures, initialized, i);
+                    running++;
+                }
+            }
+
+            boolean failed = false;
+
+            while (running > 0) {
+                int completedIndex = takeCompleted(completionService);
+                running--;
+
+                if (failures[completedIndex] != null) {
+                    failed = true;
+                } else if (!failed) {
+                    for (int dependent : dependents.get(completedIndex)) {
+                        if (--pendingDependencies[dependent] == 0) {
+                            submit(completionService, failures, initialized, dependent);
+                            running++;
+                        }
+                    }
+                }
+            }
+        } finally {
+            lifecycleMethods.setInitializingConcurrently(false);
+        }
+
+        for (Throwable failure : failures) {
+            if (failure != null) {
+                throwFailure(failure);
+            }
+        }
+    }
+
+    private void submit(@NonNull CompletionService<Integer> completionService, @NonNull Throwable[] failures,
+            @NonNull boolean[] initialized, int objectIndex) {
+        completionService.submit(() -> {
+            try {
+                initializeObject(initialized, objectIndex);
+            } catch (Throwable t) {
+                failures[objectIndex] = t;
+            }
+
+            return objectIndex;
+        });
+    }
+
+    private static int takeCompleted(@NonNull CompletionService<Integer> completionService) {
+        try {
+            return completionService.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while initializing tested objects", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static <E extends Throwable> void throwFailure(@NonNull Throwable failure) throws E {
+        // noinspection unchecked
+        throw (E) failure;
+    }
+}
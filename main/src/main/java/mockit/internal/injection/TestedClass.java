@@ -48,18 +48,7 @@ public final class TestedClass {
         this.targetClass = targetClass;
         reflection = new GenericTypeReflection(declaredClass, declaredType, false);
         protectionDomainOfTestedClass = declaredClass.getProtectionDomain();
-        CodeSource codeSource = protectionDomainOfTestedClass.getCodeSource();
-        if (codeSource == null || codeSource.getLocation() == null) {
-            codeLocationParentPath = null;
-        } else {
-            URI location;
-            try {
-                location = codeSource.getLocation().toURI();
-            } catch (URISyntaxException e) {
-                location = null;
-            }
-            codeLocationParentPath = Path.of(location).getParent().toString();
-        }
+        codeLocationParentPath = InstantiationPlan.of(declaredClass).getCodeLocationParentPath();
         nameOfTestedClass = declaredClass.getName();
         this.parent = parent;
     }
@@ -22,6 +22,7 @@ import mockit.Injectable;
 import mockit.Tested;
 import mockit.asm.jvmConstants.Access;
 import mockit.internal.expectations.mocking.MockedType;
+import mockit.internal.util.ClassMetadataIndex;
 
 public final class TestedClassInstantiations {
     private static final int FIELD_ACCESS_MASK = Access.SYNTHETIC + Access.STATIC;
@@ -60,7 +61,7 @@ public final class TestedClassInstantiations {
     }
 
     private void examineInstanceFields(@NonNull Class<?> testClass) {
-        for (Field candidateField : testClass.getDeclaredFields()) {
+        for (Field candidateField : ClassMetadataIndex.of(testClass).getDeclaredFields()) {
             if ((candidateField.getModifiers() & FIELD_ACCESS_MASK) == 0) {
                 addAsTestedOrInjectableFieldIfApplicable(candidateField);
             }
@@ -68,7 +69,7 @@ public final class TestedClassInstantiations {
     }
 
     private void examineMethods(@NonNull Class<?> testClass) {
-        for (Method candidateMethod : testClass.getDeclaredMethods()) {
+        for (Method candidateMethod : ClassMetadataIndex.of(testClass).getDeclaredMethods()) {
             if ((candidateMethod.getModifiers() & METHOD_ACCESS_MASK) == 0) {
                 addAsTestedMethodIfApplicable(candidateMethod);
             }
@@ -51,7 +51,8 @@ abstract class TestedObject {
         this.injectionState = injectionState;
         this.metadata = metadata;
         this.testedName = testedName;
-        fullInjection = metadata.fullyInitialized() ? new FullInjection(injectionState, testedClass, testedName) : null;
+        fullInjection = metadata.fullyInitialized() ? new FullInjection(injectionState, testedClass, testedName,
+                metadata.sharedPersistence(), metadata.transactionPerTest()) : null;
 
         if (testedClass.isInterface() || testedClass.isEnum() || testedClass.isPrimitive() || testedClass.isArray()) {
             testedObjectCreation = null;
@@ -88,12 +89,21 @@ abstract class TestedObject {
                 return;
             }
 
+            if (fullInjection != null && metadata.parallelInitialization()) {
+                createWithParallelInitialization(testClassInstance, injectionPoint, testedObjectClass);
+                return;
+            }
+
             testedObject = createAndRegisterNewObject(testClassInstance, injectionPoint);
         } else if (testedObject != null) {
             registerTestedObject(injectionPoint, testedObject);
             testedObjectClass = testedObject.getClass();
         }
 
+        injectAndInitialize(testedObjectClass, testedObject);
+    }
+
+    private void injectAndInitialize(@NonNull Class<?> testedObjectClass, @Nullable Object testedObject) {
         if (testedObject != null && testedObjectClass.getClassLoader() != null) {
             performFieldInjection(testedObjectClass, testedObject);
 
@@ -103,6 +113,25 @@ abstract class TestedObject {
         }
     }
 
+    /**
+     * Creates and injects the whole dependency graph of the tested object on the current thread, as usual, but only
+     * then executes the initialization methods of its objects, independent ones concurrently.
+     */
+    private void createWithParallelInitialization(@NonNull Object testClassInstance,
+            @NonNull InjectionPoint injectionPoint, @NonNull Class<?> testedObjectClass) {
+        LifecycleMethods lifecycleMethods = injectionState.lifecycleMethods;
+        ParallelInitialization initialization = lifecycleMethods.deferInitializationMethods();
+
+        try {
+            Object testedObject = createAndRegisterNewObject(testClassInstance, injectionPoint);
+            injectAndInitialize(testedObjectClass, testedObject);
+        } finally {
+            lifecycleMethods.stopDeferringInitializationMethods();
+        }
+
+        initialization.execute();
+    }
+
     boolean alreadyInstantiated(@NonNull Object testClassInstance) {
         return false;
     }
@@ -10,13 +10,13 @@ import static java.lang.reflect.Modifier.isAbstract;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Type;
 
 import mockit.asm.classes.ClassReader;
 import mockit.asm.classes.ClassVisitor;
 import mockit.internal.classGeneration.ImplementationClass;
 import mockit.internal.expectations.mocking.SubclassGenerationModifier;
+import mockit.internal.injection.InstantiationPlan.ConstructorPlan;
 import mockit.internal.injection.constructor.ConstructorInjection;
 import mockit.internal.injection.constructor.ConstructorSearch;
 import mockit.internal.injection.full.FullInjection;
@@ -64,7 +64,7 @@ public final class TestedObjectCreation {
     @Nullable
     public Object create(boolean required, boolean needToConstruct) {
         ConstructorSearch constructorSearch = new ConstructorSearch(injectionState, testedClass, fullInjection != null);
-        Constructor<?> constructor = constructorSearch.findConstructorToUse();
+        ConstructorPlan constructor = constructorSearch.findConstructorPlanToUse();
 
         if (constructor == null) {
             String description = constructorSearch.getDescription();
@@ -7,19 +7,15 @@ package mockit.internal.injection.constructor;
 
 import static mockit.internal.injection.InjectionPoint.getQualifiedName;
 import static mockit.internal.injection.InjectionPoint.getTypeOfInjectionPointFromVarargsParameter;
-import static mockit.internal.injection.InjectionPoint.kindOfInjectionPoint;
 import static mockit.internal.injection.InjectionPoint.wrapInProviderIfNeeded;
 import static mockit.internal.injection.InjectionProvider.NULL;
-import static mockit.internal.reflection.ConstructorReflection.invokeAccessible;
 import static mockit.internal.util.Utilities.NO_ARGS;
-import static mockit.internal.util.Utilities.ensureThatMemberIsAccessible;
 import static mockit.internal.util.Utilities.getClassType;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +26,7 @@ import mockit.internal.injection.InjectionProvider;
 import mockit.internal.injection.InjectionProviders;
 import mockit.internal.injection.InjectionState;
 import mockit.internal.injection.Injector;
+import mockit.internal.injection.InstantiationPlan.ConstructorPlan;
 import mockit.internal.injection.TestedClass;
 import mockit.internal.injection.full.FullInjection;
 import mockit.internal.state.ParameterNames;
@@ -39,24 +36,23 @@ import mockit.internal.util.StackTrace;
 
 public final class ConstructorInjection extends Injector {
     @NonNull
-    private final Constructor<?> constructor;
+    private final ConstructorPlan constructor;
 
     public ConstructorInjection(@NonNull InjectionState injectionState, @Nullable FullInjection fullInjection,
-            @NonNull Constructor<?> constructor) {
+            @NonNull ConstructorPlan constructor) {
         super(injectionState, fullInjection);
-        ensureThatMemberIsAccessible(constructor);
         this.constructor = constructor;
     }
 
     @Nullable
     public Object instantiate(@NonNull List<InjectionProvider> parameterProviders, @NonNull TestedClass testedClass,
             boolean required, boolean needToConstruct) {
-        Type[] parameterTypes = constructor.getGenericParameterTypes();
+        Type[] parameterTypes = constructor.parameterTypes;
         int n = parameterTypes.length;
         List<InjectionProvider> consumedInjectables = n == 0 ? null
                 : injectionState.injectionProviders.saveConsumedInjectionProviders();
         Object[] arguments = n == 0 ? NO_ARGS : new Object[n];
-        boolean varArgs = constructor.isVarArgs();
+        boolean varArgs = constructor.constructor.isVarArgs();
 
         if (varArgs) {
             n--;
@@ -110,7 +106,7 @@ public final class ConstructorInjection extends Injector {
 
         if (FullInjection.isInstantiableType(parameterClass)) {
             Type parameterType = constructorParameter.getDeclaredType();
-            KindOfInjectionPoint kindOfInjectionPoint = kindOfInjectionPoint(constructor);
+            KindOfInjectionPoint kindOfInjectionPoint = constructor.kindOfInjectionPoint;
             injectionState.injectionProviders.setTypeOfInjectionPoint(parameterType, kindOfInjectionPoint);
             String qualifiedName = getQualifiedName(constructorParameter.getAnnotations());
             TestedClass nextTestedClass = new TestedClass(parameterType, parameterClass);
@@ -155,18 +151,18 @@ public final class ConstructorInjection extends Injector {
 
     @NonNull
     private String getClassDesc() {
-        return JavaType.getInternalName(constructor.getDeclaringClass());
+        return JavaType.getInternalName(constructor.constructor.getDeclaringClass());
     }
 
     @NonNull
     private String getConstructorDesc() {
-        return "<init>" + JavaType.getConstructorDescriptor(constructor);
+        return constructor.constructorDesc;
     }
 
     @NonNull
     private Object obtainInjectedVarargsArray(@NonNull Type parameterType, @NonNull TestedClass testedClass) {
         Type varargsElementType = getTypeOfInjectionPointFromVarargsParameter(parameterType);
-        KindOfInjectionPoint kindOfInjectionPoint = kindOfInjectionPoint(constructor);
+        KindOfInjectionPoint kindOfInjectionPoint = constructor.kindOfInjectionPoint;
         InjectionProviders injectionProviders = injectionState.injectionProviders;
         injectionProviders.setTypeOfInjectionPoint(varargsElementType, kindOfInjectionPoint);
 
@@ -215,7 +211,7 @@ public final class ConstructorInjection extends Injector {
         TestRun.exitNoMockingZone();
 
         try {
-            return invokeAccessible(constructor, arguments);
+            return constructor.newInstance(arguments);
         } finally {
             TestRun.enterNoMockingZone();
         }
@@ -5,13 +5,8 @@
  */
 package mockit.internal.injection.constructor;
 
-import static java.lang.reflect.Modifier.PRIVATE;
-import static java.lang.reflect.Modifier.PROTECTED;
-import static java.lang.reflect.Modifier.PUBLIC;
-
-import static mockit.internal.injection.InjectionPoint.getQualifiedName;
 import static mockit.internal.injection.InjectionPoint.getTypeOfInjectionPointFromVarargsParameter;
-import static mockit.internal.injection.InjectionPoint.kindOfInjectionPoint;
+import static mockit.internal.injection.InstantiationPlan.compareAccessibility;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -20,23 +15,20 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
 
-import mockit.asm.types.JavaType;
 import mockit.internal.injection.InjectionPoint;
 import mockit.internal.injection.InjectionPoint.KindOfInjectionPoint;
 import mockit.internal.injection.InjectionProvider;
 import mockit.internal.injection.InjectionProviders;
 import mockit.internal.injection.InjectionState;
+import mockit.internal.injection.InstantiationPlan;
+import mockit.internal.injection.InstantiationPlan.ConstructorPlan;
 import mockit.internal.injection.TestedClass;
 import mockit.internal.state.ParameterNames;
 import mockit.internal.util.ParameterNameExtractor;
 
 public final class ConstructorSearch {
-    private static final int CONSTRUCTOR_ACCESS = PUBLIC + PROTECTED + PRIVATE;
-
     @NonNull
     private final InjectionState injectionState;
     @NonNull
@@ -47,7 +39,7 @@ public final class ConstructorSearch {
     public List<InjectionProvider> parameterProviders;
     private final boolean withFullInjection;
     @Nullable
-    private Constructor<?> constructor;
+    private ConstructorPlan constructor;
     @Nullable
     private StringBuilder searchResults;
 
@@ -63,20 +55,29 @@ public final class ConstructorSearch {
 
     @Nullable
     public Constructor<?> findConstructorToUse() {
+        ConstructorPlan constructorToUse = findConstructorPlanToUse();
+        return constructorToUse == null ? null : constructorToUse.constructor;
+    }
+
+    /**
+     * Matches the constructors planned for the tested class against the tested and injectable values currently
+     * available, returning the plan of the constructor to use, if any.
+     */
+    @Nullable
+    public ConstructorPlan findConstructorPlanToUse() {
         constructor = null;
-        Class<?> declaredClass = testedClass.targetClass;
-        Constructor<?>[] constructors = declaredClass.getDeclaredConstructors();
+        InstantiationPlan instantiationPlan = InstantiationPlan.of(testedClass.targetClass);
 
-        if (!findSingleAnnotatedConstructor(constructors)) {
-            findSatisfiedConstructorWithMostParameters(constructors);
+        if (!findSingleAnnotatedConstructor(instantiationPlan.getConstructors())) {
+            findSatisfiedConstructorWithMostParameters(instantiationPlan.getConstructorsByAccessibility());
         }
 
         return constructor;
     }
 
-    private boolean findSingleAnnotatedConstructor(@NonNull Constructor<?>[] constructors) {
-        for (Constructor<?> c : constructors) {
-            if (kindOfInjectionPoint(c) != KindOfInjectionPoint.NotAnnotated) {
+    private boolean findSingleAnnotatedConstructor(@NonNull List<ConstructorPlan> constructors) {
+        for (ConstructorPlan c : constructors) {
+            if (c.kindOfInjectionPoint != KindOfInjectionPoint.NotAnnotated) {
                 List<InjectionProvider> providersFound = findParameterProvidersForConstructor(c);
 
                 if (providersFound != null) {
@@ -91,13 +92,11 @@ public final class ConstructorSearch {
         return false;
     }
 
-    private void findSatisfiedConstructorWithMostParameters(@NonNull Constructor<?>[] constructors) {
-        sortConstructorsWithMostAccessibleFirst(constructors);
-
-        Constructor<?> unresolvedConstructor = null;
+    private void findSatisfiedConstructorWithMostParameters(@NonNull List<ConstructorPlan> constructors) {
+        ConstructorPlan unresolvedConstructor = null;
         List<InjectionProvider> incompleteProviders = null;
 
-        for (Constructor<?> candidateConstructor : constructors) {
+        for (ConstructorPlan candidateConstructor : constructors) {
             List<InjectionProvider> providersFound = findParameterProvidersForConstructor(candidateConstructor);
 
             if (providersFound != null) {
@@ -118,38 +117,6 @@ public final class ConstructorSearch {
         selectConstructorWithUnresolvedParameterIfMoreAccessible(unresolvedConstructor, incompleteProviders);
     }
 
-    private static void sortConstructorsWithMostAccessibleFirst(@NonNull Constructor<?>[] constructors) {
-        if (constructors.length > 1) {
-            Arrays.sort(constructors, CONSTRUCTOR_COMPARATOR);
-        }
-    }
-
-    private static final Comparator<Constructor<?>> CONSTRUCTOR_COMPARATOR = ConstructorSearch::compareAccessibility;
-
-    private static int compareAccessibility(@NonNull Constructor<?> c1, @NonNull Constructor<?> c2) {
-        int m1 = getModifiers(c1);
-        int m2 = getModifiers(c2);
-        if (m1 == m2) {
-            return 0;
-        }
-        if (m1 == PUBLIC) {
-            return -1;
-        }
-        if (m2 == PUBLIC) {
-            return 1;
-        }
-        if (m1 == PROTECTED) {
-            return -1;
-        }
-        if (m2 == PROTECTED) {
-            return 1;
-        }
-        if (m2 == PRIVATE) {
-            return -1;
-        }
-        return 1;
-    }
-
     private static boolean containsUnresolvedProvider(@NonNull List<InjectionProvider> providersFound) {
         for (InjectionProvider provider : providersFound) {
             if (provider instanceof ConstructorParameter && provider.getValue(null) == null) {
@@ -160,34 +127,30 @@ public final class ConstructorSearch {
         return false;
     }
 
-    private static boolean isLargerConstructor(@NonNull Constructor<?> candidateConstructor,
-            @NonNull List<InjectionProvider> providersFound, @NonNull Constructor<?> previousSatisfiableConstructor,
+    private static boolean isLargerConstructor(@NonNull ConstructorPlan candidateConstructor,
+            @NonNull List<InjectionProvider> providersFound, @NonNull ConstructorPlan previousSatisfiableConstructor,
             @NonNull List<InjectionProvider> previousProviders) {
-        return getModifiers(candidateConstructor) == getModifiers(previousSatisfiableConstructor)
+        return candidateConstructor.getModifiers() == previousSatisfiableConstructor.getModifiers()
                 && providersFound.size() >= previousProviders.size();
     }
 
-    private static int getModifiers(@NonNull Constructor<?> c) {
-        return CONSTRUCTOR_ACCESS & c.getModifiers();
-    }
-
     @Nullable
-    private List<InjectionProvider> findParameterProvidersForConstructor(@NonNull Constructor<?> candidate) {
-        Type[] parameterTypes = candidate.getGenericParameterTypes();
-        Annotation[][] parameterAnnotations = candidate.getParameterAnnotations();
+    private List<InjectionProvider> findParameterProvidersForConstructor(@NonNull ConstructorPlan candidate) {
+        Type[] parameterTypes = candidate.parameterTypes;
+        Annotation[][] parameterAnnotations = candidate.parameterAnnotations;
         int n = parameterTypes.length;
         List<InjectionProvider> providersFound = new ArrayList<>(n);
-        boolean varArgs = candidate.isVarArgs();
+        boolean varArgs = candidate.constructor.isVarArgs();
 
         if (varArgs) {
             n--;
         }
 
-        printCandidateConstructorNameIfRequested(candidate);
+        printCandidateConstructorNameIfRequested(candidate.constructor);
 
-        String constructorDesc = "<init>" + JavaType.getConstructorDescriptor(candidate);
+        String constructorDesc = candidate.constructorDesc;
         InjectionProviders injectionProviders = injectionState.injectionProviders;
-        KindOfInjectionPoint kindOfInjectionPoint = kindOfInjectionPoint(candidate);
+        KindOfInjectionPoint kindOfInjectionPoint = candidate.kindOfInjectionPoint;
 
         for (int i = 0; i < n; i++) {
             Type parameterType = parameterTypes[i];
@@ -196,7 +159,7 @@ public final class ConstructorSearch {
             String parameterName = ParameterNames.getName(testedClassDesc, constructorDesc, i);
             Annotation[] appliedAnnotations = parameterAnnotations[i];
             InjectionProvider provider = findOrCreateInjectionProvider(parameterType, parameterName,
-                    appliedAnnotations);
+                    appliedAnnotations, candidate.getQualifiedName(i));
 
             if (provider == null || providersFound.contains(provider)) {
                 printParameterOfCandidateConstructorIfRequested(parameterName, provider);
@@ -221,9 +184,7 @@ public final class ConstructorSearch {
 
     @Nullable
     private InjectionProvider findOrCreateInjectionProvider(@NonNull Type parameterType, @Nullable String parameterName,
-            @NonNull Annotation[] parameterAnnotations) {
-        String qualifiedName = getQualifiedName(parameterAnnotations);
-
+            @NonNull Annotation[] parameterAnnotations, @Nullable String qualifiedName) {
         if (parameterName == null && qualifiedName == null) {
             return null;
         }
@@ -256,9 +217,9 @@ public final class ConstructorSearch {
     }
 
     private void selectConstructorWithUnresolvedParameterIfMoreAccessible(
-            @Nullable Constructor<?> unresolvedConstructor, List<InjectionProvider> incompleteProviders) {
-        if (unresolvedConstructor != null
-                && (constructor == null || compareAccessibility(unresolvedConstructor, constructor) < 0)) {
+            @Nullable ConstructorPlan unresolvedConstructor, List<InjectionProvider> incompleteProviders) {
+        if (unresolvedConstructor != null && (constructor == null
+                || compareAccessibility(unresolvedConstructor.constructor, constructor.constructor) < 0)) {
             constructor = unresolvedConstructor;
             parameterProviders = incompleteProviders;
         }
@@ -64,6 +64,8 @@ public final class FullInjection {
     @Nullable
     private final JPAJavaxDependencies jpaJavaxDependencies;
 
+    private final boolean sharedPersistence;
+
     @Nullable
     private Class<?> dependencyClass;
 
@@ -72,15 +74,22 @@ public final class FullInjection {
 
     public FullInjection(@NonNull InjectionState injectionState, @NonNull Class<?> testedClass,
             @NonNull String testedName) {
+        this(injectionState, testedClass, testedName, false, false);
+    }
+
+    public FullInjection(@NonNull InjectionState injectionState, @NonNull Class<?> testedClass,
+            @NonNull String testedName, boolean sharedPersistence, boolean transactionPerTest) {
         this.injectionState = injectionState;
         testedClassName = testedClass.getSimpleName();
         this.testedName = testedName;
+        this.sharedPersistence = sharedPersistence;
         servletJakartaDependencies = JAKARTA_SERVLET_CLASS == null ? null
                 : new ServletJakartaDependencies(injectionState);
         servletJavaxDependencies = JAVAX_SERVLET_CLASS == null ? null : new ServletJavaxDependencies(injectionState);
         jpaJakartaDependencies = JAKARTA_PERSISTENCE_UNIT_CLASS == null ? null
-                : new JPAJakartaDependencies(injectionState);
-        jpaJavaxDependencies = JAVAX_PERSISTENCE_UNIT_CLASS == null ? null : new JPAJavaxDependencies(injectionState);
+                : new JPAJakartaDependencies(injectionState, transactionPerTest);
+        jpaJavaxDependencies = JAVAX_PERSISTENCE_UNIT_CLASS == null ? null
+                : new JPAJavaxDependencies(injectionState, transactionPerTest);
     }
 
     @Nullable
@@ -260,7 +269,7 @@ public final class FullInjection {
         // Check annotation is present (both jars)
         if ((JAKARTA_RESOURCE_CLASS != null && injectionProvider.hasAnnotation(jakarta.annotation.Resource.class))
                 || (JAVAX_RESOURCE_CLASS != null && injectionProvider.hasAnnotation(javax.annotation.Resource.class))) {
-            TestDataSource dsCreation = new TestDataSource(injectionPoint);
+            TestDataSource dsCreation = new TestDataSource(injectionPoint, sharedPersistence);
             CommonDataSource dataSource = dsCreation.createIfDataSourceDefinitionAvailable(testedClass);
 
             if (dataSource != null) {
@@ -329,7 +338,16 @@ public final class FullInjection {
             return newInstanceUsingDefaultConstructorIfAvailable(classToInstantiate);
         }
 
-        return new TestedObjectCreation(injectionState, this, classToInstantiate).create(required, false);
+        TestedObjectCreation creation = new TestedObjectCreation(injectionState, this, classToInstantiate);
+
+        if (!injectionState.lifecycleMethods.isInitializingConcurrently()) {
+            return creation.create(required, false);
+        }
+
+        // Providers can be called from initialization methods running concurrently.
+        synchronized (injectionState) {
+            return creation.create(required, false);
+        }
     }
 
     @NonNull
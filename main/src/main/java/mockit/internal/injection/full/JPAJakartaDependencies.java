@@ -10,6 +10,7 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
 import jakarta.persistence.Persistence;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.PersistenceUnit;
@@ -41,11 +42,13 @@ final class JPAJakartaDependencies {
 
     @NonNull
     private final InjectionState injectionState;
+    private final boolean transactionPerTest;
     @Nullable
     private String defaultPersistenceUnitName;
 
-    JPAJakartaDependencies(@NonNull InjectionState injectionState) {
+    JPAJakartaDependencies(@NonNull InjectionState injectionState, boolean transactionPerTest) {
         this.injectionState = injectionState;
+        this.transactionPerTest = transactionPerTest;
     }
 
     @Nullable
@@ -151,7 +154,29 @@ final class JPAJakartaDependencies {
         }
 
         EntityManager entityManager = emFactory.createEntityManager();
+
+        if (transactionPerTest) {
+            entityManager.getTransaction().begin();
+            injectionState.lifecycleMethods.addTerminationAction(() -> rollBackAndClose(entityManager));
+        }
+
         injectionState.saveInstantiatedDependency(injectionPoint, entityManager);
         return entityManager;
     }
+
+    /**
+     * Undoes the changes made through the entity manager during the test, so that they aren't seen by the next one
+     * (persistence unit factories are shared by all tests).
+     */
+    private static void rollBackAndClose(@NonNull EntityManager entityManager) {
+        try {
+            EntityTransaction transaction = entityManager.getTransaction();
+
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+        } finally {
+            entityManager.close();
+        }
+    }
 }
@@ -14,6 +14,7 @@ import java.lang.annotation.Annotation;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
 import javax.persistence.Persistence;
 import javax.persistence.PersistenceContext;
 import javax.persistence.PersistenceUnit;
@@ -40,11 +41,13 @@ final class JPAJavaxDependencies {
 
     @NonNull
     private final InjectionState injectionState;
+    private final boolean transactionPerTest;
     @Nullable
     private String defaultPersistenceUnitName;
 
-    JPAJavaxDependencies(@NonNull InjectionState injectionState) {
+    JPAJavaxDependencies(@NonNull InjectionState injectionState, boolean transactionPerTest) {
         this.injectionState = injectionState;
+        this.transactionPerTest = transactionPerTest;
     }
 
     @Nullable
@@ -150,7 +153,29 @@ final class JPAJavaxDependencies {
         }
 
         EntityManager entityManager = emFactory.createEntityManager();
+
+        if (transactionPerTest) {
+            entityManager.getTransaction().begin();
+            injectionState.lifecycleMethods.addTerminationAction(() -> rollBackAndClose(entityManager));
+        }
+
         injectionState.saveInstantiatedDependency(injectionPoint, entityManager);
         return entityManager;
     }
+
+    /**
+     * Undoes the changes made through the entity manager during the test, so that they aren't seen by the next one
+     * (persistence unit factories are shared by all tests).
+     */
+    private static void rollBackAndClose(@NonNull EntityManager entityManager) {
+        try {
+            EntityTransaction transaction = entityManager.getTransaction();
+
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+        } finally {
+            entityManager.close();
+        }
+    }
 }
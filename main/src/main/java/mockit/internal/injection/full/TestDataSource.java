@@ -15,6 +15,8 @@ import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.sql.CommonDataSource;
 
@@ -22,13 +24,21 @@ import mockit.internal.injection.InjectionPoint;
 import mockit.internal.injection.TestedClass;
 
 final class TestDataSource {
+    /**
+     * Data sources shared by all tested objects with {@code sharedPersistence}, keyed by their definitions; two
+     * <code>@DataSourceDefinition</code> annotations with the same attribute values are equal, wherever they appear.
+     */
+    @NonNull
+    private static final Map<Annotation, CommonDataSource> sharedDataSources = new ConcurrentHashMap<>();
+
     @Nullable
     private final String dsName;
-    private Class<? extends CommonDataSource> dsClass;
+    private final boolean shared;
     private CommonDataSource ds;
 
-    TestDataSource(@NonNull InjectionPoint injectionPoint) {
+    TestDataSource(@NonNull InjectionPoint injectionPoint, boolean shared) {
         dsName = injectionPoint.name;
+        this.shared = shared;
     }
 
     @Nullable
@@ -111,38 +121,17 @@ final class TestDataSource {
         String configuredDataSourceName = InjectionPoint.getNameFromJNDILookup(dsDef.name());
 
         if (configuredDataSourceName.equals(dsName)) {
-            instantiateConfiguredDataSourceClassJakarta(dsDef);
-            setDataSourcePropertiesFromConfiguredValuesJakarta(dsDef);
+            ds = shared ? sharedDataSources.computeIfAbsent(dsDef, def -> createConfiguredDataSourceJakarta(dsDef))
+                    : createConfiguredDataSourceJakarta(dsDef);
         }
     }
 
-    private void instantiateConfiguredDataSourceClassJakarta(
+    @NonNull
+    private static CommonDataSource createConfiguredDataSourceJakarta(
             @NonNull jakarta.annotation.sql.DataSourceDefinition dsDef) {
-        String className = dsDef.className();
-
-        try {
-            // noinspection unchecked
-            dsClass = (Class<? extends CommonDataSource>) Class.forName(className);
-            // noinspection ClassNewInstance
-            ds = dsClass.getDeclaredConstructor().newInstance();
-        } catch (ClassNotFoundException | IllegalAccessException | InstantiationException | IllegalArgumentException
-                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
-            throw new RuntimeException(e instanceof InstantiationException ? e.getCause() : e);
-        }
-    }
-
-    private void setDataSourcePropertiesFromConfiguredValuesJakarta(
-            @NonNull jakarta.annotation.sql.DataSourceDefinition dsDef) {
-        try {
-            BeanInfo beanInfo = Introspector.getBeanInfo(dsClass, Object.class);
-            PropertyDescriptor[] properties = beanInfo.getPropertyDescriptors();
-
-            setProperty(properties, "url", dsDef.url());
-            setProperty(properties, "user", dsDef.user());
-            setProperty(properties, "password", dsDef.password());
-        } catch (IntrospectionException | IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(e);
-        }
+        CommonDataSource dataSource = instantiateConfiguredDataSourceClass(dsDef.className());
+        setDataSourcePropertiesFromConfiguredValues(dataSource, dsDef.url(), dsDef.user(), dsDef.password());
+        return dataSource;
     }
 
     private void createDataSourceJavax(@NonNull javax.annotation.sql.DataSourceDefinitions dsDefs) {
@@ -159,47 +148,54 @@ final class TestDataSource {
         String configuredDataSourceName = InjectionPoint.getNameFromJNDILookup(dsDef.name());
 
         if (configuredDataSourceName.equals(dsName)) {
-            instantiateConfiguredDataSourceClassJavax(dsDef);
-            setDataSourcePropertiesFromConfiguredValuesJavax(dsDef);
+            ds = shared ? sharedDataSources.computeIfAbsent(dsDef, def -> createConfiguredDataSourceJavax(dsDef))
+                    : createConfiguredDataSourceJavax(dsDef);
         }
     }
 
-    private void instantiateConfiguredDataSourceClassJavax(@NonNull javax.annotation.sql.DataSourceDefinition dsDef) {
-        String className = dsDef.className();
+    @NonNull
+    private static CommonDataSource createConfiguredDataSourceJavax(
+            @NonNull javax.annotation.sql.DataSourceDefinition dsDef) {
+        CommonDataSource dataSource = instantiateConfiguredDataSourceClass(dsDef.className());
+        setDataSourcePropertiesFromConfiguredValues(dataSource, dsDef.url(), dsDef.user(), dsDef.password());
+        return dataSource;
+    }
 
+    @NonNull
+    private static CommonDataSource instantiateConfiguredDataSourceClass(@NonNull String className) {
         try {
             // noinspection unchecked
-            dsClass = (Class<? extends CommonDataSource>) Class.forName(className);
+            Class<? extends CommonDataSource> dsClass = (Class<? extends CommonDataSource>) Class.forName(className);
             // noinspection ClassNewInstance
-            ds = dsClass.getDeclaredConstructor().newInstance();
+            return dsClass.getDeclaredConstructor().newInstance();
         } catch (ClassNotFoundException | IllegalAccessException | InstantiationException | IllegalArgumentException
                 | InvocationTargetException | NoSuchMethodException | SecurityException e) {
             throw new RuntimeException(e instanceof InstantiationException ? e.getCause() : e);
         }
     }
 
-    private void setDataSourcePropertiesFromConfiguredValuesJavax(
-            @NonNull javax.annotation.sql.DataSourceDefinition dsDef) {
+    private static void setDataSourcePropertiesFromConfiguredValues(@NonNull CommonDataSource dataSource,
+            @NonNull String url, @NonNull String user, @NonNull String password) {
         try {
-            BeanInfo beanInfo = Introspector.getBeanInfo(dsClass, Object.class);
+            BeanInfo beanInfo = Introspector.getBeanInfo(dataSource.getClass(), Object.class);
             PropertyDescriptor[] properties = beanInfo.getPropertyDescriptors();
 
-            setProperty(properties, "url", dsDef.url());
-            setProperty(properties, "user", dsDef.user());
-            setProperty(properties, "password", dsDef.password());
+            setProperty(dataSource, properties, "url", url);
+            setProperty(dataSource, properties, "user", user);
+            setProperty(dataSource, properties, "password", password);
         } catch (IntrospectionException | IllegalAccessException | InvocationTargetException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private void setProperty(@NonNull PropertyDescriptor[] properties, @NonNull String name, @NonNull String value)
-            throws InvocationTargetException, IllegalAccessException {
+    private static void setProperty(@NonNull CommonDataSource dataSource, @NonNull PropertyDescriptor[] properties,
+            @NonNull String name, @NonNull String value) throws InvocationTargetException, IllegalAccessException {
         for (PropertyDescriptor property : properties) {
             if (property.getName().equals(name)) {
                 Method writeMethod = property.getWriteMethod();
 
                 if (writeMethod != null) {
-                    writeMethod.invoke(ds, value);
+                    writeMethod.invoke(dataSource, value);
                 }
 
                 return;
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.reflection;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+import mockit.internal.util.StackTrace;
+import mockit.internal.util.Utilities;
+
+/**
+ * The single non-private instance method of a handler object (a <code>Delegate</code> implementation, for example),
+ * bound once to the handler through a method handle, so that it can be invoked repeatedly without the accessibility
+ * checks and argument copying of {@link Method#invoke}.
+ */
+public final class BoundHandlerMethod {
+    @NonNull
+    private static final MethodType SPREAD_ARGUMENTS = MethodType.methodType(Object.class, Object[].class);
+
+    @NonNull
+    private final Method method;
+    @NonNull
+    private final Class<?>[] parameterTypes;
+    @NonNull
+    private final MethodHandle methodHandle;
+
+    public BoundHandlerMethod(@NonNull Object handler) {
+        method = MethodReflection.findNonPrivateHandlerMethod(handler);
+        parameterTypes = method.getParameterTypes();
+        Utilities.ensureThatMemberIsAccessible(method);
+
+        try {
+            methodHandle = MethodHandles.lookup().unreflect(method).asFixedArity().bindTo(handler)
+                    .asSpreader(Object[].class, parameterTypes.length).asType(SPREAD_ARGUMENTS);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @NonNull
+    public Method getMethod() {
+        return method;
+    }
+
+    @NonNull
+    public Class<?>[] getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * Invokes the handler method with the given arguments, which must be compatible with its parameters as for
+     * {@link Method#invoke}; any exception thrown by the method is propagated as is, even if checked.
+     */
+    @Nullable
+    public <T> T invoke(@NonNull Object... args) {
+        if (!ParameterReflection.areArgumentsCompatible(parameterTypes, args)) {
+            IllegalArgumentException e = new IllegalArgumentException("Failure to invoke method: " + method);
+            StackTrace.filterStackTrace(e);
+            throw e;
+        }
+
+        try {
+            // noinspection unchecked
+            return (T) methodHandle.invokeExact(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            ThrowOfCheckedException.doThrow(e);
+            return null;
+        }
+    }
+}
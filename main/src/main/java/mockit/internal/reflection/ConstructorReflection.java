@@ -13,12 +13,18 @@ import static mockit.internal.util.Utilities.ensureThatMemberIsAccessible;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
 import org.objenesis.instantiator.sun.SunReflectionFactoryInstantiator;
 
 public final class ConstructorReflection {
+    @NonNull
+    private static final MethodType SPREAD_CONSTRUCTION = MethodType.methodType(Object.class, Object[].class);
+
     private ConstructorReflection() {
     }
 
@@ -57,11 +63,50 @@ public final class ConstructorReflection {
             if (cause instanceof RuntimeException) {
                 throw (RuntimeException) cause;
             }
-            ThrowOfCheckedException.doThrow((Exception) cause);
+            ThrowOfCheckedException.doThrow(cause);
             throw new IllegalStateException("Should never get here", cause);
         }
     }
 
+    /**
+     * Creates a method handle which invokes the given constructor with its arguments passed in an
+     * <code>Object[]</code>, to be used with {@link #invokeAccessible(MethodHandle, Constructor, Object...)}.
+     */
+    @NonNull
+    public static MethodHandle createConstructorHandle(@NonNull Constructor<?> constructor) {
+        ensureThatMemberIsAccessible(constructor);
+
+        try {
+            return MethodHandles.lookup().unreflectConstructor(constructor).asFixedArity()
+                    .asSpreader(Object[].class, constructor.getParameterCount()).asType(SPREAD_CONSTRUCTION);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Invokes a constructor through a handle previously {@linkplain #createConstructorHandle(Constructor) created} for
+     * it. Arguments which the handle could not accept are passed to {@link #invokeAccessible(Constructor, Object...)}
+     * instead, so that failures are reported exactly as Reflection would.
+     */
+    @NonNull
+    public static <T> T invokeAccessible(@NonNull MethodHandle constructorHandle, @NonNull Constructor<T> constructor,
+            @NonNull Object... initArgs) {
+        if (!ParameterReflection.areArgumentsCompatible(constructor.getParameterTypes(), initArgs)) {
+            return invokeAccessible(constructor, initArgs);
+        }
+
+        try {
+            // noinspection unchecked
+            return (T) constructorHandle.invokeExact(initArgs);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            ThrowOfCheckedException.doThrow(e);
+            throw new IllegalStateException("Should never get here", e);
+        }
+    }
+
     public static void newInstanceUsingCompatibleConstructor(@NonNull Class<?> aClass, @NonNull String argument)
             throws ReflectiveOperationException {
         Constructor<?> constructor = aClass.getDeclaredConstructor(String.class);
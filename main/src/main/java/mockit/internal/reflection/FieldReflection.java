@@ -7,65 +7,155 @@ package mockit.internal.reflection;
 
 import static java.lang.reflect.Modifier.isStatic;
 
-import static mockit.internal.util.Utilities.ensureThatMemberIsAccessible;
-
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import mockit.internal.util.AutoBoxing;
 import mockit.internal.util.Utilities;
 
 public final class FieldReflection {
+    /**
+     * Fields already resolved starting from a given class, keyed by the field itself, by field name, or by a
+     * {@link FieldTypeKey}.
+     */
+    @NonNull
+    private static final ClassValue<ConcurrentMap<Object, ResolvedField>> RESOLVED_FIELDS = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Object, ResolvedField> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final class FieldTypeKey {
+        @NonNull
+        private final Type desiredType;
+        private final boolean instanceField;
+        private final boolean forAssignment;
+
+        FieldTypeKey(@NonNull Type desiredType, boolean instanceField, boolean forAssignment) {
+            this.desiredType = desiredType;
+            this.instanceField = instanceField;
+            this.forAssignment = forAssignment;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+
+            if (!(other instanceof FieldTypeKey)) {
+                return false;
+            }
+
+            FieldTypeKey otherKey = (FieldTypeKey) other;
+            return desiredType.equals(otherKey.desiredType) && instanceField == otherKey.instanceField
+                    && forAssignment == otherKey.forAssignment;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(desiredType, instanceField, forAssignment);
+        }
+    }
+
     private FieldReflection() {
     }
 
-    @Nullable
-    public static <T> T getFieldValue(@NonNull Field field, @Nullable Object targetObject) {
-        ensureThatMemberIsAccessible(field);
+    @NonNull
+    private static ResolvedField resolveField(@NonNull Field field) {
+        ConcurrentMap<Object, ResolvedField> resolvedFields = RESOLVED_FIELDS.get(field.getDeclaringClass());
+        ResolvedField resolvedField = resolvedFields.get(field);
+
+        if (resolvedField == null) {
+            resolvedField = new ResolvedField(field);
+            ResolvedField previous = resolvedFields.putIfAbsent(field, resolvedField);
 
-        if (targetObject != null && !field.getDeclaringClass().isInstance(targetObject)) {
-            Field outerInstanceField = getDeclaredField(targetObject.getClass(), "this$0", true);
-            targetObject = getFieldValue(outerInstanceField, targetObject);
+            if (previous != null) {
+                resolvedField = previous;
+            }
         }
 
-        try {
-            // noinspection unchecked
-            return (T) field.get(targetObject);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
+        return resolvedField;
+    }
+
+    @NonNull
+    private static ResolvedField resolveField(@NonNull Class<?> theClass, @NonNull String fieldName,
+            boolean instanceField) {
+        ConcurrentMap<Object, ResolvedField> resolvedFields = RESOLVED_FIELDS.get(theClass);
+        ResolvedField resolvedField = resolvedFields.get(fieldName);
+
+        if (resolvedField == null) {
+            Field field = getDeclaredField(theClass, fieldName, instanceField);
+            resolvedField = resolveField(field);
+            resolvedFields.putIfAbsent(fieldName, resolvedField);
         }
+
+        return resolvedField;
+    }
+
+    @NonNull
+    private static ResolvedField resolveField(@NonNull Class<?> theClass, @NonNull Type desiredType,
+            boolean instanceField, boolean forAssignment) {
+        ConcurrentMap<Object, ResolvedField> resolvedFields = RESOLVED_FIELDS.get(theClass);
+        FieldTypeKey key = new FieldTypeKey(desiredType, instanceField, forAssignment);
+        ResolvedField resolvedField = resolvedFields.get(key);
+
+        if (resolvedField == null) {
+            Field field = getDeclaredField(theClass, desiredType, instanceField, forAssignment);
+            resolvedField = resolveField(field);
+            resolvedFields.putIfAbsent(key, resolvedField);
+        }
+
+        return resolvedField;
+    }
+
+    @Nullable
+    public static <T> T getFieldValue(@NonNull Field field, @Nullable Object targetObject) {
+        return resolveField(field).getValue(targetObject);
     }
 
     @Nullable
     public static <T> T getField(@NonNull Class<?> theClass, @NonNull String fieldName, @Nullable Object targetObject) {
-        Field field = getDeclaredField(theClass, fieldName, targetObject != null);
-        return getFieldValue(field, targetObject);
+        return resolveField(theClass, fieldName, targetObject != null).getValue(targetObject);
     }
 
     @Nullable
     public static <T> T getField(@NonNull Class<?> theClass, @NonNull Class<T> fieldType,
             @Nullable Object targetObject) {
-        Field field = getDeclaredField(theClass, fieldType, targetObject != null, false);
-        return getFieldValue(field, targetObject);
+        return resolveField(theClass, fieldType, targetObject != null, false).getValue(targetObject);
     }
 
     public static void setField(@NonNull Class<?> theClass, @Nullable Object targetObject, @Nullable String fieldName,
             @Nullable Object fieldValue) {
         boolean instanceField = targetObject != null;
-        Field field;
+        ResolvedField field;
 
         if (fieldName != null) {
-            field = getDeclaredField(theClass, fieldName, instanceField);
+            field = resolveField(theClass, fieldName, instanceField);
         } else if (fieldValue != null) {
-            field = getDeclaredField(theClass, fieldValue.getClass(), instanceField, true);
+            field = resolveField(theClass, fieldValue.getClass(), instanceField, true);
         } else {
             throw new IllegalArgumentException("Missing field value when setting field by type");
         }
 
-        setFieldValue(field, targetObject, fieldValue);
+        field.setValue(targetObject, fieldValue);
+    }
+
+    /**
+     * Returns a variable handle for the named field, declared in the given class or in one of its superclasses. The
+     * field is resolved only once per class and name.
+     */
+    @NonNull
+    public static VarHandle getFieldHandle(@NonNull Class<?> theClass, @NonNull String fieldName) {
+        return resolveField(theClass, fieldName, true).getVarHandle();
     }
 
     @NonNull
@@ -171,17 +261,6 @@ public final class FieldReflection {
     }
 
     public static void setFieldValue(@NonNull Field field, @Nullable Object targetObject, @Nullable Object value) {
-        ensureThatMemberIsAccessible(field);
-
-        if (targetObject != null && !field.getDeclaringClass().isInstance(targetObject)) {
-            Field outerInstanceField = getDeclaredField(targetObject.getClass(), "this$0", true);
-            targetObject = getFieldValue(outerInstanceField, targetObject);
-        }
-
-        try {
-            field.set(targetObject, value);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        resolveField(field).setValue(targetObject, value);
     }
 }
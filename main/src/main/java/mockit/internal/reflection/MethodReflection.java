@@ -13,26 +13,156 @@ import static mockit.internal.reflection.ParameterReflection.*;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import mockit.Delegate;
 import mockit.internal.util.StackTrace;
+import mockit.internal.util.TypeDescriptor;
 import mockit.internal.util.Utilities;
 
 public final class MethodReflection {
     @NonNull
     public static final Pattern JAVA_LANG = Pattern.compile("java.lang.", Pattern.LITERAL);
 
+    /**
+     * Methods already resolved starting from a given class, keyed by {@link MethodKey}.
+     */
+    @NonNull
+    private static final ClassValue<ConcurrentMap<MethodKey, ResolvedMethod>> RESOLVED_METHODS = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<MethodKey, ResolvedMethod> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private enum Lookup {
+        SPECIFIED, SPECIFIED_BY_DESCRIPTOR, COMPATIBLE, COMPATIBLE_STATIC
+    }
+
+    private static final class MethodKey {
+        @NonNull
+        private final Lookup lookup;
+        @NonNull
+        private final String methodName;
+        @NonNull
+        private final Class<?>[] types;
+        @Nullable
+        private final String methodDesc;
+        private final int hashCode;
+
+        MethodKey(@NonNull Lookup lookup, @NonNull String methodName, @NonNull Class<?>[] types) {
+            this.lookup = lookup;
+            this.methodName = methodName;
+            this.types = types;
+            methodDesc = null;
+            hashCode = 31 * (31 * lookup.hashCode() + methodName.hashCode()) + Arrays.hashCode(types);
+        }
+
+        MethodKey(@NonNull String methodName, @NonNull String methodDesc) {
+            lookup = Lookup.SPECIFIED_BY_DESCRIPTOR;
+            this.methodName = methodName;
+            types = NO_PARAMETERS;
+            this.methodDesc = methodDesc;
+            hashCode = 31 * (31 * lookup.hashCode() + methodName.hashCode()) + methodDesc.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+
+            if (!(other instanceof MethodKey)) {
+                return false;
+            }
+
+            MethodKey otherKey = (MethodKey) other;
+            return lookup == otherKey.lookup && methodName.equals(otherKey.methodName)
+                    && Arrays.equals(types, otherKey.types) && Objects.equals(methodDesc, otherKey.methodDesc);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     private MethodReflection() {
     }
 
+    @NonNull
+    private static ResolvedMethod resolveMethod(@NonNull Class<?> theClass, @NonNull Lookup lookup,
+            @NonNull String methodName, @NonNull Class<?>[] types) {
+        ConcurrentMap<MethodKey, ResolvedMethod> resolvedMethods = RESOLVED_METHODS.get(theClass);
+        MethodKey key = new MethodKey(lookup, methodName, types);
+        ResolvedMethod resolvedMethod = resolvedMethods.get(key);
+
+        if (resolvedMethod == null) {
+            Method method;
+
+            if (lookup == Lookup.SPECIFIED) {
+                method = findSpecifiedMethod(theClass, methodName, types);
+            } else if (lookup == Lookup.COMPATIBLE) {
+                method = findCompatibleMethod(theClass, methodName, types);
+            } else {
+                method = findCompatibleStaticMethod(theClass, methodName, types);
+            }
+
+            resolvedMethod = new ResolvedMethod(method);
+            ResolvedMethod previous = resolvedMethods.putIfAbsent(new MethodKey(lookup, methodName, types.clone()),
+                    resolvedMethod);
+
+            if (previous != null) {
+                resolvedMethod = previous;
+            }
+        }
+
+        return resolvedMethod;
+    }
+
     @Nullable
     public static <T> T invoke(@NonNull Class<?> theClass, @Nullable Object targetInstance, @NonNull String methodName,
             @NonNull Class<?>[] paramTypes, @NonNull Object... methodArgs) {
-        Method method = findSpecifiedMethod(theClass, methodName, paramTypes);
-        return invoke(targetInstance, method, methodArgs);
+        ResolvedMethod method = resolveMethod(theClass, Lookup.SPECIFIED, methodName, paramTypes);
+        return method.invoke(targetInstance, methodArgs);
+    }
+
+    /**
+     * Returns the method with the given name and the parameter types of the given method descriptor, declared in the
+     * given class or in one of its superclasses. The descriptor is parsed only once per class, name, and descriptor, so
+     * this is suitable for methods looked up on every call from generated code.
+     */
+    @NonNull
+    public static Method getMethodByDescriptor(@NonNull Class<?> theClass, @NonNull String methodName,
+            @NonNull String methodDesc) {
+        ConcurrentMap<MethodKey, ResolvedMethod> resolvedMethods = RESOLVED_METHODS.get(theClass);
+        MethodKey key = new MethodKey(methodName, methodDesc);
+        ResolvedMethod resolvedMethod = resolvedMethods.get(key);
+
+        if (resolvedMethod == null) {
+            Class<?>[] paramTypes = TypeDescriptor.getParameterTypes(methodDesc);
+            resolvedMethod = resolveMethod(theClass, Lookup.SPECIFIED, methodName, paramTypes);
+            resolvedMethods.putIfAbsent(key, resolvedMethod);
+        }
+
+        return resolvedMethod.method;
+    }
+
+    /**
+     * Returns a method handle for the specified method, declared in the given class or in one of its superclasses. The
+     * method is resolved only once per class, name, and parameter types.
+     */
+    @NonNull
+    public static MethodHandle getMethodHandle(@NonNull Class<?> theClass, @NonNull String methodName,
+            @NonNull Class<?>... paramTypes) {
+        return resolveMethod(theClass, Lookup.SPECIFIED, methodName, paramTypes).getMethodHandle();
     }
 
     @NonNull
@@ -92,7 +222,7 @@ public final class MethodReflection {
     public static <T> T invokeWithCheckedThrows(@NonNull Class<?> theClass, @Nullable Object targetInstance,
             @NonNull String methodName, @NonNull Class<?>[] paramTypes, @NonNull Object... methodArgs)
             throws Throwable {
-        Method method = findSpecifiedMethod(theClass, methodName, paramTypes);
+        Method method = resolveMethod(theClass, Lookup.SPECIFIED, methodName, paramTypes).method;
         return invokeWithCheckedThrows(targetInstance, method, methodArgs);
     }
 
@@ -116,7 +246,7 @@ public final class MethodReflection {
             } else if (cause instanceof RuntimeException) {
                 throw (RuntimeException) cause;
             } else {
-                ThrowOfCheckedException.doThrow((Exception) cause);
+                ThrowOfCheckedException.doThrow(cause);
                 return null;
             }
         }
@@ -143,15 +273,15 @@ public final class MethodReflection {
             @NonNull Object... methodArgs) {
         boolean staticMethod = targetInstance == null;
         Class<?>[] argTypes = getArgumentTypesFromArgumentValues(methodArgs);
-        Method method = staticMethod ? findCompatibleStaticMethod(theClass, methodName, argTypes)
-                : findCompatibleMethod(theClass, methodName, argTypes);
+        ResolvedMethod method = resolveMethod(theClass, staticMethod ? Lookup.COMPATIBLE_STATIC : Lookup.COMPATIBLE,
+                methodName, argTypes);
 
-        if (staticMethod && !isStatic(method.getModifiers())) {
+        if (staticMethod && !isStatic(method.method.getModifiers())) {
             throw new IllegalArgumentException(
                     "Attempted to invoke non-static method without an instance to invoke it on");
         }
 
-        T result = invoke(targetInstance, method, methodArgs);
+        T result = method.invoke(targetInstance, methodArgs);
         return result;
     }
 
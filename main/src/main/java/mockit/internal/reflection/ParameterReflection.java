@@ -5,12 +5,16 @@
  */
 package mockit.internal.reflection;
 
+import static java.util.Arrays.asList;
+
 import static mockit.internal.reflection.MethodReflection.JAVA_LANG;
 import static mockit.internal.util.Utilities.JAVA8;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 import mockit.Invocation;
 import mockit.internal.util.AutoBoxing;
@@ -21,6 +25,9 @@ import org.checkerframework.checker.index.qual.NonNegative;
 public final class ParameterReflection {
     @NonNull
     public static final Class<?>[] NO_PARAMETERS = {};
+    @NonNull
+    private static final List<Class<?>> NUMERIC_TYPES = asList(byte.class, short.class, int.class, long.class,
+            float.class, double.class);
 
     private ParameterReflection() {
     }
@@ -161,6 +168,50 @@ public final class ParameterReflection {
         return true;
     }
 
+    /**
+     * Whether the given argument values could be passed to parameters of the given types through {@link Method#invoke},
+     * that is, with unboxing and widening of primitive values but no other conversions.
+     */
+    public static boolean areArgumentsCompatible(@NonNull Class<?>[] paramTypes, @NonNull Object[] args) {
+        int n = paramTypes.length;
+
+        if (args.length != n) {
+            return false;
+        }
+
+        for (int i = 0; i < n; i++) {
+            if (!isCompatibleArgument(paramTypes[i], args[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isCompatibleArgument(@NonNull Class<?> parameterType, @Nullable Object arg) {
+        if (!parameterType.isPrimitive()) {
+            return arg == null || parameterType.isInstance(arg);
+        }
+
+        if (arg == null) {
+            return false;
+        }
+
+        Class<?> argType = AutoBoxing.getPrimitiveType(arg.getClass());
+        return argType == parameterType || argType != null && isWideningConversion(argType, parameterType);
+    }
+
+    private static boolean isWideningConversion(@NonNull Class<?> fromType, @NonNull Class<?> toType) {
+        int toRank = NUMERIC_TYPES.indexOf(toType);
+
+        if (fromType == char.class) {
+            return toRank >= NUMERIC_TYPES.indexOf(int.class);
+        }
+
+        int fromRank = NUMERIC_TYPES.indexOf(fromType);
+        return fromRank >= 0 && fromRank < toRank;
+    }
+
     @NonNegative
     public static int getParameterCount(@NonNull Method method) {
         // noinspection Since15
@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.reflection;
+
+import static java.lang.reflect.Modifier.isStatic;
+
+import static mockit.internal.util.Utilities.ensureThatMemberIsAccessible;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+
+/**
+ * A field already found through Reflection, together with method handles for reading and writing it.
+ * <p>
+ * The handles take the target object (ignored for a <code>static</code> field) and the value as <code>Object</code>s,
+ * with the same unboxing and widening conversions as {@link Field#get} and {@link Field#set}. When a handle cannot be
+ * used with a given target or value, access falls back to the field itself, so that any failure is reported exactly as
+ * Reflection would.
+ */
+final class ResolvedField {
+    @NonNull
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    @NonNull
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    @NonNull
+    final Field field;
+    @Nullable
+    private final MethodHandle getter;
+    @Nullable
+    private volatile MethodHandle setter;
+    private volatile boolean setterUnavailable;
+    @Nullable
+    private VarHandle varHandle;
+
+    ResolvedField(@NonNull Field field) {
+        this.field = field;
+        ensureThatMemberIsAccessible(field);
+        getter = createGetter();
+    }
+
+    @Nullable
+    private MethodHandle createGetter() {
+        try {
+            MethodHandle fieldGetter = MethodHandles.lookup().unreflectGetter(field);
+
+            if (isStatic(field.getModifiers())) {
+                fieldGetter = MethodHandles.dropArguments(fieldGetter, 0, Object.class);
+            }
+
+            return fieldGetter.asType(GETTER_TYPE);
+        } catch (IllegalAccessException ignore) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private MethodHandle createSetter() {
+        try {
+            MethodHandle fieldSetter = MethodHandles.lookup().unreflectSetter(field);
+
+            if (isStatic(field.getModifiers())) {
+                fieldSetter = MethodHandles.dropArguments(fieldSetter, 0, Object.class);
+            }
+
+            return fieldSetter.asType(SETTER_TYPE);
+        } catch (IllegalAccessException ignore) {
+            // A static final field, which can only be (unsuccessfully) set through the field itself.
+            return null;
+        }
+    }
+
+    @Nullable
+    <T> T getValue(@Nullable Object targetObject) {
+        Object target = getTargetForFieldAccess(targetObject);
+        MethodHandle fieldGetter = getter;
+
+        if (fieldGetter != null && (target != null || isStatic(field.getModifiers()))) {
+            try {
+                // noinspection unchecked
+                return (T) (Object) fieldGetter.invokeExact(target);
+            } catch (ClassCastException ignore) {
+                // Falls back to Reflection, which reports the mismatch.
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        try {
+            // noinspection unchecked
+            return (T) field.get(target);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    void setValue(@Nullable Object targetObject, @Nullable Object value) {
+        Object target = getTargetForFieldAccess(targetObject);
+        MethodHandle fieldSetter = getSetter();
+
+        if (fieldSetter != null && (target != null || isStatic(field.getModifiers()))
+                && (value != null || !field.getType().isPrimitive())) {
+            try {
+                fieldSetter.invokeExact(target, value);
+                return;
+            } catch (ClassCastException ignore) {
+                // Falls back to Reflection, which reports the mismatch.
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        try {
+            field.set(target, value);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Nullable
+    private MethodHandle getSetter() {
+        MethodHandle fieldSetter = setter;
+
+        if (fieldSetter == null && !setterUnavailable) {
+            fieldSetter = createSetter();
+            setter = fieldSetter;
+            setterUnavailable = fieldSetter == null;
+        }
+
+        return fieldSetter;
+    }
+
+    /**
+     * Accessing a field of an outer class through an instance of an inner class goes through the synthetic field
+     * holding the outer instance.
+     */
+    @Nullable
+    private Object getTargetForFieldAccess(@Nullable Object targetObject) {
+        if (targetObject != null && !field.getDeclaringClass().isInstance(targetObject)) {
+            Field outerInstanceField = FieldReflection.getDeclaredField(targetObject.getClass(), "this$0", true);
+            return FieldReflection.getFieldValue(outerInstanceField, targetObject);
+        }
+
+        return targetObject;
+    }
+
+    /**
+     * A variable handle for the field, obtained through a private lookup in its declaring class; it is read-only if the
+     * field is <code>final</code>.
+     */
+    @NonNull
+    synchronized VarHandle getVarHandle() {
+        VarHandle handle = varHandle;
+
+        if (handle == null) {
+            Class<?> declaringClass = field.getDeclaringClass();
+
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+                handle = lookup.unreflectVarHandle(field);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Field not accessible: " + field, e);
+            }
+
+            varHandle = handle;
+        }
+
+        return handle;
+    }
+}
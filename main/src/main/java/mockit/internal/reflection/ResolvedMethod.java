@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.reflection;
+
+import static java.lang.reflect.Modifier.isStatic;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+import mockit.internal.util.Utilities;
+
+/**
+ * A method already found through Reflection, together with a method handle taking the target instance (ignored for a
+ * <code>static</code> method) and the arguments as an <code>Object[]</code>. Arguments which the handle could not
+ * accept are passed to {@link Method#invoke} instead, so that failures are reported exactly as Reflection would.
+ */
+final class ResolvedMethod {
+    @NonNull
+    private static final MethodType SPREAD_INVOCATION = MethodType.methodType(Object.class, Object.class,
+            Object[].class);
+
+    @NonNull
+    final Method method;
+    @NonNull
+    private final Class<?>[] parameterTypes;
+    @Nullable
+    private final MethodHandle invoker;
+    @Nullable
+    private MethodHandle methodHandle;
+
+    ResolvedMethod(@NonNull Method method) {
+        this.method = method;
+        parameterTypes = method.getParameterTypes();
+        Utilities.ensureThatMemberIsAccessible(method);
+        invoker = createInvoker();
+    }
+
+    @Nullable
+    private MethodHandle createInvoker() {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+
+            if (isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+
+            return handle.asSpreader(Object[].class, parameterTypes.length).asType(SPREAD_INVOCATION);
+        } catch (IllegalAccessException ignore) {
+            return null;
+        }
+    }
+
+    @Nullable
+    <T> T invoke(@Nullable Object targetInstance, @NonNull Object[] methodArgs) {
+        MethodHandle methodInvoker = invoker;
+
+        if (methodInvoker == null || !isValidTarget(targetInstance)
+                || !ParameterReflection.areArgumentsCompatible(parameterTypes, methodArgs)) {
+            return MethodReflection.invoke(targetInstance, method, methodArgs);
+        }
+
+        try {
+            // noinspection unchecked
+            return (T) methodInvoker.invokeExact(targetInstance, methodArgs);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            ThrowOfCheckedException.doThrow(e);
+            return null;
+        }
+    }
+
+    private boolean isValidTarget(@Nullable Object targetInstance) {
+        return isStatic(method.getModifiers()) || method.getDeclaringClass().isInstance(targetInstance);
+    }
+
+    /**
+     * A direct method handle for the method, obtained through a private lookup in its declaring class.
+     */
+    @NonNull
+    synchronized MethodHandle getMethodHandle() {
+        MethodHandle handle = methodHandle;
+
+        if (handle == null) {
+            Class<?> declaringClass = method.getDeclaringClass();
+
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+                handle = lookup.unreflect(method);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Method not accessible: " + method, e);
+            }
+
+            methodHandle = handle;
+        }
+
+        return handle;
+    }
+}
@@ -11,13 +11,13 @@ import java.lang.reflect.InvocationTargetException;
 
 @SuppressWarnings("UtilityClassWithoutPrivateConstructor")
 final class ThrowOfCheckedException {
-    private static Exception exceptionToThrow;
+    private static Throwable exceptionToThrow;
 
-    ThrowOfCheckedException() throws Exception {
+    ThrowOfCheckedException() throws Throwable {
         throw exceptionToThrow;
     }
 
-    static synchronized void doThrow(@NonNull Exception checkedException) {
+    static synchronized void doThrow(@NonNull Throwable checkedException) {
         exceptionToThrow = checkedException;
         try {
             ThrowOfCheckedException.class.getDeclaredConstructor().newInstance();
@@ -117,7 +117,8 @@ public final class MockFixture {
     private final Map<Type, InstanceFactory> mockedTypesAndInstances;
 
     /**
-     * A list of "capturing" class file transformers, used by both the mocking and faking APIs.
+     * A list of "capturing" transformers, used by both the mocking and faking APIs. They are all applied to loading
+     * classes through a single shared class file transformer.
      *
      * @see #addCaptureTransformer(CaptureTransformer)
      * @see #areCapturedClasses(Class, Class)
@@ -128,6 +129,18 @@ public final class MockFixture {
     @NonNull
     private final List<CaptureTransformer<?>> captureTransformers;
 
+    /**
+     * Caches the answers given by {@link #isStillMocked(Object, String)}, per class of mocked instance and per
+     * internal name of class with mocked static methods. Discarded whenever the set of mocked classes or capture
+     * transformers changes.
+     *
+     * @see #discardMockedStatusCache()
+     */
+    @NonNull
+    private final Map<Class<?>, Boolean> mockedInstanceClasses;
+    @NonNull
+    private final Map<String, Boolean> mockedStaticClasses;
+
     MockFixture() {
         transformedClasses = new HashMap<>(2);
         redefinedClasses = new ConcurrentHashMap<>(8);
@@ -136,6 +149,8 @@ public final class MockFixture {
         mockedClasses = new ArrayList<>();
         mockedTypesAndInstances = new IdentityHashMap<>();
         captureTransformers = new ArrayList<>();
+        mockedInstanceClasses = new ConcurrentHashMap<>();
+        mockedStaticClasses = new ConcurrentHashMap<>();
     }
 
     // Methods to add/remove transformed/redefined classes /////////////////////////////////////////////////////////////
@@ -154,6 +169,7 @@ public final class MockFixture {
         if (!mockedClasses.contains(mockedType)) {
             mockedType = getMockedClassOrInterfaceType(mockedType);
             mockedClasses.add(mockedType);
+            discardMockedStatusCache();
         }
     }
 
@@ -186,15 +202,32 @@ public final class MockFixture {
     }
 
     public boolean isStillMocked(@Nullable Object instance, @NonNull String classDesc) {
-        Class<?> targetClass;
-
         if (instance == null) {
-            targetClass = ClassLoad.loadByInternalName(classDesc);
-            return isClassAssignableTo(targetClass);
+            Boolean mocked = mockedStaticClasses.get(classDesc);
+
+            if (mocked == null) {
+                Class<?> targetClass = ClassLoad.loadByInternalName(classDesc);
+                mocked = isClassAssignableTo(targetClass);
+                mockedStaticClasses.put(classDesc, mocked);
+            }
+
+            return mocked;
         }
 
-        targetClass = instance.getClass();
-        return mockedTypesAndInstances.containsKey(targetClass) || isInstanceOfMockedClass(instance);
+        Class<?> targetClass = instance.getClass();
+        Boolean mocked = mockedInstanceClasses.get(targetClass);
+
+        if (mocked == null) {
+            mocked = mockedTypesAndInstances.containsKey(targetClass) || isInstanceOfMockedClass(instance);
+            mockedInstanceClasses.put(targetClass, mocked);
+        }
+
+        return mocked;
+    }
+
+    private void discardMockedStatusCache() {
+        mockedInstanceClasses.clear();
+        mockedStaticClasses.clear();
     }
 
     private boolean isClassAssignableTo(@NonNull Class<?> toClass) {
@@ -222,6 +255,7 @@ public final class MockFixture {
             @NonNull InstanceFactory mockedInstanceFactory) {
         registerMockedClass(mockedType);
         mockedTypesAndInstances.put(mockedType, mockedInstanceFactory);
+        discardMockedStatusCache();
     }
 
     @Nullable
@@ -350,6 +384,7 @@ public final class MockFixture {
     private void removeMockedClass(@NonNull Class<?> mockedClass) {
         mockedTypesAndInstances.remove(mockedClass);
         mockedClasses.remove(mockedClass);
+        discardMockedStatusCache();
     }
 
     private void discardStateForCorrespondingFakeClassIfAny(@NonNull Class<?> redefinedClass) {
@@ -370,6 +405,8 @@ public final class MockFixture {
                 mockedClasses.retainAll(previousMockedClasses);
                 mockedTypesAndInstances.keySet().retainAll(previousMockedClasses);
             }
+
+            discardMockedStatusCache();
         }
     }
 
@@ -393,6 +430,7 @@ public final class MockFixture {
 
     public void addCaptureTransformer(@NonNull CaptureTransformer<?> transformer) {
         captureTransformers.add(transformer);
+        discardMockedStatusCache();
     }
 
     // The following methods are used by test save-points to discard currently active capture transformers.
@@ -407,9 +445,12 @@ public final class MockFixture {
         for (int i = currentTransformerCount - 1; i >= previousTransformerCount; i--) {
             CaptureTransformer<?> transformer = captureTransformers.get(i);
             transformer.deactivate();
-            Startup.instrumentation().removeTransformer(transformer);
             captureTransformers.remove(i);
         }
+
+        if (currentTransformerCount > previousTransformerCount) {
+            discardMockedStatusCache();
+        }
     }
 
     // The following methods are only used by the Mocking API.
@@ -29,18 +29,6 @@ public final class TestRun {
     // Fields with global state
     // ////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
-    private static final ThreadLocal<Integer> noMockingCount = new ThreadLocal<>() {
-        @Override
-        protected Integer initialValue() {
-            return 0;
-        }
-
-        @Override
-        public void set(Integer valueToAdd) {
-            super.set(get() + valueToAdd);
-        }
-    };
-
     // Used only by the Coverage tool:
     private int testId;
 
@@ -65,7 +53,7 @@ public final class TestRun {
     // ///////////////////////////////////////////////////////////////////////////////////////////////////
 
     public static boolean isInsideNoMockingZone() {
-        return noMockingCount.get() > 0;
+        return ThreadContext.current().isInsideNoMockingZone();
     }
 
     @Nullable
@@ -140,15 +128,15 @@ public final class TestRun {
     }
 
     public static void enterNoMockingZone() {
-        noMockingCount.set(1);
+        ThreadContext.current().enterNoMockingZone();
     }
 
     public static void exitNoMockingZone() {
-        noMockingCount.set(-1);
+        ThreadContext.current().exitNoMockingZone();
     }
 
     public static void clearNoMockingZone() {
-        noMockingCount.remove();
+        ThreadContext.current().clearNoMockingZone();
     }
 
     public static void clearCurrentTestInstance() {
@@ -175,9 +163,9 @@ public final class TestRun {
     // ////////////////////////////////////////////////////
 
     @SuppressWarnings({ "StaticMethodOnlyUsedInOneClass", "SimplifiableIfStatement" })
-    public static boolean updateFakeState(@NonNull String fakeClassDesc, @Nullable Object mockedInstance,
-            int fakeStateIndex) {
-        Object fake = getFake(fakeClassDesc, mockedInstance);
+    public static boolean updateFakeState(int fakeClassId, @Nullable Object mockedInstance, int fakeStateIndex) {
+        FakeClasses fakeClasses = INSTANCE.fakeClasses;
+        Object fake = fakeClasses.getFake(fakeClassId, mockedInstance);
 
         if (fake == null) {
             return false;
@@ -187,12 +175,12 @@ public final class TestRun {
             return true;
         }
 
-        return getFakeStates().updateFakeState(fake, fakeStateIndex);
+        return fakeClasses.updateFakeState(fakeClassId, fake, fakeStateIndex);
     }
 
     @Nullable
-    public static Object getFake(@NonNull String fakeClassDesc, @Nullable Object mockedInstance) {
-        return INSTANCE.fakeClasses.getFake(fakeClassDesc, mockedInstance);
+    public static Object getFake(int fakeClassId, @Nullable Object mockedInstance) {
+        return INSTANCE.fakeClasses.getFake(fakeClassId, mockedInstance);
     }
 
     // Other methods ///////////////////////////////////////////////////////////////////////////////////////////////////
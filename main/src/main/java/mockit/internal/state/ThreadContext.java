@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.state;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import mockit.internal.BaseInvocation;
+
+/**
+ * Holds all the JMockit state which is specific to each thread, so that it can be read and updated through a single
+ * thread-local lookup and with no boxing of primitive values.
+ */
+public final class ThreadContext {
+    @NonNull
+    private static final ThreadLocal<ThreadContext> CONTEXT = ThreadLocal.withInitial(ThreadContext::new);
+
+    private int noMockingDepth;
+    private boolean ignoringMockingCallbacks;
+    private boolean proceedingIntoRealImplementation;
+    @Nullable
+    private BaseInvocation proceedingInvocation;
+
+    private ThreadContext() {
+    }
+
+    @NonNull
+    public static ThreadContext current() {
+        return CONTEXT.get();
+    }
+
+    // Mocking-free zone, used by TestRun.
+
+    boolean isInsideNoMockingZone() {
+        return noMockingDepth > 0;
+    }
+
+    void enterNoMockingZone() {
+        noMockingDepth++;
+    }
+
+    void exitNoMockingZone() {
+        noMockingDepth--;
+    }
+
+    void clearNoMockingZone() {
+        noMockingDepth = 0;
+    }
+
+    // Flags used by ExecutingTest.
+
+    public boolean isIgnoringMockingCallbacks() {
+        return ignoringMockingCallbacks;
+    }
+
+    public boolean setIgnoringMockingCallbacks(boolean flag) {
+        boolean previousFlag = ignoringMockingCallbacks;
+        ignoringMockingCallbacks = flag;
+        return previousFlag;
+    }
+
+    public boolean clearProceedingIntoRealImplementation() {
+        boolean result = proceedingIntoRealImplementation;
+        proceedingIntoRealImplementation = false;
+        return result;
+    }
+
+    public void markAsProceedingIntoRealImplementation() {
+        proceedingIntoRealImplementation = true;
+    }
+
+    @Nullable
+    public BaseInvocation getProceedingInvocation() {
+        return proceedingInvocation;
+    }
+
+    public void setProceedingInvocation(@Nullable BaseInvocation invocation) {
+        proceedingInvocation = invocation;
+    }
+}
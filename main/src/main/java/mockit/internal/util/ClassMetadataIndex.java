@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.util;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import mockit.asm.jvmConstants.Access;
+import mockit.asm.metadata.ClassMetadataReader;
+import mockit.asm.metadata.ClassMetadataReader.AnnotationInfo;
+import mockit.asm.metadata.ClassMetadataReader.Attribute;
+import mockit.asm.metadata.ClassMetadataReader.MethodInfo;
+import mockit.internal.ClassFile;
+
+/**
+ * Metadata about a test or fake class which is needed every time the class gets set up: the methods declared in its
+ * classfile (with parameter names and annotations), and its declared fields and methods as obtained through
+ * Reflection.
+ * <p>
+ * Each part is computed on first use, the classfile being read and parsed at most once for all of its uses, and then
+ * kept for as long as the class itself is loaded.
+ */
+public final class ClassMetadataIndex {
+    private static final EnumSet<Attribute> PARAMETERS_AND_ANNOTATIONS = EnumSet.of(Attribute.Parameters,
+            Attribute.Annotations);
+    private static final String[] NO_ANNOTATIONS = {};
+
+    @NonNull
+    private static final ClassValue<ClassMetadataIndex> INDEXES = new ClassValue<ClassMetadataIndex>() {
+        @Override
+        protected ClassMetadataIndex computeValue(Class<?> type) {
+            return new ClassMetadataIndex(type);
+        }
+    };
+
+    /**
+     * A method or constructor as declared in the classfile, holding no reference to the classfile bytes.
+     */
+    public static final class MethodMetadata {
+        public final int accessFlags;
+        @NonNull
+        public final String name;
+        @NonNull
+        public final String desc;
+        @Nullable
+        public final String[] parameters;
+        @NonNull
+        private final String[] annotations;
+
+        MethodMetadata(@NonNull MethodInfo method) {
+            accessFlags = method.accessFlags;
+            name = method.name;
+            desc = method.desc;
+            parameters = method.parameters;
+
+            List<AnnotationInfo> annotationInfos = method.annotations;
+
+            if (annotationInfos == null || annotationInfos.isEmpty()) {
+                annotations = NO_ANNOTATIONS;
+            } else {
+                int n = annotationInfos.size();
+                annotations = new String[n];
+
+                for (int i = 0; i < n; i++) {
+                    annotations[i] = annotationInfos.get(i).name;
+                }
+            }
+        }
+
+        public boolean isMethod() {
+            return name.charAt(0) != '<';
+        }
+
+        public boolean isSynthetic() {
+            return (accessFlags & Access.SYNTHETIC) != 0;
+        }
+
+        /**
+         * Whether the method is annotated with the annotation of the given type descriptor (such as
+         * <code>"Lmockit/Mock;"</code>).
+         */
+        public boolean hasAnnotation(@NonNull String annotationDesc) {
+            for (String annotation : annotations) {
+                if (annotationDesc.equals(annotation)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    @NonNull
+    private final Class<?> indexedClass;
+    @NonNull
+    private final String classDesc;
+    @Nullable
+    private volatile List<MethodMetadata> methods;
+    @Nullable
+    private volatile Field[] declaredFields;
+    @Nullable
+    private volatile Method[] declaredMethods;
+
+    private ClassMetadataIndex(@NonNull Class<?> indexedClass) {
+        this.indexedClass = indexedClass;
+        classDesc = indexedClass.getName().replace('.', '/');
+    }
+
+    @NonNull
+    public static ClassMetadataIndex of(@NonNull Class<?> aClass) {
+        return INDEXES.get(aClass);
+    }
+
+    @NonNull
+    public String getClassDesc() {
+        return classDesc;
+    }
+
+    /**
+     * The methods and constructors declared in the classfile, in declaration order.
+     */
+    @NonNull
+    public List<MethodMetadata> getMethods() {
+        List<MethodMetadata> methodsInClassfile = methods;
+
+        if (methodsInClassfile == null) {
+            byte[] classfile = ClassFile.readBytesFromClassFile(classDesc);
+            ClassMetadataReader cmr = new ClassMetadataReader(classfile, PARAMETERS_AND_ANNOTATIONS);
+            List<MethodInfo> methodInfos = cmr.getMethods();
+            List<MethodMetadata> methodsRead = new ArrayList<>(methodInfos.size());
+
+            for (MethodInfo methodInfo : methodInfos) {
+                methodsRead.add(new MethodMetadata(methodInfo));
+            }
+
+            methodsInClassfile = Collections.unmodifiableList(methodsRead);
+            methods = methodsInClassfile;
+        }
+
+        return methodsInClassfile;
+    }
+
+    /**
+     * The fields declared in the class, as returned by {@link Class#getDeclaredFields()}. The array is shared, so it
+     * must not be modified.
+     */
+    @NonNull
+    public Field[] getDeclaredFields() {
+        Field[] fields = declaredFields;
+
+        if (fields == null) {
+            fields = indexedClass.getDeclaredFields();
+            declaredFields = fields;
+        }
+
+        return fields;
+    }
+
+    /**
+     * The methods declared in the class, as returned by {@link Class#getDeclaredMethods()}. The array is shared, so it
+     * must not be modified.
+     */
+    @NonNull
+    public Method[] getDeclaredMethods() {
+        Method[] methodsInClass = declaredMethods;
+
+        if (methodsInClass == null) {
+            methodsInClass = indexedClass.getDeclaredMethods();
+            declaredMethods = methodsInClass;
+        }
+
+        return methodsInClass;
+    }
+}
@@ -7,32 +7,20 @@ package mockit.internal.util;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
-import java.util.EnumSet;
-import java.util.List;
-
-import mockit.asm.metadata.ClassMetadataReader;
-import mockit.asm.metadata.ClassMetadataReader.Attribute;
-import mockit.asm.metadata.ClassMetadataReader.MethodInfo;
-import mockit.internal.ClassFile;
 import mockit.internal.state.ParameterNames;
+import mockit.internal.util.ClassMetadataIndex.MethodMetadata;
 
 public final class ParameterNameExtractor {
-    private static final EnumSet<Attribute> PARAMETERS = EnumSet.of(Attribute.Parameters);
-
     private ParameterNameExtractor() {
     }
 
     @NonNull
     public static String extractNames(@NonNull Class<?> classOfInterest) {
-        String className = classOfInterest.getName();
-        String classDesc = className.replace('.', '/');
+        ClassMetadataIndex index = ClassMetadataIndex.of(classOfInterest);
+        String classDesc = index.getClassDesc();
 
         if (!ParameterNames.hasNamesForClass(classDesc)) {
-            byte[] classfile = ClassFile.readBytesFromClassFile(classDesc);
-            ClassMetadataReader cmr = new ClassMetadataReader(classfile, PARAMETERS);
-            List<MethodInfo> methods = cmr.getMethods();
-
-            for (MethodInfo method : methods) {
+            for (MethodMetadata method : index.getMethods()) {
                 if (!method.isSynthetic()) {
                     String[] parameters = method.parameters;
 
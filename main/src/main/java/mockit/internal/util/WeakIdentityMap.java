@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.util;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe map which compares keys by identity and holds them through weak references, so that neither
+ * <code>equals</code> nor <code>hashCode</code> is ever called on a key (which could be a mocked instance), and entries
+ * get discarded once their keys are garbage collected.
+ */
+public final class WeakIdentityMap<K, V> {
+    @NonNull
+    private final Map<Object, V> entries;
+    @NonNull
+    private final ReferenceQueue<K> collectedKeys;
+
+    public WeakIdentityMap() {
+        entries = new ConcurrentHashMap<>();
+        collectedKeys = new ReferenceQueue<>();
+    }
+
+    @Nullable
+    public V get(@NonNull K key) {
+        return entries.get(new LookupKey(key));
+    }
+
+    public boolean containsKey(@NonNull K key) {
+        return entries.containsKey(new LookupKey(key));
+    }
+
+    @Nullable
+    public V put(@NonNull K key, @NonNull V value) {
+        expungeCollectedKeys();
+        return entries.put(new WeakKey<>(key, collectedKeys), value);
+    }
+
+    @Nullable
+    public V putIfAbsent(@NonNull K key, @NonNull V value) {
+        expungeCollectedKeys();
+        return entries.putIfAbsent(new WeakKey<>(key, collectedKeys), value);
+    }
+
+    @Nullable
+    public V remove(@NonNull K key) {
+        return entries.remove(new LookupKey(key));
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public void clear() {
+        entries.clear();
+        expungeCollectedKeys();
+    }
+
+    private void expungeCollectedKeys() {
+        Reference<? extends K> collectedKey;
+
+        while ((collectedKey = collectedKeys.poll()) != null) {
+            entries.remove(collectedKey);
+        }
+    }
+
+    private interface IdentityKey {
+        @Nullable
+        Object referent();
+    }
+
+    private static boolean isSameKey(@NonNull IdentityKey key, @Nullable Object other) {
+        if (key == other) {
+            return true;
+        }
+
+        if (!(other instanceof IdentityKey)) {
+            return false;
+        }
+
+        Object referent = key.referent();
+        return referent != null && referent == ((IdentityKey) other).referent();
+    }
+
+    private static final class WeakKey<K> extends WeakReference<K> implements IdentityKey {
+        private final int hashCode;
+
+        WeakKey(@NonNull K key, @NonNull ReferenceQueue<K> queue) {
+            super(key, queue);
+            hashCode = System.identityHashCode(key);
+        }
+
+        @Nullable
+        @Override
+        public Object referent() {
+            return get();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object other) {
+            return isSameKey(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class LookupKey implements IdentityKey {
+        @NonNull
+        private final Object key;
+
+        LookupKey(@NonNull Object key) {
+            this.key = key;
+        }
+
+        @NonNull
+        @Override
+        public Object referent() {
+            return key;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object other) {
+            return isSameKey(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(key);
+        }
+    }
+}
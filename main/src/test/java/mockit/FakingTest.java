@@ -5,6 +5,7 @@
  */
 package mockit;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -224,6 +225,33 @@ final class FakingTest {
         assertEquals(-1, i);
     }
 
+    /**
+     * Fake using invocation parameters to access and replace the invoked arguments.
+     */
+    @Test
+    void fakeUsingInvocationParametersToAccessAndReplaceInvokedArguments() {
+        new MockUp<Panel>() {
+            @Mock
+            void $init(Invocation inv) {
+                assertEquals(0, inv.getInvokedArguments().length);
+            }
+
+            @Mock
+            int getBaseline(Invocation inv, int w, int h) {
+                Object[] args = inv.getInvokedArguments();
+                assertArrayEquals(new Object[] { w, h }, args);
+                assertSame(args, inv.getInvokedArguments());
+
+                args[0] = -1;
+                return inv.proceed();
+            }
+        };
+
+        Panel panel = new Panel();
+
+        assertThrows(IllegalArgumentException.class, () -> panel.getBaseline(20, 15));
+    }
+
     /**
      * The Class PublicNamedFakeWithNoInvocationParameters.
      */
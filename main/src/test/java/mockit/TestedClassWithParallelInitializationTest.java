@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import mockit.integration.junit5.JMockitExtension;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * The Class TestedClassWithParallelInitializationTest.
+ */
+@ExtendWith(JMockitExtension.class)
+class TestedClassWithParallelInitializationTest {
+
+    /** The names of the initialized objects, in order of initialization. */
+    static final List<String> initialized = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * The Class SharedDependency.
+     */
+    static class SharedDependency {
+        /** The initialization count. */
+        int initializationCount;
+
+        /**
+         * Initialize.
+         */
+        @PostConstruct
+        void initialize() {
+            initializationCount++;
+            initialized.add("shared");
+        }
+    }
+
+    /**
+     * The Class FirstService.
+     */
+    static class FirstService {
+        /** The shared dependency. */
+        @Inject
+        SharedDependency shared;
+
+        /** Whether the shared dependency was initialized first. */
+        boolean sharedWasInitialized;
+
+        /**
+         * Initialize.
+         */
+        @PostConstruct
+        void initialize() {
+            sharedWasInitialized = shared.initializationCount == 1;
+            initialized.add("first");
+        }
+    }
+
+    /**
+     * The Class SecondService.
+     */
+    static class SecondService {
+        /** The shared dependency. */
+        @Inject
+        SharedDependency shared;
+
+        /** Whether the shared dependency was initialized first. */
+        boolean sharedWasInitialized;
+
+        /**
+         * Initialize.
+         */
+        @PostConstruct
+        void initialize() {
+            sharedWasInitialized = shared.initializationCount == 1;
+            initialized.add("second");
+        }
+    }
+
+    /**
+     * The Class TestedClass.
+     */
+    static class TestedClass {
+        /** The first service. */
+        @Inject
+        FirstService first;
+
+        /** The second service. */
+        @Inject
+        SecondService second;
+
+        /** Whether both services were initialized first. */
+        boolean servicesWereInitialized;
+
+        /**
+         * Initialize.
+         */
+        @PostConstruct
+        void initialize() {
+            servicesWereInitialized = first.sharedWasInitialized && second.sharedWasInitialized;
+            initialized.add("tested");
+        }
+    }
+
+    /**
+     * Clear initialized objects.
+     */
+    @BeforeEach
+    void clearInitializedObjects() {
+        initialized.clear();
+    }
+
+    /**
+     * Inject same dependencies as with sequential initialization.
+     *
+     * @param tested
+     *            the tested
+     */
+    @Test
+    void injectSameDependenciesAsWithSequentialInitialization(
+            @Tested(fullyInitialized = true, parallelInitialization = true) TestedClass tested) {
+        assertSame(tested.first.shared, tested.second.shared);
+        assertEquals(1, tested.first.shared.initializationCount);
+    }
+
+    /**
+     * Initialize dependencies before the objects holding them.
+     *
+     * @param tested
+     *            the tested
+     */
+    @Test
+    void initializeDependenciesBeforeTheObjectsHoldingThem(
+            @Tested(fullyInitialized = true, parallelInitialization = true) TestedClass tested) {
+        assertTrue(tested.servicesWereInitialized);
+        assertEquals(4, initialized.size());
+        assertEquals("shared", initialized.get(0));
+        assertTrue(initialized.contains("first"));
+        assertTrue(initialized.contains("second"));
+        assertEquals("tested", initialized.get(3));
+    }
+}
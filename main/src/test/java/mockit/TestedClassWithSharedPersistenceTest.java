@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import jakarta.annotation.Resource;
+import jakarta.annotation.sql.DataSourceDefinition;
+
+import javax.sql.DataSource;
+
+import mockit.TestedClassWithFullAnnotatedDITest.DummyDataSource;
+import mockit.integration.junit5.JMockitExtension;
+
+import org.junit.jupiter.api.MethodOrderer.MethodName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * The Class TestedClassWithSharedPersistenceTest.
+ */
+@ExtendWith(JMockitExtension.class)
+@TestMethodOrder(MethodName.class)
+class TestedClassWithSharedPersistenceTest {
+
+    /**
+     * The Class FirstRepository.
+     */
+    @DataSourceDefinition(name = "sharedDS", className = "mockit.TestedClassWithFullAnnotatedDITest$DummyDataSource", url = "jdbc:testDb:shared", user = "tests", password = "test123")
+    static final class FirstRepository {
+        /** The ds. */
+        @Resource(lookup = "sharedDS")
+        DataSource ds;
+    }
+
+    /** The data source injected in the first test. */
+    static DataSource dataSourceFromFirstTest;
+
+    /**
+     * First test gets shared data source.
+     *
+     * @param repository
+     *            the repository
+     */
+    @Test
+    void firstTestGetsSharedDataSource(
+            @Tested(fullyInitialized = true, sharedPersistence = true) FirstRepository repository) {
+        assertSame(DummyDataSource.class, repository.ds.getClass());
+        dataSourceFromFirstTest = repository.ds;
+    }
+
+    /**
+     * Second test gets same shared data source.
+     *
+     * @param repository
+     *            the repository
+     */
+    @Test
+    void secondTestGetsSameSharedDataSource(
+            @Tested(fullyInitialized = true, sharedPersistence = true) FirstRepository repository) {
+        assertNotNull(dataSourceFromFirstTest);
+        assertSame(dataSourceFromFirstTest, repository.ds);
+    }
+
+    /**
+     * Third test gets new data source when not shared.
+     *
+     * @param repository
+     *            the repository
+     */
+    @Test
+    void thirdTestGetsNewDataSourceWhenNotShared(@Tested(fullyInitialized = true) FirstRepository repository) {
+        assertNotNull(repository.ds);
+        assertNotSame(dataSourceFromFirstTest, repository.ds);
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import mockit.integration.junit5.JMockitExtension;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.MethodName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * The Class TestedClassWithTransactionPerTestTest.
+ */
+@ExtendWith(JMockitExtension.class)
+@TestMethodOrder(MethodName.class)
+class TestedClassWithTransactionPerTestTest {
+
+    /**
+     * The Class Item.
+     */
+    static final class Item {
+        /** The id. */
+        final int id;
+
+        /**
+         * Instantiates a new item.
+         *
+         * @param id
+         *            the id
+         */
+        Item(int id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * The Class ItemRepository.
+     */
+    static final class ItemRepository {
+        /** The em. */
+        @PersistenceContext(unitName = "transactionPerTest")
+        EntityManager em;
+
+        /**
+         * Adds the item.
+         *
+         * @param item
+         *            the item
+         */
+        void add(Item item) {
+            em.persist(item);
+        }
+
+        /**
+         * Adds the item in its own transaction.
+         *
+         * @param item
+         *            the item
+         */
+        void addInOwnTransaction(Item item) {
+            EntityTransaction transaction = em.getTransaction();
+            transaction.begin();
+            em.persist(item);
+            transaction.commit();
+        }
+
+        /**
+         * Finds the item.
+         *
+         * @param id
+         *            the id
+         *
+         * @return the item, if any
+         */
+        Item find(int id) {
+            return em.find(Item.class, id);
+        }
+    }
+
+    /** Items committed to the fake database. */
+    static final Map<Object, Object> committedItems = new HashMap<>();
+
+    /** Items written in the current transaction. */
+    static final Map<Object, Object> pendingItems = new HashMap<>();
+
+    /** Whether the fake transaction is active. */
+    static boolean transactionActive;
+
+    /** The number of entity managers closed. */
+    static int entityManagersClosed;
+
+    /**
+     * Sets up a fake persistence unit backed by an in-memory map of items.
+     */
+    @BeforeAll
+    static void setUpPersistence() {
+        EntityTransaction transaction = new MockUp<EntityTransaction>() {
+            @Mock
+            void begin() {
+                assertFalse(transactionActive, "Transaction already active");
+                transactionActive = true;
+            }
+
+            @Mock
+            void commit() {
+                committedItems.putAll(pendingItems);
+                pendingItems.clear();
+                transactionActive = false;
+            }
+
+            @Mock
+            void rollback() {
+                pendingItems.clear();
+                transactionActive = false;
+            }
+
+            @Mock
+            boolean isActive() {
+                return transactionActive;
+            }
+        }.getMockInstance();
+
+        EntityManager em = new MockUp<EntityManager>() {
+            @Mock
+            void persist(Object entity) {
+                assertTrue(transactionActive, "No active transaction");
+                pendingItems.put(((Item) entity).id, entity);
+            }
+
+            @Mock
+            Object find(Class<?> entityClass, Object primaryKey) {
+                Object item = pendingItems.get(primaryKey);
+                return item != null ? item : committedItems.get(primaryKey);
+            }
+
+            @Mock
+            EntityTransaction getTransaction() {
+                return transaction;
+            }
+
+            @Mock
+            void close() {
+                entityManagersClosed++;
+            }
+        }.getMockInstance();
+
+        EntityManagerFactory emFactory = new MockUp<EntityManagerFactory>() {
+            @Mock
+            EntityManager createEntityManager() {
+                return em;
+            }
+        }.getMockInstance();
+
+        new MockUp<Persistence>() {
+            @Mock
+            EntityManagerFactory createEntityManagerFactory(String persistenceUnitName) {
+                assertEquals("transactionPerTest", persistenceUnitName);
+                return emFactory;
+            }
+        };
+    }
+
+    /**
+     * First test writes item in transaction begun for the test.
+     *
+     * @param repository
+     *            the repository
+     */
+    @Test
+    void firstTestWritesItemInTransactionBegunForTheTest(
+            @Tested(fullyInitialized = true, transactionPerTest = true) ItemRepository repository) {
+        assertTrue(transactionActive);
+
+        Item item = new Item(1);
+        repository.add(item);
+
+        assertSame(item, repository.find(1));
+    }
+
+    /**
+     * Second test no longer sees item written by first test.
+     *
+     * @param repository
+     *            the repository
+     */
+    @Test
+    void secondTestNoLongerSeesItemWrittenByFirstTest(
+            @Tested(fullyInitialized = true, transactionPerTest = true) ItemRepository repository) {
+        assertEquals(1, entityManagersClosed);
+        assertTrue(committedItems.isEmpty());
+        assertNull(repository.find(1));
+    }
+
+    /**
+     * Third test lets code under test manage its own transactions.
+     *
+     * @param repository
+     *            the repository
+     */
+    @Test
+    void thirdTestLetsCodeUnderTestManageItsOwnTransactions(
+            @Tested(fullyInitialized = true) ItemRepository repository) {
+        assertEquals(2, entityManagersClosed);
+        assertFalse(transactionActive);
+
+        repository.addInOwnTransaction(new Item(2));
+
+        assertNotNull(repository.find(2));
+    }
+
+    /**
+     * Fourth test still sees item committed by third test.
+     *
+     * @param repository
+     *            the repository
+     */
+    @Test
+    void fourthTestStillSeesItemCommittedByThirdTest(@Tested(fullyInitialized = true) ItemRepository repository) {
+        assertEquals(2, entityManagersClosed);
+        assertNotNull(repository.find(2));
+    }
+}
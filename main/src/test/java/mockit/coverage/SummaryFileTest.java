@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.coverage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import mockit.coverage.data.CoverageData;
+import mockit.coverage.lines.PerFileLineCoverage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SummaryFileTest {
+    @TempDir
+    File outputDir;
+
+    private static CoverageData createDataForFile(String sourceFile) {
+        CoverageData data = new CoverageData();
+        PerFileLineCoverage lineInfo = data.getOrAddFile(sourceFile, "class").lineCoverageInfo;
+        lineInfo.addLine(1);
+        lineInfo.addLine(2);
+        lineInfo.registerExecution(1, null);
+        return data;
+    }
+
+    @Test
+    void quoteCsvNamesWithCommasOrDoubleQuotes() throws IOException {
+        CoverageData data = createDataForFile("some/pkg/Odd,\"Name\".java");
+
+        new SummaryFile(outputDir.getPath(), data, false).generate();
+
+        List<String> lines = Files.readAllLines(outputDir.toPath().resolve("coverage-summary.csv"),
+                StandardCharsets.UTF_8);
+        assertEquals("file,\"some/pkg/Odd,\"\"Name\"\".java\",1,2,50", lines.get(3));
+    }
+
+    @Test
+    void escapeControlCharactersInJsonStrings() throws IOException {
+        CoverageData data = createDataForFile("some/pkg/Tab\tand\u0001\"Quote\".java");
+
+        new SummaryFile(outputDir.getPath(), data, true).generate();
+
+        String json = new String(Files.readAllBytes(outputDir.toPath().resolve("coverage-summary.json")),
+                StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"path\": \"some/pkg/Tab\\tand\\u0001\\\"Quote\\\".java\""), json);
+    }
+}
@@ -7,10 +7,13 @@ package mockit.coverage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import mockit.asm.controlFlow.Label;
 import mockit.coverage.data.CoverageData;
+import mockit.coverage.data.CoverageSummary;
 import mockit.coverage.data.FileCoverageData;
 import mockit.coverage.dataItems.PerFileDataCoverage;
 import mockit.coverage.lines.PerFileLineCoverage;
@@ -61,8 +64,9 @@ final class TestRunTest {
         dataCoverage.addField("SomeClass", "someStaticField", true);
 
         String classAndField = "SomeClass.someStaticField";
-        TestRun.fieldAssigned(file, classAndField);
-        TestRun.fieldRead(file, classAndField);
+        int fieldIndex = dataCoverage.getFieldIndex(classAndField, true);
+        TestRun.fieldAssigned(fieldIndex);
+        TestRun.fieldRead(fieldIndex);
 
         assertTrue(dataCoverage.isCovered(classAndField));
     }
@@ -76,12 +80,47 @@ final class TestRunTest {
 
         Object instance = new Object();
         String classAndField = "SomeClass.someInstanceField";
-        TestRun.fieldAssigned(instance, file, classAndField);
-        TestRun.fieldRead(instance, file, classAndField);
+        int fieldIndex = dataCoverage.getFieldIndex(classAndField, false);
+        TestRun.fieldAssigned(instance, fieldIndex);
+        TestRun.fieldRead(instance, fieldIndex);
 
         assertTrue(dataCoverage.isCovered(classAndField));
     }
 
+    @Test
+    void fieldIndexIsStableForTheSameFieldAndAbsentForTheWrongKindOfField() {
+        String file = "mockit/coverage/TestRunTest$fieldIndex.java";
+        FileCoverageData fileData = CoverageData.instance().getOrAddFile(file, "class");
+        PerFileDataCoverage dataCoverage = fileData.dataCoverageInfo;
+        dataCoverage.addField("SomeClass", "someField", false);
+
+        int fieldIndex = dataCoverage.getFieldIndex("SomeClass.someField", false);
+
+        assertTrue(fieldIndex >= 0);
+        assertEquals(fieldIndex, dataCoverage.getFieldIndex("SomeClass.someField", false));
+        assertEquals(-1, dataCoverage.getFieldIndex("SomeClass.someField", true));
+        assertEquals(-1, dataCoverage.getFieldIndex("SomeClass.unknownField", false));
+    }
+
+    @Test
+    void lineExecutedForTheFirstTimeDiscardsCoverageSummaryBuiltBefore() {
+        CoverageData coverageData = CoverageData.instance();
+        FileCoverageData fileData = coverageData.getOrAddFile("mockit/coverage/TestRunTest$summary.java", "class");
+        fileData.lineCoverageInfo.addLine(5);
+        CoverageSummary summaryBeforeExecution = coverageData.getSummary();
+
+        TestRun.lineExecuted(fileData.index, 5);
+        CoverageSummary summaryAfterExecution = coverageData.getSummary();
+
+        assertNotSame(summaryBeforeExecution, summaryAfterExecution);
+        assertEquals(summaryBeforeExecution.getTotal().getCoveredItems() + 1,
+                summaryAfterExecution.getTotal().getCoveredItems());
+
+        TestRun.lineExecuted(fileData.index, 5);
+
+        assertSame(summaryAfterExecution, coverageData.getSummary());
+    }
+
     @Test
     void isTerminatedIsFalseUnderNormalTestExecution() {
         assertFalse(TestRun.isTerminated());
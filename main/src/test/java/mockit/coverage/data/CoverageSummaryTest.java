@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.coverage.data;
+
+import static java.util.Arrays.asList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import mockit.coverage.lines.PerFileLineCoverage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class CoverageSummaryTest {
+    private CoverageSummary summary;
+
+    @BeforeEach
+    void createSummaryForFilesInNestedPackages() {
+        CoverageData data = new CoverageData();
+        addFile(data, "a/b/One.java", 2, 1);
+        addFile(data, "a/b/Two.java", 1, 1);
+        addFile(data, "a/bc/Three.java", 4, 0);
+        addFile(data, "a/Four.java", 1, 0);
+        summary = data.getSummary();
+    }
+
+    private static void addFile(CoverageData data, String sourceFile, int lines, int executedLines) {
+        PerFileLineCoverage lineInfo = data.getOrAddFile(sourceFile, "class").lineCoverageInfo;
+
+        for (int line = 1; line <= lines; line++) {
+            lineInfo.addLine(line);
+        }
+
+        for (int line = 1; line <= executedLines; line++) {
+            lineInfo.registerExecution(line, null);
+        }
+    }
+
+    @Test
+    void percentageForAllFiles() {
+        assertEquals(25, summary.getPercentage(null));
+        assertEquals(2, summary.getTotal().getCoveredItems());
+        assertEquals(8, summary.getTotal().getTotalItems());
+    }
+
+    @Test
+    void percentageForPackageSubtree() {
+        assertEquals(67, summary.getPercentage("a/b/"));
+        assertEquals(25, summary.getPercentage("a/"));
+    }
+
+    @Test
+    void percentageForPrefixWhichEndsInsideAPackageOrFileName() {
+        assertEquals(29, summary.getPercentage("a/b"));
+        assertEquals(100, summary.getPercentage("a/b/T"));
+        assertEquals(0, summary.getPercentage("a/F"));
+    }
+
+    @Test
+    void noPercentageForPrefixWhichMatchesNoFiles() {
+        assertEquals(-1, summary.getPercentage("x/"));
+        assertEquals(-1, summary.getPercentage("a/b/X"));
+    }
+
+    @Test
+    void smallestPerFilePercentage() {
+        assertEquals(0, summary.getSmallestPerFilePercentage());
+    }
+
+    @Test
+    void countsForFilesDirectlyInsideEachPackage() {
+        List<String> packageNames = new ArrayList<>();
+
+        for (CoverageSummary.Item packageItems : summary.getPackages()) {
+            packageNames.add(packageItems.getName());
+        }
+
+        assertEquals(asList("a", "a/b", "a/bc"), packageNames);
+
+        CoverageSummary.Item filesInA = summary.getFilesInPackage("a");
+        assertNotNull(filesInA);
+        assertEquals(0, filesInA.getCoveredItems());
+        assertEquals(1, filesInA.getTotalItems());
+
+        CoverageSummary.Item filesInB = summary.getFilesInPackage("a/b");
+        assertNotNull(filesInB);
+        assertEquals(67, filesInB.getPercentage());
+        assertEquals(2, summary.getFiles("a/b").size());
+        assertNull(summary.getFilesInPackage("x"));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.coverage.modification;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+final class ClassNameMatcherTest {
+    @Test
+    void compileEmptySpecification() {
+        assertNull(ClassNameMatcher.compileSpecification(""));
+        assertNull(ClassNameMatcher.compileSpecification(",,"));
+    }
+
+    @Test
+    void matchPlainClassNames() {
+        ClassNameMatcher matcher = ClassNameMatcher.compileSpecification("org.app.Main,org.app.util.Strings");
+
+        assertTrue(matcher.matches("org.app.Main"));
+        assertTrue(matcher.matches("org.app.util.Strings"));
+        assertFalse(matcher.matches("org.app.MainWindow"));
+        assertFalse(matcher.matches("org.app"));
+    }
+
+    @Test
+    void matchAnyCharacterWhereSpecificationsHaveDots() {
+        ClassNameMatcher matcher = ClassNameMatcher.compileSpecification("org.app.Main,org.lib.*,org.*.Dao");
+
+        assertTrue(matcher.matches("orgXapp.Main"));
+        assertTrue(matcher.matches("org$app$Main"));
+        assertTrue(matcher.matches("org_lib_util.Files"));
+        assertTrue(matcher.matches("org.lib.Files"));
+        assertTrue(matcher.matches("org.library.Files"));
+        assertTrue(matcher.matches("orgXapp$Dao"));
+        assertFalse(matcher.matches("orgapp.Main"));
+        assertFalse(matcher.matches("org.app.Main2"));
+    }
+
+    @Test
+    void matchPackagePrefixes() {
+        ClassNameMatcher matcher = ClassNameMatcher.compileSpecification("org.app.*,org.app.util*,com.*");
+
+        assertTrue(matcher.matches("org.app.Main"));
+        assertTrue(matcher.matches("org.app.util.Strings"));
+        assertTrue(matcher.matches("org.app.utilities.Files"));
+        assertTrue(matcher.matches("com.other.Service$Inner"));
+        assertFalse(matcher.matches("org.ap"));
+        assertFalse(matcher.matches("net.app.Main"));
+    }
+
+    @Test
+    void matchPatternsWithWildcardsInTheMiddleOrSingleCharacterWildcards() {
+        ClassNameMatcher matcher = ClassNameMatcher.compileSpecification("org.*.Service,org.app.Dao?");
+
+        assertTrue(matcher.matches("org.app.Service"));
+        assertTrue(matcher.matches("org.app.impl.Service"));
+        assertTrue(matcher.matches("org.app.Dao1"));
+        assertFalse(matcher.matches("org.app.ServiceImpl"));
+        assertFalse(matcher.matches("org.app.Dao"));
+    }
+
+    @Test
+    void matchRegularExpressions() {
+        ClassNameMatcher matcher = ClassNameMatcher.compileSpecification("org\\.app\\.[A-M].*,org.app.Zeta");
+
+        assertTrue(matcher.matches("org.app.Main"));
+        assertTrue(matcher.matches("org.app.Zeta"));
+        assertFalse(matcher.matches("org.app.Navigator"));
+    }
+
+    @Test
+    void matchTestClassNames() {
+        assertTrue(ClassSelection.isTestClassName("org.app.MainTest"));
+        assertTrue(ClassSelection.isTestClassName("org.app.MainTest$Nested"));
+        assertTrue(ClassSelection.isTestClassName("org.app.TestUtilTest"));
+        assertTrue(ClassSelection.isTestClassName("org.app.MainTest$InnerTest$1"));
+        assertFalse(ClassSelection.isTestClassName("Test"));
+        assertFalse(ClassSelection.isTestClassName("org.app.MainTest$"));
+        assertFalse(ClassSelection.isTestClassName("org.app.MainTests"));
+        assertFalse(ClassSelection.isTestClassName("org.app.Testing"));
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.coverage.modification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import mockit.asm.classes.ClassReader;
+import mockit.coverage.data.CoverageData;
+import mockit.coverage.data.FileCoverageData;
+import mockit.coverage.lines.PerFileLineCoverage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class CoverageModifierTest {
+    private static final String SOURCE_FILE = "mockit/coverage/modification/CoverageModifierTest.java";
+    private static final String INNER_CLASS = OuterClassInSameSourceFile.Inner.class.getName();
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 20;
+
+    @AfterEach
+    void discardCoverageData() {
+        CoverageModifier.recoverModifiedByteCodeIfAvailable(INNER_CLASS);
+        CoverageData.instance().clear();
+    }
+
+    @Test
+    void modifyClassesFromSameSourceFileConcurrently() throws Exception {
+        List<Class<?>> classes = List.of(FirstClassInSameSourceFile.class, SecondClassInSameSourceFile.class,
+                ThirdClassInSameSourceFile.class, FourthClassInSameSourceFile.class);
+
+        for (Class<?> aClass : classes) {
+            modifyClass(aClass);
+        }
+
+        List<Integer> expectedLineData = getLineData();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            CoverageData.instance().clear();
+
+            modifyClassesConcurrently(classes);
+
+            assertEquals(expectedLineData, getLineData());
+        }
+    }
+
+    @Test
+    void modifyInnerClassOnlyOnceWhenOuterClassIsModifiedConcurrently() throws Exception {
+        modifyClass(OuterClassInSameSourceFile.class);
+        List<Integer> expectedLineData = getLineData();
+        assertNotNull(CoverageModifier.recoverModifiedByteCodeIfAvailable(INNER_CLASS));
+
+        List<Class<?>> classesToModify = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            classesToModify.add(OuterClassInSameSourceFile.class);
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            CoverageData.instance().clear();
+
+            modifyClassesConcurrently(classesToModify);
+
+            assertEquals(expectedLineData, getLineData());
+            assertNotNull(CoverageModifier.recoverModifiedByteCodeIfAvailable(INNER_CLASS));
+            assertNull(CoverageModifier.recoverModifiedByteCodeIfAvailable(INNER_CLASS));
+        }
+    }
+
+    private static void modifyClassesConcurrently(List<Class<?>> classesToModify) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(classesToModify.size());
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> results = new ArrayList<>();
+
+            for (Class<?> aClass : classesToModify) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    modifyClass(aClass);
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void modifyClass(Class<?> aClass) throws IOException {
+        String classfileName = aClass.getName().replace('.', '/') + ".class";
+        byte[] classfile;
+
+        try (InputStream input = aClass.getClassLoader().getResourceAsStream(classfileName)) {
+            classfile = input.readAllBytes();
+        }
+
+        ClassReader cr = new ClassReader(classfile);
+        CoverageModifier modifier = new CoverageModifier(cr);
+        cr.accept(modifier);
+        assertNotNull(modifier.toByteArray());
+    }
+
+    private static PerFileLineCoverage getLineCoverage() {
+        FileCoverageData fileData = CoverageData.instance().getFileData(SOURCE_FILE);
+        assertNotNull(fileData);
+        return fileData.getLineCoverageData();
+    }
+
+    /**
+     * Gets the number of executable lines in the source file, followed by the line number and the number of branching
+     * sources and targets of each one.
+     */
+    private static List<Integer> getLineData() {
+        PerFileLineCoverage lineCoverage = getLineCoverage();
+        List<Integer> lineData = new ArrayList<>();
+        lineData.add(lineCoverage.getExecutableLineCount());
+
+        for (int line = 1, n = lineCoverage.getLineCount(); line <= n; line++) {
+            if (lineCoverage.getNumberOfSegments(line) > 0) {
+                lineData.add(line);
+                lineData.add(lineCoverage.getNumberOfBranchingSourcesAndTargets(line));
+            }
+        }
+
+        return lineData;
+    }
+}
+
+class FirstClassInSameSourceFile {
+    int compute(int value) {
+        if (value > 0) {
+            return value * 2;
+        }
+
+        return -value;
+    }
+}
+
+class SecondClassInSameSourceFile {
+    String describe(int value) {
+        if (value % 2 == 0) {
+            return "even";
+        }
+
+        return "odd";
+    }
+}
+
+class ThirdClassInSameSourceFile {
+    int sum(int[] values) {
+        int sum = 0;
+
+        for (int value : values) {
+            sum += value;
+        }
+
+        return sum;
+    }
+}
+
+class FourthClassInSameSourceFile {
+    boolean isInRange(int value, int min, int max) {
+        return value >= min && value <= max;
+    }
+}
+
+class OuterClassInSameSourceFile {
+    final class Inner {
+        int compute(int value) {
+            if (value > 0) {
+                return 1;
+            }
+
+            return 2;
+        }
+    }
+
+    int useInner() {
+        return new Inner().compute(1);
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.coverage.testRedundancy;
+
+import java.io.File;
+import java.util.BitSet;
+
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Fixture shared by the tests of the files generated from the lines executed by each test.
+ */
+abstract class BaseTestIndexTest {
+    @TempDir
+    File outputDir;
+
+    final File getOutputFile(String fileName) {
+        return outputDir.toPath().resolve(fileName).toFile();
+    }
+
+    static BitSet lines(int... lineNumbers) {
+        BitSet lines = new BitSet();
+
+        for (int line : lineNumbers) {
+            lines.set(line);
+        }
+
+        return lines;
+    }
+}
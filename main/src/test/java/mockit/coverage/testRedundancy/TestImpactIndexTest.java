@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.coverage.testRedundancy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+final class TestImpactIndexTest extends BaseTestIndexTest {
+    @Test
+    void writeLinesExecutedByEachTestAsRanges() throws IOException {
+        createIndex().writeToFile(outputDir.getPath());
+
+        List<String> lines = Files.readAllLines(getOutputFile("testIndex.txt").toPath());
+
+        assertEquals(List.of("test com.example.FooTest#first", "  com/example/Foo.java 5-9,12",
+                "test com.example.FooTest#second", "  com/example/Foo.java 20", "  com/example/Bar.java 3-4"), lines);
+    }
+
+    @Test
+    void selectTestsAffectedByChangedSourceOrClassFiles() throws IOException {
+        TestImpactIndex index = writeAndReadBack();
+
+        Set<String> bySource = index.getTestsAffectedByFiles(List.of("src/main/java/com/example/Foo.java"));
+        Set<String> byClass = index.getTestsAffectedByFiles(List.of("target/classes/com/example/Bar$Inner.class"));
+        Set<String> byOther = index.getTestsAffectedByFiles(List.of("src/main/java/com/example/Baz.java"));
+
+        assertEquals(Set.of("com.example.FooTest#first", "com.example.FooTest#second"), bySource);
+        assertEquals(Set.of("com.example.FooTest#second"), byClass);
+        assertTrue(byOther.isEmpty());
+    }
+
+    @Test
+    void selectTestsDeclaredInChangedTestSourceOrClassFiles() throws IOException {
+        TestImpactIndex index = writeAndReadBack();
+
+        Set<String> bySource = index.getTestsAffectedByFiles(List.of("src/test/java/com/example/FooTest.java"));
+        Set<String> byClass = index.getTestsAffectedByFiles(List.of("target/test-classes/com/example/FooTest$1.class"));
+        Set<String> byOther = index.getTestsAffectedByFiles(List.of("src/test/java/com/example/OtherFooTest.java"));
+
+        assertEquals(Set.of("com.example.FooTest#first", "com.example.FooTest#second"), bySource);
+        assertEquals(Set.of("com.example.FooTest#first", "com.example.FooTest#second"), byClass);
+        assertTrue(byOther.isEmpty());
+    }
+
+    @Test
+    void reportChangedFilesUnknownToIndex() throws IOException {
+        TestImpactIndex index = writeAndReadBack();
+
+        List<String> unknownFiles = index.getFilesUnknownToIndex(List.of("src/main/java/com/example/Foo.java",
+                "src/main/java/com/example/Baz.java", "src/test/java/com/example/FooTest.java", "pom.xml",
+                "target/classes/com/example/Bar$Inner.class", "target/classes/com/example/Baz$1.class"));
+
+        assertEquals(List.of("src/main/java/com/example/Baz.java", "pom.xml", "target/classes/com/example/Baz$1.class"),
+                unknownFiles);
+    }
+
+    @Test
+    void selectTestsAffectedByChangedLines() throws IOException {
+        TestImpactIndex index = writeAndReadBack();
+        BitSet changedLines = new BitSet();
+        changedLines.set(10, 13);
+
+        Set<String> affectedTests = index.getTestsAffectedByLines("com/example/Foo.java", changedLines);
+
+        assertEquals(Set.of("com.example.FooTest#first"), affectedTests);
+    }
+
+    @Test
+    void identifyOverloadedTestMethodsByTheirParameterTypes() throws Exception {
+        Method withoutParameters = OverloadedTests.class.getDeclaredMethod("check");
+        Method withParameters = OverloadedTests.class.getDeclaredMethod("check", int.class, String[].class);
+        String testClassName = OverloadedTests.class.getName();
+
+        assertEquals(testClassName + "#check", TestImpactIndex.getTestName(withoutParameters));
+        assertEquals(testClassName + "#check(int,java.lang.String[])", TestImpactIndex.getTestName(withParameters));
+    }
+
+    static final class OverloadedTests {
+        void check() {
+        }
+
+        void check(int value, String[] names) {
+        }
+    }
+
+    private TestImpactIndex writeAndReadBack() throws IOException {
+        createIndex().writeToFile(outputDir.getPath());
+        return TestImpactIndex.readFromFile(getOutputFile("testIndex.txt"));
+    }
+
+    private static TestImpactIndex createIndex() {
+        Map<String, Map<String, BitSet>> testsToLines = new LinkedHashMap<>();
+        testsToLines.put("com.example.FooTest#first", Map.of("com/example/Foo.java", lines(5, 6, 7, 8, 9, 12)));
+
+        Map<String, BitSet> linesOfSecondTest = new LinkedHashMap<>();
+        linesOfSecondTest.put("com/example/Foo.java", lines(20));
+        linesOfSecondTest.put("com/example/Bar.java", lines(3, 4));
+        testsToLines.put("com.example.FooTest#second", linesOfSecondTest);
+
+        return new TestImpactIndex(testsToLines);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.coverage.testRedundancy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import mockit.coverage.testRedundancy.TestPrioritization.PrioritizedTest;
+
+import org.junit.jupiter.api.Test;
+
+final class TestPrioritizationTest extends BaseTestIndexTest {
+    @Test
+    void orderTestsByAdditionalLinesCovered() {
+        TestPrioritization prioritization = new TestPrioritization(createIndex());
+
+        List<String> order = new ArrayList<>();
+        List<Integer> newlyCovered = new ArrayList<>();
+
+        for (PrioritizedTest test : prioritization.getPrioritizedTests()) {
+            order.add(test.testName);
+            newlyCovered.add(test.newlyCoveredLines);
+        }
+
+        assertEquals(List.of("T#b", "U#f", "T#c", "T#d", "T#a", "T#e"), order);
+        assertEquals(List.of(6, 6, 5, 1, 0, 0), newlyCovered);
+        assertEquals(18, prioritization.getPrioritizedTests().get(5).totalCoveredLines);
+    }
+
+    @Test
+    void writeOrderAndReadTestNamesBack() throws IOException {
+        new TestPrioritization(createIndex()).writeToFile(outputDir.getPath());
+        File orderFile = getOutputFile("testOrder.txt");
+
+        List<String> lines = Files.readAllLines(orderFile.toPath());
+        List<String> testNames = TestPrioritization.readTestNamesFromFile(orderFile);
+
+        assertEquals("T#b 6 6", lines.get(0));
+        assertEquals("T#e 0 18", lines.get(5));
+        assertEquals(List.of("T#b", "U#f", "T#c", "T#d", "T#a", "T#e"), testNames);
+    }
+
+    private static TestImpactIndex createIndex() {
+        Map<String, Map<String, BitSet>> testsToLines = new LinkedHashMap<>();
+        testsToLines.put("T#a", Map.of("F", lines(1, 2, 3)));
+        testsToLines.put("T#b", Map.of("F", lines(1, 2, 3, 4, 5, 6)));
+        testsToLines.put("T#c", Map.of("G", lines(1, 2, 3, 4, 5), "F", lines(1)));
+        testsToLines.put("T#d", Map.of("F", lines(7), "G", lines(1)));
+        testsToLines.put("T#e", Map.of("F", lines(2)));
+        testsToLines.put("U#f", Map.of("H", lines(1, 2, 3, 4, 5, 6)));
+        return new TestImpactIndex(testsToLines);
+    }
+}
@@ -202,6 +202,22 @@ final class SpringIntegrationTest {
         assertSame(collaborator, collaboratorBean2);
     }
 
+    @Test
+    void lookUpSameBeansRepeatedlyByNameAndByType() {
+        BeanFactory beanFactory = new DefaultListableBeanFactory();
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(exampleSUT.collaborator, beanFactory.getBean("collaborator"));
+            assertSame(dependency, beanFactory.getBean(Dependency.class));
+            assertSame(exampleSUT, beanFactory.getBean(ExampleSUT.class));
+        }
+
+        AnotherDependency anotherDependencyBean = beanFactory.getBean(AnotherDependency.class);
+        assertSame(anotherDependencyBean, beanFactory.getBean(AnotherDependency.class));
+        assertSame(anotherDependencyBean, beanFactory.getBean("anotherDependency"));
+        assertSame(exampleSUT.collaborator, beanFactory.getBean("collaborator"));
+    }
+
     static class Level1 {
         @Autowired
         Level2 level2;
@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.expectations.argumentMatching;
+
+import static mockit.internal.expectations.argumentMatching.EqualityMatcher.areEqual;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+final class EqualityMatcherTest {
+
+    @Test
+    void primitiveArraysOfTheSameTypeAreComparedByContent() {
+        assertTrue(areEqual(new byte[] { 1, 2, 3 }, new byte[] { 1, 2, 3 }));
+        assertFalse(areEqual(new byte[] { 1, 2, 3 }, new byte[] { 1, 2, 4 }));
+        assertTrue(areEqual(new int[] { 1, 2 }, new int[] { 1, 2 }));
+        assertFalse(areEqual(new int[] { 1, 2 }, new int[] { 1 }));
+        assertTrue(areEqual(new char[] { 'a' }, new char[] { 'a' }));
+        assertTrue(areEqual(new long[] { 5L }, new long[] { 5L }));
+        assertTrue(areEqual(new short[] { 5 }, new short[] { 5 }));
+        assertTrue(areEqual(new boolean[] { true }, new boolean[] { true }));
+    }
+
+    @Test
+    void floatingPointArraysAreComparedLikeTheirBoxedElements() {
+        assertTrue(areEqual(new double[] { Double.NaN }, new double[] { Double.NaN }));
+        assertFalse(areEqual(new double[] { 0.0 }, new double[] { -0.0 }));
+        assertTrue(areEqual(new float[] { Float.NaN }, new float[] { Float.NaN }));
+        assertFalse(areEqual(new float[] { 0.0F }, new float[] { -0.0F }));
+    }
+
+    @Test
+    void nestedArraysAreComparedByContent() {
+        assertTrue(areEqual(new Object[] { new int[] { 1 }, "a" }, new Object[] { new int[] { 1 }, "a" }));
+        assertFalse(areEqual(new Object[] { new int[] { 1 }, "a" }, new Object[] { new int[] { 2 }, "a" }));
+        assertTrue(areEqual(new String[][] { { "a", null } }, new String[][] { { "a", null } }));
+    }
+
+    @Test
+    void primitiveAndWrapperArraysWithEqualElementsAreEqual() {
+        assertTrue(areEqual(new int[] { 1, 2 }, new Integer[] { 1, 2 }));
+        assertFalse(areEqual(new int[] { 1, 2 }, new long[] { 1L, 2L }));
+    }
+
+    @Test
+    void arrayIsNotEqualToNonArray() {
+        assertFalse(areEqual(new int[] { 1 }, 1));
+        assertFalse(areEqual(new int[0], null));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.expectations.invocation;
+
+import static java.util.Arrays.asList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import mockit.asm.jvmConstants.Access;
+import mockit.internal.expectations.argumentMatching.AlwaysTrueMatcher;
+import mockit.internal.expectations.argumentMatching.ArgumentMatcher;
+import mockit.internal.expectations.argumentMatching.ClassMatcher;
+
+import org.junit.jupiter.api.Test;
+
+final class ArgumentValuesAndMatchersTest {
+    private static final Map<Object, Object> NO_INSTANCES = Collections.emptyMap();
+
+    private static ArgumentValuesAndMatchers valuesAndMatchers(int access, Object... values) {
+        InvocationArguments signature = new InvocationArguments(access, "Example",
+                "m(Ljava/lang/Object;[Ljava/lang/Object;)V", null, values);
+        return (access & Access.VARARGS) == 0 ? new ArgumentValuesAndMatchersWithoutVarargs(signature, values)
+                : new ArgumentValuesAndMatchersWithVarargs(signature, values);
+    }
+
+    @Test
+    void matchArgumentsAgainstMatchersAndRecordedValues() {
+        ArgumentValuesAndMatchers arguments = valuesAndMatchers(0, null, "abc");
+        arguments.setMatchers(asList(ClassMatcher.create(Integer.class), null));
+
+        assertTrue(arguments.isMatch(new Object[] { 1, "abc" }, NO_INSTANCES));
+        assertFalse(arguments.isMatch(new Object[] { 1, "xyz" }, NO_INSTANCES));
+        assertFalse(arguments.isMatch(new Object[] { "1", "abc" }, NO_INSTANCES));
+    }
+
+    @Test
+    void matchAnyArgumentsWhenAllMatchersAcceptAnyValue() {
+        ArgumentValuesAndMatchers arguments = valuesAndMatchers(0, null, null);
+        arguments.setMatchers(asList(AlwaysTrueMatcher.ANY_VALUE, null));
+
+        assertTrue(arguments.isMatch(new Object[] { 1, "abc" }, NO_INSTANCES));
+        assertTrue(arguments.isMatch(new Object[] { null, null }, NO_INSTANCES));
+    }
+
+    @Test
+    void recompileMatchersWhenReplaced() {
+        ArgumentValuesAndMatchers arguments = valuesAndMatchers(0, null, null);
+        arguments.setMatchers(asList(AlwaysTrueMatcher.ANY_VALUE, null));
+        assertTrue(arguments.isMatch(new Object[] { "a", "b" }, NO_INSTANCES));
+
+        List<ArgumentMatcher<?>> newMatchers = new ArrayList<>();
+        newMatchers.add(ClassMatcher.create(Integer.class));
+        arguments.setValuesAndMatchers(new Object[] { null, "b" }, newMatchers);
+
+        assertFalse(arguments.isMatch(new Object[] { "a", "b" }, NO_INSTANCES));
+        assertTrue(arguments.isMatch(new Object[] { 1, "b" }, NO_INSTANCES));
+    }
+
+    @Test
+    void matchRecordedValueThroughEquivalentInstance() {
+        Object recorded = new Object();
+        Object replayed = new Object();
+        ArgumentValuesAndMatchers arguments = valuesAndMatchers(0, null, recorded);
+        arguments.setMatchers(asList(AlwaysTrueMatcher.ANY_VALUE, null));
+
+        assertFalse(arguments.isMatch(new Object[] { 1, replayed }, NO_INSTANCES));
+        assertTrue(arguments.isMatch(new Object[] { 1, replayed }, Collections.singletonMap(replayed, recorded)));
+    }
+
+    @Test
+    void matchVarargsElementByElement() {
+        ArgumentValuesAndMatchers arguments = valuesAndMatchers(Access.VARARGS, null, new Object[] { "a", null });
+        arguments.setMatchers(asList(AlwaysTrueMatcher.ANY_VALUE, null, ClassMatcher.create(Integer.class)));
+
+        assertTrue(arguments.isMatch(new Object[] { 5, new Object[] { "a", 2 } }, NO_INSTANCES));
+        assertFalse(arguments.isMatch(new Object[] { 5, new Object[] { "b", 2 } }, NO_INSTANCES));
+        assertFalse(arguments.isMatch(new Object[] { 5, new Object[] { "a", "2" } }, NO_INSTANCES));
+        assertFalse(arguments.isMatch(new Object[] { 5, new Object[] { "a" } }, NO_INSTANCES));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.faking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import mockit.Invocation;
+import mockit.Mock;
+import mockit.MockUp;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that fakes keep working once fake class ids no longer fit in a signed 16-bit operand.
+ */
+final class FakeClassIdTest {
+    static final class Collaborator {
+        int getValue() {
+            return 1;
+        }
+
+        String describe(String prefix) {
+            return prefix;
+        }
+    }
+
+    @BeforeAll
+    static void reserveFakeClassIdsUpToTheShortLimit() {
+        int lastId = 0;
+
+        for (int i = 0; lastId <= Short.MAX_VALUE; i++) {
+            lastId = FakeClasses.getFakeClassId("fake/ReservedFakeClass" + i);
+        }
+
+        assertTrue(FakeClasses.getFakeClassId("fake/AnyNewFakeClass") > Short.MAX_VALUE);
+    }
+
+    @Test
+    void applyFakeWithIdAboveShortMaxValue() {
+        new MockUp<Collaborator>() {
+            @Mock
+            int getValue() {
+                return 123;
+            }
+        };
+
+        assertEquals(123, new Collaborator().getValue());
+    }
+
+    @Test
+    void applyStatefulFakeWithInvocationParameterAndIdAboveShortMaxValue() {
+        new MockUp<Collaborator>() {
+            @Mock(invocations = 1)
+            String describe(Invocation inv, String prefix) {
+                return prefix + inv.getInvocationCount() + ':' + inv.proceed(prefix);
+            }
+        };
+
+        assertEquals("a1:a", new Collaborator().describe("a"));
+    }
+}
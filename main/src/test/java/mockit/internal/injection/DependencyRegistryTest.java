@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.injection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+import mockit.internal.reflection.GenericTypeReflection;
+
+import org.junit.jupiter.api.Test;
+
+final class DependencyRegistryTest {
+    static final class Holder {
+    }
+
+    final GenericTypeReflection reflection = new TestedClass(Holder.class, Holder.class).reflection;
+    final DependencyRegistry registry = new DependencyRegistry();
+
+    @Test
+    void replaceObjectOfSameInjectionPointKeepingItsPosition() {
+        List<String> first = new ArrayList<>();
+        List<String> second = new LinkedList<>();
+        List<String> replacement = new ArrayList<>();
+        registry.put(new InjectionPoint(List.class, "first"), first);
+        registry.put(new InjectionPoint(List.class, "second"), second);
+
+        registry.put(new InjectionPoint(List.class, "first"), replacement);
+
+        assertSame(replacement, registry.get(new InjectionPoint(List.class, "first")));
+        assertEquals(List.of(replacement, second), registry.getObjects());
+    }
+
+    @Test
+    void findObjectsOfSubtypesByAnyAssignableType() {
+        ArrayList<String> list = new ArrayList<>();
+        registry.put(new InjectionPoint(ArrayList.class, "list"), list);
+
+        assertSame(list, registry.findMatchingObject(reflection, new InjectionPoint(Collection.class, "other")));
+        assertSame(list, registry.findMatchingObject(reflection, new InjectionPoint(AbstractList.class)));
+        assertSame(list, registry.findMatchingObject(reflection, new InjectionPoint(Object.class)));
+        assertNull(registry.findMatchingObject(reflection, new InjectionPoint(LinkedList.class)));
+    }
+
+    @Test
+    void findArraysByCovariantArrayTypesAndArrayInterfaces() {
+        String[] names = { "a", "b" };
+        int[][] matrix = { { 1 } };
+        registry.put(new InjectionPoint(String[].class, "names"), names);
+        registry.put(new InjectionPoint(int[][].class, "matrix"), matrix);
+
+        assertSame(names, registry.findMatchingObject(reflection, new InjectionPoint(CharSequence[].class, "names")));
+        assertSame(names, registry.findMatchingObject(reflection, new InjectionPoint(Comparable[].class)));
+        assertSame(matrix, registry.findMatchingObject(reflection, new InjectionPoint(Object[].class)));
+        assertSame(matrix, registry.findMatchingObject(reflection, new InjectionPoint(Cloneable[].class)));
+        assertSame(names, registry.findMatchingObject(reflection, new InjectionPoint(Serializable.class, "names")));
+        assertSame(matrix, registry.findMatchingObject(reflection, new InjectionPoint(Cloneable.class)));
+        assertNull(registry.findMatchingObject(reflection, new InjectionPoint(long[][].class)));
+        assertNull(registry.findMatchingObject(reflection, new InjectionPoint(Integer[].class)));
+    }
+
+    @Test
+    void preferObjectWithSameNameOverLastOneOfMatchingType() {
+        Runnable a = () -> {};
+        Runnable b = () -> {};
+        Runnable c = () -> {};
+        registry.put(new InjectionPoint(Runnable.class, "a"), a);
+        registry.put(new InjectionPoint(Runnable.class, "b"), b);
+        registry.put(new InjectionPoint(Runnable.class, "c"), c);
+
+        assertSame(b, registry.findMatchingObject(reflection, new InjectionPoint(Runnable.class, "b")));
+        assertSame(c, registry.findMatchingObject(reflection, new InjectionPoint(Runnable.class, "d")));
+        assertNull(registry.findMatchingObject(reflection, new InjectionPoint(Runnable.class, "d", true)));
+    }
+
+    @Test
+    void matchByNameOnlyWithoutTypeMatching() {
+        Runnable action = () -> {};
+        registry.put(new InjectionPoint(Runnable.class, "action"), action);
+
+        assertSame(action, registry.findMatchingObject(null, new InjectionPoint(Thread.class, "action")));
+        assertNull(registry.findMatchingObject(null, new InjectionPoint(Thread.class, "other")));
+        assertSame(action, registry.findMatchingObject(null, new InjectionPoint(Runnable.class)));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.injection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import mockit.internal.injection.InjectionPoint.KindOfInjectionPoint;
+import mockit.internal.injection.InstantiationPlan.ConstructorPlan;
+
+import org.junit.jupiter.api.Test;
+
+final class InstantiationPlanTest {
+
+    @SuppressWarnings("unused")
+    static final class Planned {
+        static int staticField;
+        final String finalField = "";
+        volatile int volatileField;
+        Runnable dependency;
+        final int value;
+
+        private Planned() {
+            value = -1;
+        }
+
+        Planned(int value) {
+            this.value = value;
+        }
+
+        public Planned(String text, long number) {
+            value = text.length() + (int) number;
+        }
+
+        Planned(boolean fail) throws IOException {
+            throw new IOException("constructor failed");
+        }
+    }
+
+    @Test
+    void keepsSamePlanForTheSameClass() {
+        InstantiationPlan plan = InstantiationPlan.of(Planned.class);
+
+        assertSame(plan, InstantiationPlan.of(Planned.class));
+        assertSame(plan.getConstructors(), plan.getConstructors());
+    }
+
+    @Test
+    void ordersConstructorsWithTheMostAccessibleFirst() {
+        List<ConstructorPlan> constructors = InstantiationPlan.of(Planned.class).getConstructorsByAccessibility();
+
+        assertEquals(4, constructors.size());
+        assertEquals(Modifier.PUBLIC, constructors.get(0).getModifiers());
+        assertEquals(Modifier.PRIVATE, constructors.get(3).getModifiers());
+        assertEquals(KindOfInjectionPoint.NotAnnotated, constructors.get(0).kindOfInjectionPoint);
+        assertEquals("<init>(Ljava/lang/String;J)V", constructors.get(0).constructorDesc);
+        assertNull(constructors.get(0).getQualifiedName(0));
+    }
+
+    @Test
+    void createsInstancesThroughPlannedConstructor() {
+        ConstructorPlan constructor = InstantiationPlan.of(Planned.class).getConstructorsByAccessibility().get(0);
+
+        Planned instance = (Planned) constructor.newInstance(new Object[] { "abc", 2 });
+
+        assertEquals(5, instance.value);
+    }
+
+    @Test
+    void reportsIncompatibleArgumentsAsReflectionWould() {
+        ConstructorPlan constructor = InstantiationPlan.of(Planned.class).getConstructorsByAccessibility().get(0);
+
+        assertThrows(IllegalArgumentException.class, () -> constructor.newInstance(new Object[] { "abc", "2" }));
+        assertThrows(IllegalArgumentException.class, () -> constructor.newInstance(new Object[] { "abc" }));
+    }
+
+    @Test
+    void propagatesCheckedExceptionThrownByConstructor() {
+        ConstructorPlan constructor = InstantiationPlan.of(Planned.class).getConstructors().stream()
+                .filter(c -> c.parameterTypes.length == 1 && c.parameterTypes[0] == boolean.class).findFirst().get();
+
+        IOException e = assertThrows(IOException.class, () -> constructor.newInstance(new Object[] { true }));
+
+        assertEquals("constructor failed", e.getMessage());
+    }
+
+    @Test
+    void planOnlyNonFinalNonStaticNonVolatileFieldsForInjection() {
+        List<Field> eligibleFields = InstantiationPlan.of(Planned.class).getEligibleFields();
+
+        assertEquals(1, eligibleFields.size());
+        Field dependency = eligibleFields.get(0);
+        assertEquals("dependency", dependency.getName());
+        assertEquals(KindOfInjectionPoint.NotAnnotated, InstantiationPlan.kindOfTargetField(dependency));
+        assertNull(InstantiationPlan.qualifiedNameOfTargetField(dependency));
+        assertSame(eligibleFields, InstantiationPlan.of(Planned.class).getEligibleFields());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.injection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+final class LifecycleMethodsTest {
+    static final List<String> calls = new ArrayList<>();
+
+    static class Base {
+        @PostConstruct
+        void initializeBase() {
+            calls.add("initializeBase");
+        }
+
+        @PreDestroy
+        void destroyBase() {
+            calls.add("destroyBase");
+        }
+    }
+
+    static class FailingSubclass extends Base {
+        @PostConstruct
+        void initialize() {
+            calls.add("initialize");
+            throw new IllegalStateException("initialization failed");
+        }
+
+        @PreDestroy
+        void destroy() {
+            calls.add("destroy");
+        }
+    }
+
+    final LifecycleMethods lifecycleMethods = new LifecycleMethods();
+
+    LifecycleMethodsTest() {
+        calls.clear();
+        lifecycleMethods.findLifecycleMethods(FailingSubclass.class);
+    }
+
+    @Test
+    void executeTerminationMethodsOnlyOfClassesWhoseInitializationMethodsSucceeded() {
+        FailingSubclass object = new FailingSubclass();
+
+        assertThrows(IllegalStateException.class,
+                () -> lifecycleMethods.executeInitializationMethodsIfAny(FailingSubclass.class, object));
+        lifecycleMethods.executeTerminationMethodsIfAny();
+
+        assertEquals(List.of("initializeBase", "initialize", "destroyBase"), calls);
+    }
+
+    @Test
+    void executeNoTerminationMethodsForObjectWhoseDeferredInitializationFailed() {
+        FailingSubclass object = new FailingSubclass();
+        ParallelInitialization initialization = lifecycleMethods.deferInitializationMethods();
+
+        lifecycleMethods.executeInitializationMethodsIfAny(FailingSubclass.class, object);
+        lifecycleMethods.stopDeferringInitializationMethods();
+
+        assertEquals(List.of(), calls);
+        assertThrows(IllegalStateException.class, initialization::execute);
+        lifecycleMethods.executeTerminationMethodsIfAny();
+
+        assertEquals(List.of("initializeBase", "initialize"), calls);
+    }
+
+    @Test
+    void executeTerminationMethodsForObjectWhoseDeferredInitializationSucceeded() {
+        Base object = new Base();
+        lifecycleMethods.findLifecycleMethods(Base.class);
+        ParallelInitialization initialization = lifecycleMethods.deferInitializationMethods();
+
+        lifecycleMethods.executeInitializationMethodsIfAny(Base.class, object);
+        lifecycleMethods.stopDeferringInitializationMethods();
+        lifecycleMethods.executeTerminationMethodsIfAny();
+
+        assertEquals(List.of(), calls);
+
+        initialization.execute();
+        lifecycleMethods.executeTerminationMethodsIfAny();
+
+        assertEquals(List.of("initializeBase", "destroyBase"), calls);
+    }
+}
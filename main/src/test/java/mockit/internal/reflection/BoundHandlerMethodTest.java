@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.reflection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+final class BoundHandlerMethodTest {
+
+    static class Adder {
+        long add(long a, int b) {
+            return a + b;
+        }
+    }
+
+    static class Recorder {
+        String[] recorded;
+
+        void record(String... values) {
+            recorded = values;
+        }
+    }
+
+    static class Failing {
+        void fail() throws IOException {
+            throw new IOException("checked");
+        }
+    }
+
+    static final class CustomThrowable extends Throwable {
+        private static final long serialVersionUID = 1L;
+    }
+
+    static class ThrowingCustomThrowable {
+        void fail() throws CustomThrowable {
+            throw new CustomThrowable();
+        }
+    }
+
+    @Test
+    void invokesNonPrivateMethodOfHandlerWithWideningOfPrimitiveArguments() {
+        BoundHandlerMethod handler = new BoundHandlerMethod(new Adder());
+
+        long sum = handler.invoke(1, (short) 2);
+
+        assertEquals(3L, sum);
+        assertEquals("add", handler.getMethod().getName());
+    }
+
+    @Test
+    void passesVarargsArrayAsIs() {
+        Recorder recorder = new Recorder();
+        BoundHandlerMethod handler = new BoundHandlerMethod(recorder);
+        String[] values = { "a", "b" };
+
+        Object result = handler.invoke((Object) values);
+
+        assertNull(result);
+        assertSame(values, recorder.recorded);
+    }
+
+    @Test
+    void rejectsArgumentsIncompatibleWithTheParameters() {
+        BoundHandlerMethod handler = new BoundHandlerMethod(new Adder());
+
+        IllegalArgumentException e1 = assertThrows(IllegalArgumentException.class, () -> handler.invoke(1L));
+        IllegalArgumentException e2 = assertThrows(IllegalArgumentException.class, () -> handler.invoke(1L, 2L));
+        IllegalArgumentException e3 = assertThrows(IllegalArgumentException.class, () -> handler.invoke(null, 2));
+
+        assertTrue(e1.getMessage().startsWith("Failure to invoke method: "));
+        assertTrue(e2.getMessage().startsWith("Failure to invoke method: "));
+        assertTrue(e3.getMessage().startsWith("Failure to invoke method: "));
+    }
+
+    @Test
+    void propagatesCheckedExceptionThrownByHandlerMethod() {
+        BoundHandlerMethod handler = new BoundHandlerMethod(new Failing());
+
+        IOException e = assertThrows(IOException.class, () -> handler.invoke());
+
+        assertEquals("checked", e.getMessage());
+    }
+
+    @Test
+    void propagatesThrowableWhichIsNeitherExceptionNorErrorThrownByHandlerMethod() {
+        BoundHandlerMethod handler = new BoundHandlerMethod(new ThrowingCustomThrowable());
+
+        assertThrows(CustomThrowable.class, () -> handler.invoke());
+    }
+}
@@ -10,6 +10,9 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+
 import org.junit.jupiter.api.Test;
 
 final class ConstructorReflectionTest {
@@ -56,6 +59,16 @@ final class ConstructorReflectionTest {
         }
     }
 
+    static final class CustomThrowable extends Throwable {
+        private static final long serialVersionUID = 1L;
+    }
+
+    static class ThrowingCustomThrowableConstructor {
+        ThrowingCustomThrowableConstructor(String s) throws CustomThrowable {
+            throw new CustomThrowable();
+        }
+    }
+
     @Test
     void findSpecifiedConstructorWithMatchingTypes() {
         var ctor = ConstructorReflection.findSpecifiedConstructor(SimpleClass.class, new Class<?>[] { int.class });
@@ -156,4 +169,14 @@ final class ConstructorReflectionTest {
         assertThrows(ReflectiveOperationException.class,
                 () -> ConstructorReflection.newInstanceUsingCompatibleConstructor(NoDefaultConstructor.class, "x"));
     }
+
+    @Test
+    void invokeThroughConstructorHandlePropagatesThrowableWhichIsNeitherExceptionNorError() throws Exception {
+        Constructor<ThrowingCustomThrowableConstructor> constructor = ThrowingCustomThrowableConstructor.class
+                .getDeclaredConstructor(String.class);
+        MethodHandle constructorHandle = ConstructorReflection.createConstructorHandle(constructor);
+
+        assertThrows(CustomThrowable.class,
+                () -> ConstructorReflection.invokeAccessible(constructorHandle, constructor, "x"));
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import mockit.Mock;
+import mockit.internal.util.ClassMetadataIndex.MethodMetadata;
+
+import org.junit.jupiter.api.Test;
+
+final class ClassMetadataIndexTest {
+
+    static class Indexed {
+        int value;
+
+        @Mock
+        int fake(int first, String second) {
+            return first + second.length();
+        }
+
+        void notFake() {
+        }
+    }
+
+    @Test
+    void returnsSameIndexForTheSameClass() {
+        ClassMetadataIndex index = ClassMetadataIndex.of(Indexed.class);
+
+        assertSame(index, ClassMetadataIndex.of(Indexed.class));
+        assertEquals("mockit/internal/util/ClassMetadataIndexTest$Indexed", index.getClassDesc());
+    }
+
+    @Test
+    void readsMethodsFromClassfileOnlyOnce() {
+        ClassMetadataIndex index = ClassMetadataIndex.of(Indexed.class);
+
+        List<MethodMetadata> methods = index.getMethods();
+
+        assertSame(methods, index.getMethods());
+    }
+
+    @Test
+    void keepsParameterNamesAndAnnotationsOfEachMethod() {
+        List<MethodMetadata> methods = ClassMetadataIndex.of(Indexed.class).getMethods();
+        MethodMetadata fake = findMethod(methods, "fake");
+        MethodMetadata notFake = findMethod(methods, "notFake");
+        MethodMetadata constructor = findMethod(methods, "<init>");
+
+        assertEquals("(ILjava/lang/String;)I", fake.desc);
+        assertArrayEquals(new String[] { "first", "second" }, fake.parameters);
+        assertTrue(fake.hasAnnotation("Lmockit/Mock;"));
+        assertFalse(notFake.hasAnnotation("Lmockit/Mock;"));
+        assertTrue(fake.isMethod());
+        assertFalse(constructor.isMethod());
+        assertFalse(fake.isSynthetic());
+    }
+
+    @Test
+    void cachesDeclaredFieldsAndMethods() {
+        ClassMetadataIndex index = ClassMetadataIndex.of(Indexed.class);
+
+        assertSame(index.getDeclaredFields(), index.getDeclaredFields());
+        assertSame(index.getDeclaredMethods(), index.getDeclaredMethods());
+    }
+
+    private static MethodMetadata findMethod(List<MethodMetadata> methods, String name) {
+        for (MethodMetadata method : methods) {
+            if (method.name.equals(name)) {
+                return method;
+            }
+        }
+
+        throw new AssertionError("Method not found: " + name);
+    }
+}
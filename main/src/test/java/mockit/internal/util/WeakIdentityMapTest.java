@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ * Copyright (c) 2006-2025 JMockit developers
+ * See LICENSE file for full license text.
+ */
+package mockit.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+final class WeakIdentityMapTest {
+
+    @Test
+    void keysAreComparedByIdentityRatherThanByEquality() {
+        WeakIdentityMap<String, Integer> map = new WeakIdentityMap<>();
+        String key = new String("key");
+        String equalKey = new String("key");
+
+        map.put(key, 1);
+
+        assertEquals(1, map.get(key));
+        assertNull(map.get(equalKey));
+        assertTrue(map.containsKey(key));
+        assertFalse(map.containsKey(equalKey));
+    }
+
+    @Test
+    void putIfAbsentKeepsTheFirstValue() {
+        WeakIdentityMap<Object, String> map = new WeakIdentityMap<>();
+        Object key = new Object();
+
+        assertNull(map.putIfAbsent(key, "first"));
+        assertEquals("first", map.putIfAbsent(key, "second"));
+        assertEquals("first", map.get(key));
+    }
+
+    @Test
+    void keyWhoseEqualsAndHashCodeThrowIsStillUsable() {
+        WeakIdentityMap<Object, String> map = new WeakIdentityMap<>();
+        Object key = new Object() {
+            @Override
+            public boolean equals(Object obj) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int hashCode() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        map.put(key, "value");
+
+        assertEquals("value", map.get(key));
+        assertEquals("value", map.remove(key));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void clearRemovesAllEntries() {
+        WeakIdentityMap<Object, String> map = new WeakIdentityMap<>();
+        map.put(new Object(), "a");
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+    }
+}
@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.VarHandle;
 import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -374,4 +376,67 @@ final class DeencapsulationTest {
 
         assertEquals("static-byName", result);
     }
+
+    @Test
+    void getHandleForInstanceFieldAndUseItRepeatedly() {
+        VarHandle intField = Deencapsulation.getFieldHandle(Subclass.class, "intField");
+
+        for (int i = 0; i < 3; i++) {
+            intField.set(anInstance, i);
+            assertEquals(i, (int) intField.get(anInstance));
+        }
+
+        assertEquals(2, anInstance.getIntField());
+        assertSame(intField, Deencapsulation.getFieldHandle(Subclass.class, "intField"));
+    }
+
+    @Test
+    void getHandleForStaticField() {
+        VarHandle buffer = Deencapsulation.getFieldHandle(Subclass.class, "buffer");
+        StringBuilder value = new StringBuilder();
+
+        buffer.set(value);
+
+        assertSame(value, Subclass.getBuffer());
+    }
+
+    @Test
+    void getHandleForInheritedInstanceField() {
+        anInstance.baseString = "base";
+
+        VarHandle baseString = Deencapsulation.getFieldHandle(Subclass.class, "baseString");
+
+        assertEquals("base", (String) baseString.get((BaseClass) anInstance));
+    }
+
+    @Test
+    public void attemptToGetHandleForFieldWithWrongName() {
+        assertThrows(IllegalArgumentException.class, () -> Deencapsulation.getFieldHandle(Subclass.class, "noField"));
+    }
+
+    @Test
+    void getHandleForInstanceMethodAndInvokeIt() throws Throwable {
+        MethodHandle privateMethod = Deencapsulation.getMethodHandle(Subclass.class, "privateMethod", int.class);
+
+        String result = (String) privateMethod.invokeExact(anInstance, 5);
+
+        assertEquals("result-5", result);
+    }
+
+    @Test
+    void getHandleForStaticMethodAndInvokeIt() throws Throwable {
+        MethodHandle privateStaticMethod = Deencapsulation.getMethodHandle(Subclass.class, "privateStaticMethod",
+                String.class);
+
+        String result = (String) privateStaticMethod.invokeExact("handle");
+
+        assertEquals("static-handle", result);
+    }
+
+    @Test
+    public void attemptToGetHandleForMethodWithWrongParameterTypes() {
+        Throwable throwable = assertThrows(IllegalArgumentException.class,
+                () -> Deencapsulation.getMethodHandle(Subclass.class, "privateMethod", String.class));
+        assertEquals("Specified method not found: privateMethod(String)", throwable.getMessage());
+    }
 }